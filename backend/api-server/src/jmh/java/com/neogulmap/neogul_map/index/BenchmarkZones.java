@@ -0,0 +1,55 @@
+package com.neogulmap.neogul_map.index;
+
+import com.neogulmap.neogul_map.dto.ZonePoint;
+import com.neogulmap.neogul_map.repository.ZoneRepository;
+import com.neogulmap.neogul_map.util.GeoUtil;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크용 Zone 좌표 생성과 DB 없는 ZoneRepository
+ */
+final class BenchmarkZones {
+
+    // 서울시청 - 생성 영역의 중심
+    static final double CENTER_LATITUDE = 37.5665;
+    static final double CENTER_LONGITUDE = 126.9780;
+
+    private BenchmarkZones() {
+    }
+
+    /**
+     * 중심 주변 정사각형 영역에 균일하게 흩은 좌표 (같은 seed면 같은 좌표)
+     *
+     * @param sideMeters 정사각형 한 변 길이 (미터)
+     */
+    static List<ZonePoint> points(int count, double sideMeters, long seed) {
+        Random random = new Random(seed);
+        double latitudeSpan = GeoUtil.latitudeDelta(sideMeters / 2);
+        double longitudeSpan = GeoUtil.longitudeDelta(CENTER_LATITUDE, sideMeters / 2);
+        List<ZonePoint> points = new ArrayList<>(count);
+        for (int id = 1; id <= count; id++) {
+            double latitude = CENTER_LATITUDE + (random.nextDouble() * 2 - 1) * latitudeSpan;
+            double longitude = CENTER_LONGITUDE + (random.nextDouble() * 2 - 1) * longitudeSpan;
+            points.add(new ZonePoint(id, BigDecimal.valueOf(latitude), BigDecimal.valueOf(longitude)));
+        }
+        return points;
+    }
+
+    /**
+     * findAllPoints()만 응답하는 ZoneRepository (인덱스 rebuild용)
+     */
+    static ZoneRepository repository(List<ZonePoint> points) {
+        return (ZoneRepository) Proxy.newProxyInstance(ZoneRepository.class.getClassLoader(),
+                new Class<?>[]{ZoneRepository.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("findAllPoints")) {
+                        return points;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,98 @@
+package com.neogulmap.neogul_map.index;
+
+import com.neogulmap.neogul_map.config.RadiusLevel;
+import com.neogulmap.neogul_map.domain.Zone;
+import com.neogulmap.neogul_map.dto.ZonePoint;
+import com.neogulmap.neogul_map.util.GeoUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 넓은 반경(RadiusLevel.LEVEL_15, 152km) 후보 판정 - 기존 stream filter와 컬럼 배열 스칼라/SIMD 커널 비교
+ *
+ * streamFilter는 기존 searchZonesByRadius의 필터(Zone 엔티티의 BigDecimal 좌표 변환 + Haversine)를,
+ * scalarKernel/vectorKernel은 같은 후보를 컬럼 배열(int[], double[])로 판정한다.
+ * 후보는 검색 중심 주변 400km 정사각형에 흩어 약 절반이 반경 안에 들도록 한다.
+ *
+ * 실행: gradle jmh -PjmhInclude=DistanceKernelBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DistanceKernelBenchmark {
+
+    private static final double SIDE_METERS = 400_000.0;
+
+    @Param({"10000", "100000", "1000000"})
+    public int candidateCount;
+
+    private final double radiusMeters = RadiusLevel.LEVEL_15.getRadiusMeters();
+
+    private List<Zone> zones;
+    private int[] ids;
+    private double[] latitudes;
+    private double[] longitudes;
+    private RadiusQuery query;
+    private DistanceKernel scalar;
+    private DistanceKernel vector;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<ZonePoint> points = BenchmarkZones.points(candidateCount, SIDE_METERS, 42L);
+        zones = new ArrayList<>(points.size());
+        ids = new int[points.size()];
+        latitudes = new double[points.size()];
+        longitudes = new double[points.size()];
+        for (int i = 0; i < points.size(); i++) {
+            ZonePoint point = points.get(i);
+            zones.add(Zone.builder()
+                    .id(point.id())
+                    .latitude(point.latitude())
+                    .longitude(point.longitude())
+                    .build());
+            ids[i] = point.id();
+            latitudes[i] = point.latitude().doubleValue();
+            longitudes[i] = point.longitude().doubleValue();
+        }
+        query = RadiusQuery.of(BenchmarkZones.CENTER_LATITUDE, BenchmarkZones.CENTER_LONGITUDE, radiusMeters);
+        scalar = new ScalarDistanceKernel();
+        vector = DistanceKernel.create();
+        if (!(vector instanceof VectorDistanceKernel)) {
+            throw new IllegalStateException("Vector API 커널을 쓸 수 없습니다 - --add-modules jdk.incubator.vector 필요");
+        }
+    }
+
+    @Benchmark
+    public List<Integer> streamFilter() {
+        return zones.stream()
+                .filter(zone -> GeoUtil.distanceMeters(query.latitude(), query.longitude(),
+                        zone.getLatitude().doubleValue(), zone.getLongitude().doubleValue()) <= radiusMeters)
+                .map(Zone::getId)
+                .toList();
+    }
+
+    @Benchmark
+    public List<Integer> scalarKernel() {
+        List<Integer> out = new ArrayList<>();
+        scalar.collect(query, ids, latitudes, longitudes, ids.length, out);
+        return out;
+    }
+
+    @Benchmark
+    public List<Integer> vectorKernel() {
+        List<Integer> out = new ArrayList<>();
+        vector.collect(query, ids, latitudes, longitudes, ids.length, out);
+        return out;
+    }
+}
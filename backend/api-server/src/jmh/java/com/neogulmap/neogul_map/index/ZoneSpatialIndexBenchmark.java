@@ -0,0 +1,88 @@
+package com.neogulmap.neogul_map.index;
+
+import com.neogulmap.neogul_map.dto.ZonePoint;
+import com.neogulmap.neogul_map.util.GeoUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 반경 검색 지연 시간 - Zone 수(1천 ~ 100만)에 따른 공간 인덱스와 전체 스캔 비교
+ *
+ * Zone 밀도(km²당 ZONES_PER_KM2개)를 고정하고 영역을 넓혀 가므로 반경 안 결과 수는 일정하고 테이블 크기만 커진다.
+ * 인덱스는 덮는 셀만 보므로 지연 시간이 거의 일정해야 하고, 전체 스캔(기존 findAll + Haversine에서 DB 조회를 뺀 부분)은
+ * Zone 수에 비례한다.
+ *
+ * 실행: gradle jmh -PjmhInclude=ZoneSpatialIndexBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ZoneSpatialIndexBenchmark {
+
+    private static final double ZONES_PER_KM2 = 10.0;
+    private static final int QUERY_COUNT = 1024;
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int zoneCount;
+
+    // 기본 줌 레벨 반경 (RadiusLevel.LEVEL_8)
+    @Param({"1000"})
+    public double radiusMeters;
+
+    private ZoneSpatialIndex index;
+    private List<ZonePoint> points;
+    private double[][] centers;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        double sideMeters = Math.sqrt(zoneCount / ZONES_PER_KM2) * 1000.0;
+        points = BenchmarkZones.points(zoneCount, sideMeters, 42L);
+        index = new ZoneSpatialIndex(BenchmarkZones.repository(points));
+        index.rebuild();
+
+        // 검색 중심은 Zone 좌표 중에서 골라 항상 결과가 있는 영역을 조회
+        Random random = new Random(7L);
+        centers = new double[QUERY_COUNT][];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            ZonePoint point = points.get(random.nextInt(points.size()));
+            centers[i] = new double[]{point.latitude().doubleValue(), point.longitude().doubleValue()};
+        }
+    }
+
+    @Benchmark
+    public List<Integer> spatialIndex() {
+        double[] center = nextCenter();
+        return index.findWithinRadius(center[0], center[1], radiusMeters);
+    }
+
+    @Benchmark
+    public List<Integer> fullScan() {
+        double[] center = nextCenter();
+        List<Integer> result = new ArrayList<>();
+        for (ZonePoint point : points) {
+            if (GeoUtil.distanceMeters(center[0], center[1],
+                    point.latitude().doubleValue(), point.longitude().doubleValue()) <= radiusMeters) {
+                result.add(point.id());
+            }
+        }
+        return result;
+    }
+
+    private double[] nextCenter() {
+        next = (next + 1) & (QUERY_COUNT - 1);
+        return centers[next];
+    }
+}
@@ -0,0 +1,180 @@
+package com.neogulmap.neogul_map.repository;
+
+import com.neogulmap.neogul_map.domain.Zone;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.h2.tools.Server;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+/**
+ * Zone 일괄 INSERT 처리량 (행/초) - ID 할당 방식과 JDBC 배치 크기 비교
+ *
+ * tableIdBatched: 현재 매핑 (id_generator pooled-lo + hibernate.jdbc.batch_size=50)
+ * tableIdUnbatched: 같은 매핑에 batch_size=1 - 배치만 끈 경우
+ * identity: 이전 매핑 (@GeneratedValue IDENTITY, batch_size=50) - 생성 키를 읽으려고 행마다 INSERT를 바로 실행해 배치가 꺼짐
+ *
+ * 매 호출마다 ROWS개를 한 트랜잭션에서 INSERT 하고 롤백한다.
+ * 문장 왕복 비용은 H2 TCP 서버(루프백)로, H2 자체 비용만은 인메모리 접속으로 본다.
+ *
+ * 실행: gradle jmh -PjmhInclude=ZoneInsertBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(ZoneInsertBenchmark.ROWS)
+public class ZoneInsertBenchmark {
+
+    static final int ROWS = 1_000;
+
+    private static final String DATABASE = "mem:zone-insert-benchmark;DB_CLOSE_DELAY=-1";
+
+    @Param({"tcp", "mem"})
+    public String transport;
+
+    private Server server;
+    private String url;
+    private SessionFactory batched;
+    private SessionFactory unbatched;
+    private SessionFactory identity;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        if (transport.equals("tcp")) {
+            server = Server.createTcpServer("-tcpPort", "0", "-ifNotExists").start();
+            url = "jdbc:h2:tcp://localhost:" + server.getPort() + "/" + DATABASE;
+        } else {
+            url = "jdbc:h2:" + DATABASE;
+        }
+
+        try (Connection connection = DriverManager.getConnection(url, "sa", "");
+             Statement statement = connection.createStatement()) {
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("schema.sql"));
+            statement.execute("INSERT INTO id_generator (sequence_name, next_val) VALUES ('zone', 1)");
+        }
+        batched = sessionFactory(Zone.class, 50);
+        unbatched = sessionFactory(Zone.class, 1);
+        identity = sessionFactory(IdentityZone.class, 50);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        batched.close();
+        unbatched.close();
+        identity.close();
+        if (server != null) {
+            server.stop();
+        }
+    }
+
+    @Benchmark
+    public void tableIdBatched() {
+        persist(batched, ZoneInsertBenchmark::zone);
+    }
+
+    @Benchmark
+    public void tableIdUnbatched() {
+        persist(unbatched, ZoneInsertBenchmark::zone);
+    }
+
+    @Benchmark
+    public void identity() {
+        persist(identity, i -> new IdentityZone("벤치마크", "흡연구역", BigDecimal.valueOf(37.5),
+                BigDecimal.valueOf(127.0), LocalDate.now(), "benchmark-" + i));
+    }
+
+    private void persist(SessionFactory sessionFactory, IntFunction<Object> entity) {
+        try (Session session = sessionFactory.openSession()) {
+            Transaction transaction = session.beginTransaction();
+            for (int i = 0; i < ROWS; i++) {
+                session.persist(entity.apply(i));
+            }
+            session.flush();
+            transaction.rollback();
+        }
+    }
+
+    private static Zone zone(int i) {
+        return Zone.builder()
+                .region("벤치마크")
+                .type("흡연구역")
+                .latitude(BigDecimal.valueOf(37.5))
+                .longitude(BigDecimal.valueOf(127.0))
+                .date(LocalDate.now())
+                .address("benchmark-" + i)
+                .build();
+    }
+
+    // application.yml의 JPA 설정과 같은 INSERT 경로 (엔티티와 batch_size만 다름)
+    private SessionFactory sessionFactory(Class<?> entity, int batchSize) {
+        return new Configuration()
+                .addAnnotatedClass(entity)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL, url)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+                .setProperty(AvailableSettings.JAKARTA_JDBC_PASSWORD, "")
+                .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, String.valueOf(batchSize))
+                .setProperty(AvailableSettings.ORDER_INSERTS, "true")
+                .setProperty(AvailableSettings.PREFERRED_POOLED_OPTIMIZER, "pooled-lo")
+                .buildSessionFactory();
+    }
+
+    /**
+     * IDENTITY 비교용 Zone 매핑 (같은 zone 테이블, INSERT에 쓰는 컬럼만)
+     */
+    @Entity
+    @Table(name = "zone")
+    static class IdentityZone {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Integer id;
+
+        private String region;
+        private String type;
+        private BigDecimal latitude;
+        private BigDecimal longitude;
+        private LocalDate date;
+        private String address;
+
+        protected IdentityZone() {
+        }
+
+        IdentityZone(String region, String type, BigDecimal latitude, BigDecimal longitude, LocalDate date,
+                     String address) {
+            this.region = region;
+            this.type = type;
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.date = date;
+            this.address = address;
+        }
+    }
+}
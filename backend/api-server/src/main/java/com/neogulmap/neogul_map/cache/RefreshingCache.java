@@ -0,0 +1,196 @@
+package com.neogulmap.neogul_map.cache;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 크기 제한 LRU + 시간 만료 read-through 캐시
+ *
+ * 값은 적재 후 refreshAfter가 지나면 그대로 반환하면서 백그라운드에서 한 번만 다시 읽고(stale-while-revalidate),
+ * expireAfter가 지나면 버리고 호출한 스레드에서 다시 읽는다. 같은 키를 동시에 읽는 요청은
+ * 진행 중인 적재 하나를 함께 기다리므로 인기 키가 만료되어도 DB 조회가 몰리지 않는다.
+ *
+ * 무효화는 진행 중인 적재도 함께 버려 무효화 이전에 읽은 값이 캐시에 들어가지 않도록 한다.
+ */
+@Slf4j
+public class RefreshingCache<K, V> {
+
+    private final String name;
+    private final int maxEntries;
+    private final long refreshAfterNanos;
+    private final long expireAfterNanos;
+    private final Executor refreshExecutor;
+
+    // 접근 순서 LinkedHashMap - 가장 오래 안 쓴 항목부터 제거 (this로 동기화)
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    // 진행 중인 적재 (키별 하나)
+    private final Map<K, CompletableFuture<V>> loading = new HashMap<>();
+
+    private long hits = 0;
+    private long staleHits = 0;
+    private long misses = 0;
+    private long loads = 0;
+    private long loadFailures = 0;
+    private long evictions = 0;
+    private long expirations = 0;
+    private long invalidations = 0;
+
+    public RefreshingCache(String name, int maxEntries, long refreshAfterSeconds, long expireAfterSeconds,
+                           Executor refreshExecutor) {
+        this.name = name;
+        this.maxEntries = maxEntries;
+        this.refreshAfterNanos = TimeUnit.SECONDS.toNanos(refreshAfterSeconds);
+        this.expireAfterNanos = TimeUnit.SECONDS.toNanos(expireAfterSeconds);
+        this.refreshExecutor = refreshExecutor;
+        this.entries = new LinkedHashMap<>(Math.min(maxEntries, 1024), 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > RefreshingCache.this.maxEntries) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * 캐시된 값 조회, 없거나 만료되었으면 loader로 적재 후 캐시
+     * loader 예외는 캐시하지 않고 그대로 전달
+     */
+    public V get(K key, Supplier<V> loader) {
+        CompletableFuture<V> future;
+        boolean owner = false;
+        synchronized (this) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null) {
+                long age = System.nanoTime() - entry.loadedAt();
+                if (age < expireAfterNanos) {
+                    if (age >= refreshAfterNanos && !loading.containsKey(key)) {
+                        staleHits++;
+                        CompletableFuture<V> refresh = new CompletableFuture<>();
+                        loading.put(key, refresh);
+                        refreshExecutor.execute(() -> refresh(key, loader, refresh));
+                    } else {
+                        hits++;
+                    }
+                    return entry.value();
+                }
+                entries.remove(key);
+                expirations++;
+            }
+            misses++;
+            future = loading.get(key);
+            if (future == null) {
+                future = new CompletableFuture<>();
+                loading.put(key, future);
+                owner = true;
+            }
+        }
+
+        if (owner) {
+            return load(key, loader, future);
+        }
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 키 하나 무효화 (진행 중인 적재 결과도 캐시하지 않음)
+     */
+    public synchronized void invalidate(K key) {
+        boolean removed = entries.remove(key) != null;
+        removed |= loading.remove(key) != null;
+        if (removed) {
+            invalidations++;
+        }
+    }
+
+    /**
+     * 전체 무효화
+     */
+    public synchronized void invalidateAll() {
+        invalidations += entries.size() + loading.size();
+        entries.clear();
+        loading.clear();
+    }
+
+    public synchronized Stats stats() {
+        long requests = hits + staleHits + misses;
+        double hitRate = requests == 0 ? 0.0 : (double) (hits + staleHits) / requests;
+        return new Stats(name, entries.size(), maxEntries, hits, staleHits, misses, hitRate, loads, loadFailures,
+                evictions, expirations, invalidations);
+    }
+
+    private V load(K key, Supplier<V> loader, CompletableFuture<V> future) {
+        V value;
+        try {
+            value = loader.get();
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                loading.remove(key, future);
+                loadFailures++;
+            }
+            future.completeExceptionally(e);
+            throw e;
+        }
+        synchronized (this) {
+            loads++;
+            if (loading.remove(key, future)) {
+                entries.put(key, new Entry<>(value, System.nanoTime()));
+            }
+        }
+        future.complete(value);
+        return value;
+    }
+
+    // 백그라운드 갱신 - 실패하면 기존 값을 유지하고 다음 조회 때 다시 시도
+    private void refresh(K key, Supplier<V> loader, CompletableFuture<V> future) {
+        try {
+            load(key, loader, future);
+        } catch (RuntimeException e) {
+            log.warn("캐시 백그라운드 갱신 실패 - {} ({}): {}", name, key, e.getMessage());
+        }
+    }
+
+    private record Entry<V>(V value, long loadedAt) {
+    }
+
+    /**
+     * 캐시 통계
+     *
+     * @param staleHits 만료 전이지만 갱신 시점이 지나 기존 값을 반환하고 백그라운드 갱신을 시작한 조회 수
+     * @param hitRate (hits + staleHits) / 전체 조회 수
+     * @param loads 적재 성공 수 (조회 실패 시 적재 + 백그라운드 갱신)
+     */
+    public record Stats(
+        String name,
+        int size,
+        int maxSize,
+        long hits,
+        long staleHits,
+        long misses,
+        double hitRate,
+        long loads,
+        long loadFailures,
+        long evictions,
+        long expirations,
+        long invalidations
+    ) {
+    }
+}
@@ -0,0 +1,77 @@
+package com.neogulmap.neogul_map.cache;
+
+import com.neogulmap.neogul_map.dto.ZoneResponse;
+import com.neogulmap.neogul_map.event.ZoneChangedEvent;
+import com.neogulmap.neogul_map.event.ZonesImportedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * Zone 단건 read-through 캐시
+ * 커밋된 Zone 변경 시 해당 Zone만 무효화 (전체 목록 응답은 ZoneListSnapshot이 담당)
+ */
+@Slf4j
+@Component
+public class ZoneCache {
+
+    // 백그라운드 갱신 전용 스레드 (요청 스레드와 공용 풀을 막지 않도록 분리)
+    private final ExecutorService refreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "zone-cache-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final RefreshingCache<Integer, ZoneResponse> zones;
+
+    public ZoneCache(@Value("${app.zone.cache.max-size:10000}") int maxSize,
+                     @Value("${app.zone.cache.refresh-after-seconds:60}") long refreshAfterSeconds,
+                     @Value("${app.zone.cache.expire-after-seconds:600}") long expireAfterSeconds) {
+        this.zones = new RefreshingCache<>("zone", maxSize, refreshAfterSeconds, expireAfterSeconds, refreshExecutor);
+    }
+
+    public ZoneResponse getZone(Integer zoneId, Supplier<ZoneResponse> loader) {
+        return zones.get(zoneId, loader);
+    }
+
+    /**
+     * 커밋된 Zone 변경 반영 - 변경된 Zone 단건 무효화 (인메모리 인덱스 갱신 이후 실행)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onZoneChanged(ZoneChangedEvent event) {
+        zones.invalidate(event.getZoneId());
+    }
+
+    /**
+     * 일괄 가져오기 반영 - 전체 무효화 (인메모리 인덱스 재구성 이후 실행)
+     */
+    @EventListener
+    public void onZonesImported(ZonesImportedEvent event) {
+        clear();
+    }
+
+    /**
+     * 전체 무효화
+     */
+    public void clear() {
+        zones.invalidateAll();
+    }
+
+    public List<RefreshingCache.Stats> stats() {
+        return List.of(zones.stats());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,237 @@
+package com.neogulmap.neogul_map.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.neogulmap.neogul_map.config.exceptionHandling.ErrorCode;
+import com.neogulmap.neogul_map.config.exceptionHandling.exception.SystemException;
+import com.neogulmap.neogul_map.dto.ZoneSummary;
+import com.neogulmap.neogul_map.event.ZoneChangedEvent;
+import com.neogulmap.neogul_map.event.ZonesImportedEvent;
+import com.neogulmap.neogul_map.repository.ZoneRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * GET /zones 응답 스냅샷 (직렬화된 JSON + gzip)
+ *
+ * 전체 목록 응답을 바이트 배열로 미리 만들어 두고 Zone이 바뀔 때만 백그라운드에서 다시 만든다.
+ * 변경 직후의 요청은 진행 중인 재구성을 기다리므로 커밋된 변경이 응답에서 빠지지 않는다.
+ * 변경이 연달아 들어오면 재구성 한 번으로 합친다.
+ * Zone 캐시(ZoneCache)의 전체 목록 캐시 역할을 하며, 통계와 무효화는 캐시 관리 API에 함께 노출된다.
+ */
+@Slf4j
+@Component
+public class ZoneListSnapshot {
+
+    private final ZoneRepository zoneRepository;
+    private final ObjectMapper objectMapper;
+
+    // 재구성 전용 스레드 (재구성은 한 번에 하나만)
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "zone-list-snapshot");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Object lock = new Object();
+
+    // 마지막으로 만든 스냅샷과 Zone 변경 횟수 (lock으로 보호)
+    private Snapshot snapshot = null;
+    private long changeVersion = 0;
+    private CompletableFuture<Snapshot> pending = null;
+
+    // 통계 (lock으로 보호) - 적중: 최신 스냅샷 반환, 실패: 재구성 대기
+    private long hits = 0;
+    private long misses = 0;
+    private long loads = 0;
+    private long loadFailures = 0;
+    private long invalidations = 0;
+
+    public ZoneListSnapshot(ZoneRepository zoneRepository, ObjectMapper objectMapper) {
+        this.zoneRepository = zoneRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 현재 스냅샷 (Zone 변경 이후라면 재구성 완료까지 대기)
+     */
+    public Snapshot get() {
+        CompletableFuture<Snapshot> future;
+        synchronized (lock) {
+            if (snapshot != null && snapshot.version() == changeVersion) {
+                hits++;
+                return snapshot;
+            }
+            misses++;
+            future = scheduleRebuild();
+        }
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw new SystemException(ErrorCode.DATABASE_ERROR, e.getCause());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        synchronized (lock) {
+            scheduleRebuild();
+        }
+    }
+
+    /**
+     * 커밋된 Zone 변경 시 백그라운드 재구성 시작
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onZoneChanged(ZoneChangedEvent event) {
+        invalidate();
+    }
+
+    /**
+     * 일괄 가져오기 완료 시 백그라운드 재구성 시작
+     */
+    @EventListener
+    public void onZonesImported(ZonesImportedEvent event) {
+        invalidate();
+    }
+
+    /**
+     * 스냅샷 무효화 후 백그라운드 재구성 (DB를 직접 수정한 경우 등)
+     */
+    public void invalidate() {
+        synchronized (lock) {
+            changeVersion++;
+            invalidations++;
+            scheduleRebuild();
+        }
+    }
+
+    /**
+     * 캐시 통계 (Zone 캐시와 같은 형식, 항목은 스냅샷 하나)
+     */
+    public RefreshingCache.Stats stats() {
+        synchronized (lock) {
+            long requests = hits + misses;
+            return new RefreshingCache.Stats("zone-list", snapshot == null ? 0 : 1, 1, hits, 0, misses,
+                    requests == 0 ? 0.0 : (double) hits / requests, loads, loadFailures, 0, 0, invalidations);
+        }
+    }
+
+    // lock 안에서 호출 - 이미 진행 중인 재구성이 있으면 그 결과를 함께 사용
+    private CompletableFuture<Snapshot> scheduleRebuild() {
+        if (pending == null) {
+            CompletableFuture<Snapshot> future = CompletableFuture.supplyAsync(this::rebuild, rebuildExecutor);
+            future.whenComplete((result, error) -> {
+                if (error != null) {
+                    log.error("Zone 목록 스냅샷 생성 실패: {}", error.getMessage(), error);
+                    synchronized (lock) {
+                        loadFailures++;
+                        if (pending == future) {
+                            pending = null;
+                        }
+                    }
+                }
+            });
+            pending = future;
+        }
+        return pending;
+    }
+
+    // 재구성 중 변경이 들어오면 최신 변경까지 반영될 때까지 다시 만듦
+    private Snapshot rebuild() {
+        while (true) {
+            long version;
+            synchronized (lock) {
+                version = changeVersion;
+            }
+            Snapshot built = build(version);
+            synchronized (lock) {
+                loads++;
+                if (version == changeVersion) {
+                    snapshot = built;
+                    pending = null;
+                    return built;
+                }
+            }
+        }
+    }
+
+    private Snapshot build(long version) {
+        long start = System.currentTimeMillis();
+        // 목록 응답은 요약 프로젝션 (description CLOB을 읽지 않음)
+        List<ZoneSummary> zones = zoneRepository.findAllSummaries();
+
+        // ETag가 실행마다 같도록 필드 순서를 고정 (Map.of는 순서가 JVM마다 다름)
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("zones", zones);
+        data.put("count", zones.size());
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("success", true);
+        body.put("message", "모든 흡연구역 조회 성공");
+        body.put("data", data);
+
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+        byte[] gzip = gzip(json);
+        String hash = DigestUtils.md5DigestAsHex(json);
+
+        log.info("Zone 목록 스냅샷 생성 - Zone {}개, JSON {}B, gzip {}B, {}ms",
+                zones.size(), json.length, gzip.length, System.currentTimeMillis() - start);
+        return new Snapshot(version, json, gzip, "\"" + hash + "\"", "\"" + hash + "-gzip\"");
+    }
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(data.length / 4 + 64);
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    /**
+     * 직렬화된 응답 스냅샷 (불변)
+     *
+     * @param version 반영된 Zone 변경 횟수
+     * @param json 응답 본문 (UTF-8 JSON)
+     * @param gzip json의 gzip 압축본
+     * @param etag json의 강한 ETag (따옴표 포함)
+     * @param gzipEtag gzip 표현의 강한 ETag (표현마다 바이트가 다르므로 구분)
+     */
+    public record Snapshot(
+        long version,
+        byte[] json,
+        byte[] gzip,
+        String etag,
+        String gzipEtag
+    ) {
+    }
+}
@@ -0,0 +1,118 @@
+package com.neogulmap.neogul_map.cache;
+
+import com.neogulmap.neogul_map.domain.Zone;
+import com.neogulmap.neogul_map.dto.ZoneTile;
+import com.neogulmap.neogul_map.event.ZoneChangedEvent;
+import com.neogulmap.neogul_map.event.ZonesImportedEvent;
+import com.neogulmap.neogul_map.util.GeoUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Zone 타일 캐시 (크기 제한 LRU)
+ * Zone 변경 시 변경 전/후 위치가 속한 타일만 무효화
+ */
+@Slf4j
+@Component
+public class ZoneTileCache {
+
+    public static final int MIN_ZOOM = 0;
+    public static final int MAX_ZOOM = 22;
+
+    private final Map<Long, ZoneTile> tiles;
+
+    // 무효화 횟수 - 타일 생성 중 무효화가 일어나면 오래된 결과를 캐시에 넣지 않기 위해 사용
+    private long invalidations = 0;
+
+    public ZoneTileCache(@Value("${app.zone.tile.cache-size:4096}") int maxEntries) {
+        this.tiles = new LinkedHashMap<>(Math.min(maxEntries, 1024), 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, ZoneTile> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * 캐시된 타일 조회, 없으면 생성 후 캐시
+     * 생성은 락 밖에서 수행해 다른 타일 조회를 막지 않음
+     */
+    public ZoneTile get(int z, int x, int y, Supplier<ZoneTile> loader) {
+        long key = key(z, x, y);
+        long observed;
+        synchronized (this) {
+            ZoneTile cached = tiles.get(key);
+            if (cached != null) {
+                return cached;
+            }
+            observed = invalidations;
+        }
+
+        ZoneTile tile = loader.get();
+
+        synchronized (this) {
+            if (observed == invalidations) {
+                tiles.put(key, tile);
+            }
+        }
+        return tile;
+    }
+
+    /**
+     * 커밋된 Zone 변경이 닿는 타일만 무효화 (인메모리 인덱스 갱신 이후 실행)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onZoneChanged(ZoneChangedEvent event) {
+        synchronized (this) {
+            invalidations++;
+            if (event.getPrevious() != null) {
+                evictTilesContaining(event.getPrevious());
+            }
+            if (event.getCurrent() != null) {
+                evictTilesContaining(event.getCurrent());
+            }
+        }
+    }
+
+    /**
+     * 일괄 가져오기 반영 - 전체 무효화
+     */
+    @EventListener
+    public void onZonesImported(ZonesImportedEvent event) {
+        clear();
+    }
+
+    /**
+     * 전체 무효화
+     */
+    public synchronized void clear() {
+        invalidations++;
+        tiles.clear();
+    }
+
+    public synchronized int size() {
+        return tiles.size();
+    }
+
+    private void evictTilesContaining(Zone zone) {
+        double latitude = zone.getLatitude().doubleValue();
+        double longitude = zone.getLongitude().doubleValue();
+        for (int z = MIN_ZOOM; z <= MAX_ZOOM; z++) {
+            int x = (int) Math.floor(GeoUtil.tileX(longitude, z));
+            int y = (int) Math.floor(GeoUtil.tileY(latitude, z));
+            tiles.remove(key(z, x, y));
+        }
+    }
+
+    private static long key(int z, int x, int y) {
+        return ((long) z << 58) | ((long) x << 29) | y;
+    }
+}
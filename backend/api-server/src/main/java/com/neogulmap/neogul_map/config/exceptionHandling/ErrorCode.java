@@ -36,6 +36,7 @@ public enum ErrorCode {
     SEARCH_PARAMETER_INVALID(HttpStatus.BAD_REQUEST, "S004", "검색 파라미터가 올바르지 않습니다."),
     SEARCH_NO_RESULTS(HttpStatus.NOT_FOUND, "S005", "검색 결과가 없습니다."),
     SEARCH_DATABASE_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "S006", "검색 중 데이터베이스 오류가 발생했습니다."),
+    SEARCH_INDEX_NOT_READY(HttpStatus.SERVICE_UNAVAILABLE, "S007", "검색 인덱스를 구성 중입니다. 잠시 후 다시 시도해주세요."),
     
     // Location & Zoom
     LOCATION_COORDINATES_INVALID(HttpStatus.BAD_REQUEST, "L001", "위치 좌표가 올바르지 않습니다."),
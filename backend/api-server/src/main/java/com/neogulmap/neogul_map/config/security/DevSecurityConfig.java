@@ -65,7 +65,9 @@ public class DevSecurityConfig {
             "X-Total-Count",
             "X-Page-Number", 
             "X-Page-Size",
-            "X-Request-ID"
+            "X-Request-ID",
+            "X-Query-Plan",
+            "ETag"
         ));
         
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
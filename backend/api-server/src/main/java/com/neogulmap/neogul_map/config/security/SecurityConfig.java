@@ -165,7 +165,9 @@ public class SecurityConfig {
             "Authorization", 
             "X-Total-Count",
             "X-Page-Number",
-            "X-Page-Size"
+            "X-Page-Size",
+            "X-Query-Plan",
+            "ETag"
         ));
         
         // Preflight 요청 캐시 시간 설정
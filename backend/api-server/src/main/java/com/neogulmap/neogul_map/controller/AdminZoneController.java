@@ -0,0 +1,90 @@
+package com.neogulmap.neogul_map.controller;
+
+import com.neogulmap.neogul_map.cache.RefreshingCache;
+import com.neogulmap.neogul_map.cache.ZoneCache;
+import com.neogulmap.neogul_map.cache.ZoneListSnapshot;
+import com.neogulmap.neogul_map.config.exceptionHandling.ErrorCode;
+import com.neogulmap.neogul_map.config.exceptionHandling.exception.ValidationException;
+import com.neogulmap.neogul_map.dto.ZoneImportResult;
+import com.neogulmap.neogul_map.importer.ZoneImportFormat;
+import com.neogulmap.neogul_map.service.ZoneImportService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Zone 운영 관리 API (ADMIN 권한)
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/admin/zones")
+public class AdminZoneController {
+
+    private final ZoneCache zoneCache;
+    private final ZoneListSnapshot zoneListSnapshot;
+    private final ZoneImportService zoneImportService;
+
+    // Zone 일괄 가져오기 (요청 본문을 스트리밍으로 읽음 - multipart 크기 제한 없음)
+    // 형식은 format 파라미터(csv, ndjson, geojson) 또는 Content-Type(text/csv, application/x-ndjson, application/geo+json)
+    @PostMapping("/import")
+    public ResponseEntity<?> importZones(
+            @RequestParam(value = "format", required = false) String format,
+            @RequestParam(value = "charset", defaultValue = "UTF-8") String charset,
+            @RequestParam(value = "batchSize", required = false) Integer batchSize,
+            HttpServletRequest request) throws IOException {
+        ZoneImportFormat importFormat = ZoneImportFormat.resolve(format, request.getContentType());
+        Charset inputCharset;
+        try {
+            inputCharset = Charset.forName(charset);
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException(ErrorCode.INVALID_FORMAT, "지원하지 않는 문자 인코딩입니다: " + charset);
+        }
+
+        ZoneImportResult result;
+        try (InputStream in = request.getInputStream()) {
+            result = zoneImportService.importZones(in, importFormat, inputCharset, batchSize);
+        }
+        return ResponseEntity.ok(Map.of(
+            "success", true,
+            "message", String.format("Zone 가져오기 완료 (저장 %d개, 중복 %d개, 오류 %d개)",
+                    result.imported(), result.duplicates(), result.failed()),
+            "data", result
+        ));
+    }
+
+    // Zone 캐시 통계 (적중/실패/제거/무효화 수) - 단건 캐시와 전체 목록 스냅샷
+    @GetMapping("/cache/stats")
+    public ResponseEntity<?> getCacheStats() {
+        List<RefreshingCache.Stats> stats = new ArrayList<>(zoneCache.stats());
+        stats.add(zoneListSnapshot.stats());
+        return ResponseEntity.ok(Map.of(
+            "success", true,
+            "message", "Zone 캐시 통계 조회 성공",
+            "data", Map.of(
+                "caches", stats
+            )
+        ));
+    }
+
+    // Zone 캐시 전체 비우기 (DB를 직접 수정한 경우 등)
+    @DeleteMapping("/cache")
+    public ResponseEntity<?> clearCache() {
+        zoneCache.clear();
+        zoneListSnapshot.invalidate();
+        log.info("Zone 캐시 전체 무효화");
+        return ResponseEntity.ok(Map.of(
+            "success", true,
+            "message", "Zone 캐시 무효화 성공"
+        ));
+    }
+}
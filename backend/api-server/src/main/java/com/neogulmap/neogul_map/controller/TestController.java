@@ -7,9 +7,11 @@ import com.neogulmap.neogul_map.service.StorageService;
 import com.neogulmap.neogul_map.domain.User;
 import com.neogulmap.neogul_map.domain.enums.ImageType;
 import com.neogulmap.neogul_map.dto.UserRequest;
+import com.neogulmap.neogul_map.dto.ZoneFields;
 import com.neogulmap.neogul_map.dto.ZoneRequest;
 import com.neogulmap.neogul_map.dto.UserResponse;
 import com.neogulmap.neogul_map.dto.ZoneResponse;
+import com.neogulmap.neogul_map.dto.ZoneSummary;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
@@ -104,8 +106,8 @@ public class TestController {
      */
     @GetMapping("/zones")
     public String getZones(Model model) {
-        // 실제 ZoneService를 호출해서 Zone 목록 조회
-        List<ZoneResponse> zones = zoneService.getAllZones();
+        // 실제 ZoneService를 호출해서 Zone 목록 조회 (화면에 쓰는 필드만 SELECT)
+        List<Map<String, Object>> zones = zoneService.getAllZones(ZoneFields.parse("address,description,image"));
         model.addAttribute("zones", zones);
         model.addAttribute("message", "Zone 목록 조회 성공 (" + zones.size() + "개)");
         return "zone-list";
@@ -169,7 +171,7 @@ public class TestController {
     @GetMapping("/zones/search")
     @ResponseBody
     public ResponseEntity<Map<String, Object>> searchZones(@RequestParam("keyword") String keyword) {
-        List<ZoneResponse> zones = zoneService.searchZones(keyword);
+        List<ZoneSummary> zones = zoneService.searchZones(keyword);
         Map<String, Object> response = Map.of(
             "success", true,
             "message", "Zone 검색 성공",
@@ -251,7 +253,7 @@ public class TestController {
             @RequestParam(value = "radius", defaultValue = "1000") int radius) {
         
         // ZoneService의 반경 검색 메서드 사용
-        List<ZoneResponse> nearbyZones = zoneService.searchZonesByRadius(lat, lon, radius);
+        List<ZoneSummary> nearbyZones = zoneService.searchZonesByRadius(lat, lon, radius);
         
         Map<String, Object> response = Map.of(
             "success", true,
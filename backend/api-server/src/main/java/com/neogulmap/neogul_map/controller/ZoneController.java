@@ -1,8 +1,23 @@
 package com.neogulmap.neogul_map.controller;
 
+import com.neogulmap.neogul_map.cache.ZoneListSnapshot;
+import com.neogulmap.neogul_map.dto.ZoneChanges;
+import com.neogulmap.neogul_map.dto.ZoneCluster;
+import com.neogulmap.neogul_map.dto.ZoneFacetCount;
+import com.neogulmap.neogul_map.dto.ZoneFields;
+import com.neogulmap.neogul_map.dto.ZoneFilter;
+import com.neogulmap.neogul_map.dto.ZoneRankedSummary;
 import com.neogulmap.neogul_map.dto.ZoneRequest;
 import com.neogulmap.neogul_map.dto.ZoneResponse;
+import com.neogulmap.neogul_map.dto.ZoneSearchResult;
+import com.neogulmap.neogul_map.dto.ZoneSlice;
+import com.neogulmap.neogul_map.dto.ZoneSummary;
+import com.neogulmap.neogul_map.dto.ZoneSuggestion;
+import com.neogulmap.neogul_map.dto.ZoneTile;
+import com.neogulmap.neogul_map.service.ZoneSearchService;
 import com.neogulmap.neogul_map.service.ZoneService;
+import com.neogulmap.neogul_map.service.ZoneSyncService;
+import com.neogulmap.neogul_map.service.ZoneTileService;
 import com.neogulmap.neogul_map.service.ImageService;
 import com.neogulmap.neogul_map.domain.enums.ImageType;
 import com.neogulmap.neogul_map.config.exceptionHandling.exception.ProfileImageProcessingException;
@@ -10,20 +25,35 @@ import com.neogulmap.neogul_map.config.exceptionHandling.exception.ProfileImageR
 import com.neogulmap.neogul_map.config.exceptionHandling.exception.ImageUploadException;
 import com.neogulmap.neogul_map.config.exceptionHandling.exception.ValidationException;
 import com.neogulmap.neogul_map.config.exceptionHandling.ErrorCode;
+import com.neogulmap.neogul_map.config.RadiusLevel;
 import com.neogulmap.neogul_map.util.ValidationUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 @Slf4j
 @RestController
@@ -33,6 +63,11 @@ public class ZoneController {
 
     private final ZoneService zoneService;
     private final ImageService imageService;
+    private final ZoneTileService zoneTileService;
+    private final ZoneSearchService zoneSearchService;
+    private final ZoneListSnapshot zoneListSnapshot;
+    private final ZoneSyncService zoneSyncService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     public ResponseEntity<?> createZone(@RequestPart(value = "image", required = false) MultipartFile image,
@@ -73,8 +108,10 @@ public class ZoneController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<?> getZone(@PathVariable("id") Integer id) {
-        ZoneResponse response = zoneService.getZone(id);
+    public ResponseEntity<?> getZone(@PathVariable("id") Integer id,
+                                     @RequestParam(value = "fields", required = false) String fields) {
+        ZoneFields selection = ZoneFields.parse(fields);
+        Object response = selection != null ? zoneService.getZone(id, selection) : zoneService.getZone(id);
         return ResponseEntity.ok(Map.of(
             "success", true,
             "message", "흡연구역 조회 성공",
@@ -82,24 +119,77 @@ public class ZoneController {
         ));
     }
 
+    // 모든 흡연구역 조회 (미리 직렬화한 스냅샷, gzip/ETag 지원) - fields 지정 시 선택 필드만 조회
     @GetMapping
-    public ResponseEntity<?> getAllZones() {
-        List<ZoneResponse> response = zoneService.getAllZones();
-        return ResponseEntity.ok(Map.of(
-            "success", true,
-            "message", "모든 흡연구역 조회 성공",
-            "data", Map.of(
-                "zones", response,
-                "count", response.size()
-            )
-        ));
+    public ResponseEntity<?> getAllZones(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestParam(value = "fields", required = false) String fields,
+            WebRequest webRequest,
+            HttpServletResponse servletResponse) {
+        ZoneFields selection = ZoneFields.parse(fields);
+        if (selection != null) {
+            List<Map<String, Object>> response = zoneService.getAllZones(selection);
+            return ResponseEntity.ok(Map.of(
+                "success", true,
+                "message", "모든 흡연구역 조회 성공",
+                "data", Map.of(
+                    "zones", response,
+                    "count", response.size()
+                )
+            ));
+        }
+        ZoneListSnapshot.Snapshot snapshot = zoneListSnapshot.get();
+        boolean gzip = acceptsGzip(acceptEncoding);
+        String etag = gzip ? snapshot.gzipEtag() : snapshot.etag();
+
+        // 304 응답에도 캐시가 표현별로 구분되도록 먼저 설정
+        servletResponse.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (webRequest.checkNotModified(etag)) {
+            return null; // 304 Not Modified
+        }
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.noCache())
+                .eTag(etag);
+        if (gzip) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(snapshot.gzip());
+        }
+        return builder.body(snapshot.json());
+    }
+
+    // 모든 흡연구역 조회 (Accept: application/x-ndjson - 한 줄에 Zone 요약 하나씩 스트리밍)
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllZones(
+            @RequestParam(value = "fields", required = false) String fields) {
+        return streamZones(null, ZoneFields.parse(fields));
     }
     
     // 모든 흡연구역 조회 (페이지네이션)
+    // cursor 파라미터가 있으면 (빈 값 = 첫 페이지) 키셋 페이지네이션, withTotal=true일 때만 전체 개수 조회
     @GetMapping("/paged")
     public ResponseEntity<?> getAllZonesPaged(
-            @PageableDefault(size = 20, sort = "id") Pageable pageable) {
-        Page<ZoneResponse> response = zoneService.getAllZones(pageable);
+            @PageableDefault(size = 20, sort = "id") Pageable pageable,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "withTotal", defaultValue = "false") boolean withTotal,
+            @RequestParam(value = "fields", required = false) String fields) {
+        ZoneFields selection = ZoneFields.parse(fields);
+        if (cursor != null) {
+            ZoneSlice<?> slice = selection != null
+                    ? zoneService.getAllZones(cursor, pageable.getPageSize(), pageable.getSort(), withTotal, selection)
+                    : zoneService.getAllZones(cursor, pageable.getPageSize(), pageable.getSort(), withTotal);
+            return ResponseEntity.ok(Map.of(
+                "success", true,
+                "message", "흡연구역 조회 성공",
+                "data", Map.of(
+                    "zones", slice.zones(),
+                    "pagination", cursorPagination(slice.size(), slice.hasNext(), slice.nextCursor(),
+                            slice.totalElements())
+                )
+            ));
+        }
+        Page<?> response = selection != null
+                ? zoneService.getAllZones(pageable, selection)
+                : zoneService.getAllZones(pageable);
         
         String message = String.format("흡연구역 조회 성공 (페이지: %d/%d, 총 %d개)", 
                 response.getNumber() + 1, response.getTotalPages(), response.getTotalElements());
@@ -124,8 +214,12 @@ public class ZoneController {
     public ResponseEntity<?> getZonesByRadius(
             @RequestParam("latitude") double latitude,
             @RequestParam("longitude") double longitude,
-            @RequestParam("radius") int radius) {
-        List<ZoneResponse> response = zoneService.searchZonesByRadius(latitude, longitude, radius);
+            @RequestParam("radius") int radius,
+            @RequestParam(value = "fields", required = false) String fields) {
+        ZoneFields selection = ZoneFields.parse(fields);
+        List<?> response = selection != null
+                ? zoneService.searchZonesByRadius(latitude, longitude, radius, selection)
+                : zoneService.searchZonesByRadius(latitude, longitude, radius);
         return ResponseEntity.ok(Map.of(
             "success", true,
             "message", String.format("반경 %dm 내 흡연구역 조회 성공", radius),
@@ -135,6 +229,308 @@ public class ZoneController {
             )
         ));
     }
+
+    // 반경 검색 (NDJSON 스트리밍, ID 순)
+    @GetMapping(params = {"latitude", "longitude", "radius"}, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamZonesByRadius(
+            @RequestParam("latitude") double latitude,
+            @RequestParam("longitude") double longitude,
+            @RequestParam("radius") int radius,
+            @RequestParam(value = "fields", required = false) String fields) {
+        ZoneFields selection = ZoneFields.parse(fields);
+        return streamZones(zoneService.findZoneIdsByRadius(latitude, longitude, radius), selection);
+    }
+    
+    // 키워드 검색 (지역, 주소, 타입, 서브타입, 설명) - fuzzy=true면 오타 허용 결과까지 순위순으로 반환
+    @GetMapping(value = "/search", params = "keyword")
+    public ResponseEntity<?> searchZonesByKeyword(
+            @RequestParam("keyword") String keyword,
+            @RequestParam(value = "fuzzy", defaultValue = "false") boolean fuzzy,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestParam(value = "fields", required = false) String fields) {
+        if (keyword.trim().length() > 100) {
+            throw new ValidationException(ErrorCode.SEARCH_KEYWORD_TOO_LONG);
+        }
+        ZoneFields selection = ZoneFields.parse(fields);
+        if (cursor != null) {
+            ZoneSlice<?> slice = selection != null
+                    ? zoneService.searchZones(keyword, fuzzy, cursor, size, selection)
+                    : zoneService.searchZones(keyword, fuzzy, cursor, size);
+            return ResponseEntity.ok(Map.of(
+                "success", true,
+                "message", "흡연구역 키워드 검색 성공",
+                "data", Map.of(
+                    "zones", slice.zones(),
+                    "pagination", cursorPagination(slice.size(), slice.hasNext(), slice.nextCursor(), null)
+                )
+            ));
+        }
+        List<?> response = selection != null
+                ? zoneService.searchZones(keyword, fuzzy, selection)
+                : zoneService.searchZones(keyword, fuzzy);
+        return ResponseEntity.ok(Map.of(
+            "success", true,
+            "message", "흡연구역 키워드 검색 성공",
+            "data", Map.of(
+                "zones", response,
+                "count", response.size()
+            )
+        ));
+    }
+
+    // 키워드 검색 (NDJSON 스트리밍, 순서는 일반 키워드 검색과 같음)
+    @GetMapping(value = "/search", params = "keyword", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamZonesByKeyword(
+            @RequestParam("keyword") String keyword,
+            @RequestParam(value = "fuzzy", defaultValue = "false") boolean fuzzy,
+            @RequestParam(value = "fields", required = false) String fields) {
+        if (keyword.trim().length() > 100) {
+            throw new ValidationException(ErrorCode.SEARCH_KEYWORD_TOO_LONG);
+        }
+        ZoneFields selection = ZoneFields.parse(fields);
+        return streamZones(zoneService.findZoneIds(keyword, fuzzy), selection);
+    }
+    
+    // 순위 검색 (텍스트 관련도 + 기준점과의 거리, 점수순 상위 limit개)
+    @GetMapping("/search/ranked")
+    public ResponseEntity<?> searchZonesRanked(
+            @RequestParam("keyword") String keyword,
+            @RequestParam(value = "latitude", required = false) Double latitude,
+            @RequestParam(value = "longitude", required = false) Double longitude,
+            @RequestParam(value = "limit", defaultValue = "20") int limit,
+            @RequestParam(value = "fields", required = false) String fields) {
+        ZoneFields selection = ZoneFields.parse(fields);
+        List<?> response = selection != null
+                ? zoneService.searchZonesRanked(keyword, latitude, longitude, limit, selection)
+                : zoneService.searchZonesRanked(keyword, latitude, longitude, limit);
+        return ResponseEntity.ok(Map.of(
+            "success", true,
+            "message", "흡연구역 순위 검색 성공",
+            "data", Map.of(
+                "zones", response,
+                "count", response.size()
+            )
+        ));
+    }
+
+    // 순위 검색 (NDJSON 스트리밍, 점수 내림차순으로 한 줄에 하나씩)
+    @GetMapping(value = "/search/ranked", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamZonesRanked(
+            @RequestParam("keyword") String keyword,
+            @RequestParam(value = "latitude", required = false) Double latitude,
+            @RequestParam(value = "longitude", required = false) Double longitude,
+            @RequestParam(value = "limit", defaultValue = "20") int limit,
+            @RequestParam(value = "fields", required = false) String fields) {
+        ZoneFields selection = ZoneFields.parse(fields);
+        List<?> ranked = selection != null
+                ? zoneService.searchZonesRanked(keyword, latitude, longitude, limit, selection)
+                : zoneService.searchZonesRanked(keyword, latitude, longitude, limit);
+        ObjectWriter writer = objectMapper.writerFor(selection != null ? Map.class : ZoneRankedSummary.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.setRootValueSeparator(null);
+                for (Object zone : ranked) {
+                    writer.writeValue(generator, zone);
+                    generator.writeRaw('\n');
+                }
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+    
+    // 주소/지역 자동완성 (검색창 입력 중 제안)
+    @GetMapping("/suggest")
+    public ResponseEntity<?> suggestZones(
+            @RequestParam("prefix") String prefix,
+            @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        List<ZoneSuggestion> response = zoneService.suggestZones(prefix, limit);
+        return ResponseEntity.ok(Map.of(
+            "success", true,
+            "message", "자동완성 조회 성공",
+            "data", Map.of(
+                "suggestions", response,
+                "count", response.size()
+            )
+        ));
+    }
+    
+    // 조건 검색 (키워드, 지역, 타입, 위치 등 조합) - 선택된 실행 계획은 X-Query-Plan 헤더로 노출
+    // cursor 또는 size 파라미터가 있으면 키셋 페이지네이션
+    @PostMapping("/search")
+    public ResponseEntity<?> searchZones(@RequestBody ZoneFilter filter,
+                                         @RequestParam(value = "cursor", required = false) String cursor,
+                                         @RequestParam(value = "size", required = false) Integer size,
+                                         @RequestParam(value = "fields", required = false) String fields) {
+        ZoneFields selection = ZoneFields.parse(fields);
+        ZoneSearchResult result = zoneSearchService.search(filter, cursor, size);
+        List<?> zones = selection != null ? zoneSearchService.findFields(result, selection) : result.zones();
+        if (cursor != null || size != null) {
+            return ResponseEntity.ok()
+                    .header("X-Query-Plan", result.plan())
+                    .body(Map.of(
+                        "success", true,
+                        "message", "흡연구역 조건 검색 성공",
+                        "data", Map.of(
+                            "zones", zones,
+                            "pagination", cursorPagination(size == null ? 20 : size, result.truncated(),
+                                    result.nextCursor(), null)
+                        )
+                    ));
+        }
+        return ResponseEntity.ok()
+                .header("X-Query-Plan", result.plan())
+                .body(Map.of(
+                    "success", true,
+                    "message", "흡연구역 조건 검색 성공",
+                    "data", Map.of(
+                        "zones", zones,
+                        "count", zones.size(),
+                        "truncated", result.truncated()
+                    )
+                ));
+    }
+    
+    // 속성별 값 분포 (지역, 타입, 서브타입, 크기) - 지도 필터 칩의 건수 표시용
+    @GetMapping("/facets")
+    public ResponseEntity<?> getZoneFacets(
+            @RequestParam(value = "region", required = false) String region,
+            @RequestParam(value = "type", required = false) String type,
+            @RequestParam(value = "subtype", required = false) String subtype,
+            @RequestParam(value = "size", required = false) String size) {
+        ZoneFilter filter = new ZoneFilter(null, region, type, subtype, size, null, null, null, null, null, null);
+        Map<String, List<ZoneFacetCount>> facets = zoneSearchService.facets(filter);
+        return ResponseEntity.ok(Map.of(
+            "success", true,
+            "message", "흡연구역 속성 분포 조회 성공",
+            "data", Map.of(
+                "facets", facets
+            )
+        ));
+    }
+    
+    // 델타 동기화 - since 버전 이후 생성/수정된 Zone과 삭제된 Zone ID
+    @GetMapping("/changes")
+    public ResponseEntity<?> getZoneChanges(
+            @RequestParam(value = "since", defaultValue = "0") long since,
+            @RequestParam(value = "limit", defaultValue = "500") int limit,
+            @RequestParam(value = "fields", required = false) String fields) {
+        ZoneFields selection = ZoneFields.parse(fields);
+        ZoneChanges<?> changes = selection != null
+                ? zoneSyncService.getChanges(since, limit, selection)
+                : zoneSyncService.getChanges(since, limit);
+        return ResponseEntity.ok(Map.of(
+            "success", true,
+            "message", "흡연구역 변경 조회 성공",
+            "data", Map.of(
+                "upserts", changes.upserts(),
+                "deletions", changes.deletions(),
+                "nextVersion", changes.nextVersion(),
+                "latestVersion", changes.latestVersion(),
+                "hasMore", changes.hasMore(),
+                "reset", changes.reset()
+            )
+        ));
+    }
+    
+    // 가까운 흡연구역 k개 조회 (거리순)
+    @GetMapping("/nearest")
+    public ResponseEntity<?> getNearestZones(
+            @RequestParam("latitude") double latitude,
+            @RequestParam("longitude") double longitude,
+            @RequestParam(value = "k", defaultValue = "10") int k,
+            @RequestParam(value = "fields", required = false) String fields) {
+        ZoneFields selection = ZoneFields.parse(fields);
+        List<?> response = selection != null
+                ? zoneService.findNearestZones(latitude, longitude, k, selection)
+                : zoneService.findNearestZones(latitude, longitude, k);
+        return ResponseEntity.ok(Map.of(
+            "success", true,
+            "message", "가까운 흡연구역 조회 성공",
+            "data", Map.of(
+                "zones", response,
+                "count", response.size()
+            )
+        ));
+    }
+    
+    // 화면 영역 검색 (지도 이동 시 보이는 영역만 조회)
+    // zoom이 클러스터 줌 레벨(app.zone.cluster.min-zoom 이상)이면 개별 마커 대신 영역 내 클러스터 반환 (clustered=true)
+    @GetMapping("/bbox")
+    public ResponseEntity<?> getZonesByBounds(
+            @RequestParam("minLat") double minLat,
+            @RequestParam("minLon") double minLon,
+            @RequestParam("maxLat") double maxLat,
+            @RequestParam("maxLon") double maxLon,
+            @RequestParam(value = "zoom", required = false) Integer zoom,
+            @RequestParam(value = "fields", required = false) String fields) {
+        if (zoom != null && (zoom < RadiusLevel.LEVEL_1.getZoomLevel() || zoom > RadiusLevel.LEVEL_15.getZoomLevel())) {
+            throw new ValidationException(ErrorCode.ZOOM_LEVEL_INVALID);
+        }
+        if (zoom != null && zoneService.isClusterZoom(zoom)) {
+            List<ZoneCluster> clusters = zoneService.getZoneClustersWithinBounds(minLat, minLon, maxLat, maxLon, zoom);
+            return ResponseEntity.ok(Map.of(
+                "success", true,
+                "message", String.format("영역 내 줌 레벨 %d 클러스터 조회 성공", zoom),
+                "data", Map.of(
+                    "clusters", clusters,
+                    "count", clusters.size(),
+                    "clustered", true
+                )
+            ));
+        }
+        
+        ZoneFields selection = ZoneFields.parse(fields);
+        Slice<?> response = selection != null
+                ? zoneService.searchZonesByBounds(minLat, minLon, maxLat, maxLon, selection)
+                : zoneService.searchZonesByBounds(minLat, minLon, maxLat, maxLon);
+        return ResponseEntity.ok(Map.of(
+            "success", true,
+            "message", "영역 내 흡연구역 조회 성공",
+            "data", Map.of(
+                "zones", response.getContent(),
+                "count", response.getNumberOfElements(),
+                "truncated", response.hasNext(),
+                "clustered", false
+            )
+        ));
+    }
+    
+    // 줌 레벨별 클러스터 조회 (넓은 영역에서 개별 마커 대신 사용)
+    @GetMapping("/clusters")
+    public ResponseEntity<?> getZoneClusters(
+            @RequestParam("latitude") double latitude,
+            @RequestParam("longitude") double longitude,
+            @RequestParam("zoom") int zoom) {
+        List<ZoneCluster> response = zoneService.getZoneClusters(latitude, longitude, zoom);
+        return ResponseEntity.ok(Map.of(
+            "success", true,
+            "message", String.format("줌 레벨 %d 클러스터 조회 성공", zoom),
+            "data", Map.of(
+                "clusters", response,
+                "count", response.size()
+            )
+        ));
+    }
+    
+    // 지도 타일 조회 (바이너리, ETag 지원)
+    @GetMapping("/tiles/{z}/{x}/{y}")
+    public ResponseEntity<byte[]> getZoneTile(@PathVariable("z") int z,
+                                              @PathVariable("x") int x,
+                                              @PathVariable("y") int y,
+                                              WebRequest webRequest) {
+        ZoneTile tile = zoneTileService.getTile(z, x, y);
+        if (webRequest.checkNotModified(tile.etag())) {
+            return null; // 304 Not Modified
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .eTag(tile.etag())
+                .body(tile.data());
+    }
     
     @PutMapping("/{id}")
     public ResponseEntity<?> updateZone(@PathVariable("id") Integer id,
@@ -171,6 +567,77 @@ public class ZoneController {
         ));
     }
     
+    // NDJSON 스트리밍 응답 - 검색 조건 판정(ID 목록)은 요청 스레드에서 끝내고 행은 커서에서 읽는 대로 씀
+    // 생성기 버퍼만큼씩 응답으로 내보내므로 요청당 메모리가 결과 크기와 무관
+    // fields가 있으면 요약 대신 선택한 컬럼만 SELECT 해서 씀
+    private ResponseEntity<StreamingResponseBody> streamZones(List<Integer> ids, ZoneFields fields) {
+        ObjectWriter writer = objectMapper.writerFor(fields != null ? Map.class : ZoneSummary.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.setRootValueSeparator(null);
+                Consumer<Object> write = zone -> {
+                    try {
+                        writer.writeValue(generator, zone);
+                        generator.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                };
+                if (fields != null) {
+                    zoneService.streamZones(ids, fields, write::accept);
+                } else {
+                    zoneService.streamZones(ids, write::accept);
+                }
+            } catch (UncheckedIOException e) {
+                throw e.getCause(); // 클라이언트 연결 종료 등 - 커서 조회도 함께 중단
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    // 키셋 페이지 정보 (다음 커서, 전체 개수는 있을 때만 포함)
+    private static Map<String, Object> cursorPagination(int size, boolean hasNext, String nextCursor,
+                                                        Long totalElements) {
+        Map<String, Object> pagination = new LinkedHashMap<>();
+        pagination.put("size", size);
+        pagination.put("hasNext", hasNext);
+        if (nextCursor != null) {
+            pagination.put("nextCursor", nextCursor);
+        }
+        if (totalElements != null) {
+            pagination.put("totalElements", totalElements);
+        }
+        return pagination;
+    }
+
+    // Accept-Encoding에 gzip이 있고 q=0으로 거부되지 않았는지
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.trim().split(";");
+            if (!parts[0].trim().equalsIgnoreCase("gzip")) {
+                continue;
+            }
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.startsWith("q=")) {
+                    try {
+                        return Double.parseDouble(param.substring(2)) > 0;
+                    } catch (NumberFormatException e) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
     // JSON 문자열을 ZoneRequest로 파싱하는 헬퍼 메서드
     private ZoneRequest parseZoneRequest(String zoneData) {
         try {
@@ -13,14 +13,18 @@ import java.time.LocalDate;
 @Entity
 @Getter
 @Setter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @Table(name = "zone")
 public class Zone {
 
+    // IDENTITY는 INSERT 시점에 ID를 받아야 해서 JDBC 배치가 꺼지므로 테이블 기반 pooled-lo 할당 사용
+    // (id_generator의 next_val = 다음에 할당할 ID, 한 번에 allocationSize개씩 예약 - ZoneBatchWriter도 같은 행에서 예약)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "zone_id")
+    @TableGenerator(name = "zone_id", table = "id_generator", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "zone", allocationSize = 50)
     private Integer id;
 
     @Column(nullable = false, length = 100)
@@ -56,6 +60,10 @@ public class Zone {
     @Column(length = 255)
     private String image;
 
+    // 0.01도 격자 셀 키 (DB 생성 컬럼, 반경 검색 사전 필터용)
+    @Column(insertable = false, updatable = false)
+    private Long geocell;
+
     public void update(com.neogulmap.neogul_map.dto.ZoneRequest request) {
         if (request.getRegion() != null) this.region = request.getRegion();
         if (request.getType() != null) this.type = request.getType();
@@ -0,0 +1,38 @@
+package com.neogulmap.neogul_map.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Zone 변경 기록 (델타 동기화용)
+ * Zone마다 마지막 변경 한 행만 유지하고, 삭제된 Zone은 deleted = true 툼스톤으로 남긴다.
+ */
+@Entity
+@Getter
+@Setter
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "zone_change")
+public class ZoneChange {
+
+    @Id
+    @Column(name = "zone_id")
+    private Integer zoneId;
+
+    // 변경 버전 (전체 Zone에 걸쳐 단조 증가)
+    @Column(nullable = false, unique = true)
+    private Long version;
+
+    @Column(nullable = false)
+    private boolean deleted;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+}
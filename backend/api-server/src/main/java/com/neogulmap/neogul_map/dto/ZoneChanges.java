@@ -0,0 +1,24 @@
+package com.neogulmap.neogul_map.dto;
+
+import java.util.List;
+
+/**
+ * 델타 동기화 결과
+ *
+ * @param <T> Zone 표현 (ZoneResponse 또는 선택 필드)
+ * @param upserts since 이후 생성/수정된 Zone (버전 오름차순)
+ * @param deletions since 이후 삭제된 Zone ID
+ * @param nextVersion 다음 요청의 since 값
+ * @param latestVersion 서버의 현재 버전
+ * @param hasMore nextVersion 이후에 변경이 더 있는지 여부
+ * @param reset since가 서버 버전보다 커서 (DB 초기화 등) 전체 다시 받기가 필요한지 여부
+ */
+public record ZoneChanges<T>(
+    List<T> upserts,
+    List<Integer> deletions,
+    long nextVersion,
+    long latestVersion,
+    boolean hasMore,
+    boolean reset
+) {
+}
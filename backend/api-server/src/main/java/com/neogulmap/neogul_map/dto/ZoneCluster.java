@@ -0,0 +1,13 @@
+package com.neogulmap.neogul_map.dto;
+
+/**
+ * Zone 클러스터 응답 DTO
+ * 넓은 줌 레벨에서 개별 Zone 대신 묶음 중심점과 개수를 반환
+ */
+public record ZoneCluster(
+    double latitude,     // 클러스터 중심점 위도 (포함된 Zone 좌표 평균)
+    double longitude,    // 클러스터 중심점 경도
+    long count,          // 포함된 Zone 수
+    int expansionZoom    // 이 클러스터가 둘 이상으로 나뉘는 줌 레벨
+) {
+}
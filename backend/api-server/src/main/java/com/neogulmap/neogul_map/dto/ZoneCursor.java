@@ -0,0 +1,50 @@
+package com.neogulmap.neogul_map.dto;
+
+import com.neogulmap.neogul_map.config.exceptionHandling.ErrorCode;
+import com.neogulmap.neogul_map.config.exceptionHandling.exception.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 키셋 페이지네이션 커서
+ * 마지막으로 받은 Zone의 (정렬 키 값, ID)를 담고 클라이언트에는 불투명한 문자열로만 전달
+ *
+ * @param sort 정렬 키 (id, date, region, address, distance, rank)
+ * @param descending 내림차순 여부
+ * @param value 마지막 Zone의 정렬 키 값 (sort가 id면 빈 문자열)
+ * @param id 마지막 Zone ID (같은 키 값 사이의 순서)
+ */
+public record ZoneCursor(
+    String sort,
+    boolean descending,
+    String value,
+    int id
+) {
+
+    private static final String SEPARATOR = "\n";
+
+    /**
+     * 커서 문자열 해석 (비어 있으면 첫 페이지 = null)
+     */
+    public static ZoneCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(SEPARATOR, -1);
+            if (parts.length != 4 || !(parts[1].equals("a") || parts[1].equals("d"))) {
+                throw new IllegalArgumentException(decoded);
+            }
+            return new ZoneCursor(parts[0], parts[1].equals("d"), parts[2], Integer.parseInt(parts[3]));
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException(ErrorCode.SEARCH_PARAMETER_INVALID, "올바르지 않은 커서입니다");
+        }
+    }
+
+    public String encode() {
+        String raw = String.join(SEPARATOR, sort, descending ? "d" : "a", value, String.valueOf(id));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,13 @@
+package com.neogulmap.neogul_map.dto;
+
+/**
+ * 패싯 집계 항목
+ *
+ * @param value 속성 값 (표시용 원문)
+ * @param count 현재 필터에서 이 값을 가진 Zone 수
+ */
+public record ZoneFacetCount(
+    String value,
+    int count
+) {
+}
@@ -0,0 +1,105 @@
+package com.neogulmap.neogul_map.dto;
+
+import com.neogulmap.neogul_map.config.exceptionHandling.ErrorCode;
+import com.neogulmap.neogul_map.config.exceptionHandling.exception.ValidationException;
+import com.neogulmap.neogul_map.domain.Zone;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * 응답 필드 선택 (?fields=id,latitude,longitude)
+ * ZoneResponse 속성 이름(순위 검색이면 score 포함)으로 검증하며, id는 항상 포함된다.
+ * Zone 엔티티 컬럼인 필드는 SELECT 목록으로 내려 보내고 (columns), distance, score 같은 계산 값은 응답에서만 고른다.
+ *
+ * @param names 선택된 속성 이름 (ZoneResponse 선언 순서)
+ */
+public record ZoneFields(Set<String> names) {
+
+    // ZoneResponse 속성 (선언 순서) + 순위 검색 점수 (ZoneRankedSummary)
+    public static final List<String> PROPERTIES = Stream.concat(
+            Arrays.stream(ZoneResponse.class.getDeclaredFields())
+                    .filter(field -> !Modifier.isStatic(field.getModifiers()))
+                    .map(Field::getName),
+            Stream.of("score"))
+            .toList();
+
+    // 그중 Zone 엔티티 컬럼인 속성
+    private static final Set<String> COLUMNS = Set.copyOf(Arrays.stream(Zone.class.getDeclaredFields())
+            .map(Field::getName)
+            .filter(PROPERTIES::contains)
+            .toList());
+
+    /**
+     * fields 파라미터 해석 (비어 있으면 전체 필드 = null)
+     */
+    public static ZoneFields parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+        Set<String> requested = new LinkedHashSet<>();
+        requested.add("id");
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            if (!PROPERTIES.contains(trimmed)) {
+                throw new ValidationException(ErrorCode.SEARCH_PARAMETER_INVALID,
+                        String.format("알 수 없는 필드입니다: %s (사용 가능: %s)", trimmed, String.join(",", PROPERTIES)));
+            }
+            requested.add(trimmed);
+        }
+        Set<String> ordered = new LinkedHashSet<>();
+        for (String property : PROPERTIES) {
+            if (requested.contains(property)) {
+                ordered.add(property);
+            }
+        }
+        return new ZoneFields(ordered);
+    }
+
+    /**
+     * name을 더한 선택 (응답에는 없어도 조회에 필요한 속성을 함께 SELECT 할 때 - select()로 다시 뺌)
+     */
+    public ZoneFields with(String name) {
+        Set<String> ordered = new LinkedHashSet<>();
+        for (String property : PROPERTIES) {
+            if (names.contains(property) || property.equals(name)) {
+                ordered.add(property);
+            }
+        }
+        return new ZoneFields(ordered);
+    }
+
+    public boolean contains(String name) {
+        return names.contains(name);
+    }
+
+    /**
+     * SELECT 목록에 넣을 엔티티 속성 (id 포함)
+     */
+    public List<String> columns() {
+        return names.stream().filter(COLUMNS::contains).toList();
+    }
+
+    /**
+     * 직렬화된 응답 속성에서 선택된 필드만 (값이 없는 계산 필드는 제외)
+     */
+    public Map<String, Object> select(Map<String, ?> properties) {
+        Map<String, Object> selected = new LinkedHashMap<>();
+        for (String name : names) {
+            if (properties.containsKey(name) && (COLUMNS.contains(name) || properties.get(name) != null)) {
+                selected.put(name, properties.get(name));
+            }
+        }
+        return selected;
+    }
+}
@@ -14,42 +14,43 @@ public record ZoneFilter(
     Double latitude,    // 위도 (위치 기반 검색용)
     Double longitude,   // 경도 (위치 기반 검색용)
     Double radiusKm,    // 반경 (km)
-    Integer zoomLevel   // 줌 레벨 (반경 자동 계산용)
+    Integer zoomLevel,  // 줌 레벨 (반경 자동 계산용)
+    Boolean fuzzy       // 키워드 오타 허용 여부 (편집 거리 1~2)
 ) {
     
     /**
      * 빈 필터 생성 (모든 조건이 null)
      */
     public static ZoneFilter empty() {
-        return new ZoneFilter(null, null, null, null, null, null, null, null, null, null);
+        return new ZoneFilter(null, null, null, null, null, null, null, null, null, null, null);
     }
     
     /**
      * 키워드 검색용 필터 생성
      */
     public static ZoneFilter keyword(String keyword) {
-        return new ZoneFilter(keyword, null, null, null, null, null, null, null, null, null);
+        return new ZoneFilter(keyword, null, null, null, null, null, null, null, null, null, null);
     }
     
     /**
      * 지역 + 타입 검색용 필터 생성
      */
     public static ZoneFilter regionAndType(String region, String type) {
-        return new ZoneFilter(null, region, type, null, null, null, null, null, null, null);
+        return new ZoneFilter(null, region, type, null, null, null, null, null, null, null, null);
     }
     
     /**
      * 위치 기반 검색용 필터 생성
      */
     public static ZoneFilter location(Double latitude, Double longitude, Double radiusKm) {
-        return new ZoneFilter(null, null, null, null, null, null, latitude, longitude, radiusKm, null);
+        return new ZoneFilter(null, null, null, null, null, null, latitude, longitude, radiusKm, null, null);
     }
     
     /**
      * 줌 레벨 기반 검색용 필터 생성
      */
     public static ZoneFilter zoomLevel(Double latitude, Double longitude, Integer zoomLevel) {
-        return new ZoneFilter(null, null, null, null, null, null, latitude, longitude, null, zoomLevel);
+        return new ZoneFilter(null, null, null, null, null, null, latitude, longitude, null, zoomLevel, null);
     }
     
     /**
@@ -74,4 +75,11 @@ public record ZoneFilter(
     public boolean isKeywordSearch() {
         return keyword != null && !keyword.trim().isEmpty();
     }
+    
+    /**
+     * 오타 허용 키워드 검색인지 확인
+     */
+    public boolean isFuzzyKeywordSearch() {
+        return Boolean.TRUE.equals(fuzzy) && isKeywordSearch();
+    }
 }
@@ -0,0 +1,37 @@
+package com.neogulmap.neogul_map.dto;
+
+import java.util.List;
+
+/**
+ * Zone 일괄 가져오기 결과
+ *
+ * @param rows 읽은 행 수
+ * @param imported 저장한 Zone 수
+ * @param duplicates 이미 등록된 주소(또는 입력 안에서 앞서 나온 주소)라 건너뛴 행 수
+ * @param failed 형식/검증/저장 오류 행 수
+ * @param errors 오류 행 (앞에서부터 app.zone.import.max-errors개까지)
+ * @param errorsTruncated errors에 싣지 못한 오류가 있는지 여부
+ * @param aborted 입력을 끝까지 읽지 못한 경우 그 이유 (그 전까지 읽은 행은 저장됨), 정상 종료면 null
+ * @param rowsPerSecond 초당 처리 행 수
+ */
+public record ZoneImportResult(
+    String format,
+    long rows,
+    long imported,
+    long duplicates,
+    long failed,
+    List<RowError> errors,
+    boolean errorsTruncated,
+    String aborted,
+    long elapsedMillis,
+    long rowsPerSecond
+) {
+
+    /**
+     * 오류 행
+     *
+     * @param row 입력의 행 번호 (1부터)
+     */
+    public record RowError(long row, String message) {
+    }
+}
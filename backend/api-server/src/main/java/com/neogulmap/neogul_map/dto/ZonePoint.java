@@ -0,0 +1,14 @@
+package com.neogulmap.neogul_map.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Zone 좌표 프로젝션
+ * 공간 인덱스 구성 시 description(CLOB) 등 불필요한 컬럼을 읽지 않기 위해 사용
+ */
+public record ZonePoint(
+    Integer id,
+    BigDecimal latitude,
+    BigDecimal longitude
+) {
+}
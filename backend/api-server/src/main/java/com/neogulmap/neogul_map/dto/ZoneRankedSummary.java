@@ -0,0 +1,18 @@
+package com.neogulmap.neogul_map.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+
+/**
+ * 순위 검색 결과 (요약 + 점수)
+ * 목록 응답과 같이 description(CLOB)과 작성자는 싣지 않으며, 전체 내용은 GET /zones/{id}로 조회
+ *
+ * @param score 순위 점수 (0 ~ 1)
+ * @param distance 기준점과의 거리 (미터, 기준점이 없으면 null)
+ */
+public record ZoneRankedSummary(
+    @JsonUnwrapped ZoneSummary zone,
+    double score,
+    @JsonInclude(JsonInclude.Include.NON_NULL) Double distance
+) {
+}
@@ -1,5 +1,6 @@
 package com.neogulmap.neogul_map.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.neogulmap.neogul_map.domain.Zone;
 import lombok.Getter;
 import lombok.Setter;
@@ -24,6 +25,10 @@ public class ZoneResponse {
     private String address;
     private String user;
     private String image;
+    
+    // 기준점으로부터의 거리 (미터) - 최근접 검색, 위치 조건 검색에서만 채워짐
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Double distance;
 
     public static ZoneResponse from(Zone zone) {
         return ZoneResponse.builder()
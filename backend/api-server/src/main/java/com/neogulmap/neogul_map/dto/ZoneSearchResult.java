@@ -0,0 +1,19 @@
+package com.neogulmap.neogul_map.dto;
+
+import java.util.List;
+
+/**
+ * 조건 검색 결과
+ *
+ * @param zones 검색된 Zone 요약 (최대 app.zone.search.max-results개)
+ * @param truncated 개수 제한으로 잘렸는지 여부 (커서 페이지네이션이면 다음 페이지가 있는지 여부)
+ * @param plan 실행 계획 요약 (X-Query-Plan 헤더)
+ * @param nextCursor 다음 페이지 커서 (커서 페이지네이션이 아니거나 마지막 페이지면 null)
+ */
+public record ZoneSearchResult(
+    List<ZoneSearchSummary> zones,
+    boolean truncated,
+    String plan,
+    String nextCursor
+) {
+}
@@ -0,0 +1,16 @@
+package com.neogulmap.neogul_map.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+
+/**
+ * 조건 검색 결과 (요약 + 거리)
+ * 목록 응답과 같이 description(CLOB)과 작성자는 싣지 않으며, 전체 내용은 GET /zones/{id}로 조회
+ *
+ * @param distance 기준점과의 거리 (미터, 위치 조건이 없으면 null)
+ */
+public record ZoneSearchSummary(
+    @JsonUnwrapped ZoneSummary zone,
+    @JsonInclude(JsonInclude.Include.NON_NULL) Double distance
+) {
+}
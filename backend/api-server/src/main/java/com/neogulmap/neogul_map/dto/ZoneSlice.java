@@ -0,0 +1,22 @@
+package com.neogulmap.neogul_map.dto;
+
+import java.util.List;
+
+/**
+ * 키셋 페이지 (전체 개수 없이 다음 페이지 존재 여부만)
+ *
+ * @param <T> Zone 표현 (ZoneResponse, ZoneSummary 또는 선택 필드)
+ * @param zones 이번 페이지 Zone
+ * @param size 요청한 페이지 크기
+ * @param hasNext 다음 페이지가 있는지 여부
+ * @param nextCursor 다음 페이지 커서 (없으면 null)
+ * @param totalElements 전체 개수 (withTotal 요청 시에만, 아니면 null)
+ */
+public record ZoneSlice<T>(
+    List<T> zones,
+    int size,
+    boolean hasNext,
+    String nextCursor,
+    Long totalElements
+) {
+}
@@ -0,0 +1,13 @@
+package com.neogulmap.neogul_map.dto;
+
+/**
+ * 자동완성 항목
+ *
+ * @param text 완성 문자열 (주소 또는 지역)
+ * @param count 해당 문자열을 가진 Zone 수
+ */
+public record ZoneSuggestion(
+    String text,
+    int count
+) {
+}
@@ -0,0 +1,27 @@
+package com.neogulmap.neogul_map.dto;
+
+import com.neogulmap.neogul_map.domain.Zone;
+
+import java.math.BigDecimal;
+
+/**
+ * Zone 목록/지도용 프로젝션
+ * 목록 응답에는 description(CLOB)과 작성자를 싣지 않으며, 전체 내용은 GET /zones/{id}로 조회
+ */
+public record ZoneSummary(
+    Integer id,
+    String region,
+    String address,
+    BigDecimal latitude,
+    BigDecimal longitude,
+    String type,
+    String subtype,
+    String size,
+    String image
+) {
+
+    public static ZoneSummary from(Zone zone) {
+        return new ZoneSummary(zone.getId(), zone.getRegion(), zone.getAddress(), zone.getLatitude(),
+                zone.getLongitude(), zone.getType(), zone.getSubtype(), zone.getSize(), zone.getImage());
+    }
+}
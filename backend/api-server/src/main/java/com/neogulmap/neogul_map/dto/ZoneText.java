@@ -0,0 +1,16 @@
+package com.neogulmap.neogul_map.dto;
+
+/**
+ * Zone 텍스트 프로젝션
+ * 검색/속성 인덱스 구성 시 검색, 필터 대상 컬럼만 읽기 위해 사용
+ */
+public record ZoneText(
+    Integer id,
+    String region,
+    String address,
+    String type,
+    String subtype,
+    String size,
+    String description
+) {
+}
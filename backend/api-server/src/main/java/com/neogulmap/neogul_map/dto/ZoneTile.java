@@ -0,0 +1,13 @@
+package com.neogulmap.neogul_map.dto;
+
+/**
+ * 인코딩된 Zone 타일
+ *
+ * @param data 바이너리 타일 (형식은 ZoneTileService 참고)
+ * @param etag 타일 내용 기반 강한 ETag (따옴표 포함)
+ */
+public record ZoneTile(
+    byte[] data,
+    String etag
+) {
+}
@@ -0,0 +1,42 @@
+package com.neogulmap.neogul_map.event;
+
+import com.neogulmap.neogul_map.domain.Zone;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Zone 변경 이벤트
+ * Zone 생성/수정/삭제 시 발행되며, 커밋 이후 인메모리 인덱스 갱신에 사용
+ */
+@Getter
+public class ZoneChangedEvent extends ApplicationEvent {
+
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED
+    }
+
+    private final ChangeType changeType;
+    private final Integer zoneId;
+    private final Zone previous;  // 변경 전 Zone (생성 시 null)
+    private final Zone current;   // 변경 후 Zone (삭제 시 null)
+
+    public ZoneChangedEvent(Object source, ChangeType changeType, Integer zoneId, Zone previous, Zone current) {
+        super(source);
+        this.changeType = changeType;
+        this.zoneId = zoneId;
+        this.previous = previous;
+        this.current = current;
+    }
+
+    public static ZoneChangedEvent created(Zone current) {
+        return new ZoneChangedEvent(new Object(), ChangeType.CREATED, current.getId(), null, current);
+    }
+
+    public static ZoneChangedEvent updated(Zone previous, Zone current) {
+        return new ZoneChangedEvent(new Object(), ChangeType.UPDATED, current.getId(), previous, current);
+    }
+
+    public static ZoneChangedEvent deleted(Zone previous) {
+        return new ZoneChangedEvent(new Object(), ChangeType.DELETED, previous.getId(), previous, null);
+    }
+}
@@ -0,0 +1,65 @@
+package com.neogulmap.neogul_map.event;
+
+import com.neogulmap.neogul_map.index.ZoneIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * Zone 인메모리 인덱스 이벤트 리스너
+ * 시작 시 전체 구성, 커밋 이후(AFTER_COMMIT) 증분 갱신을 담당
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ZoneIndexEventListener {
+
+    private final List<ZoneIndex> zoneIndexes;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        zoneIndexes.forEach(this::rebuildQuietly);
+    }
+
+    // 캐시 무효화 리스너보다 먼저 실행되어야 캐시가 갱신 전 인덱스로 다시 채워지지 않음
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onZoneChanged(ZoneChangedEvent event) {
+        for (ZoneIndex zoneIndex : zoneIndexes) {
+            try {
+                zoneIndex.apply(event);
+            } catch (Exception e) {
+                // 증분 반영 실패 시 해당 인덱스만 전체 재구성
+                log.error("인덱스 증분 갱신 실패 - {} (Zone {}): {}",
+                        zoneIndex.getClass().getSimpleName(), event.getZoneId(), e.getMessage(), e);
+                rebuildQuietly(zoneIndex);
+            }
+        }
+    }
+
+    // 일괄 가져오기 이후에는 증분 반영 대신 전체 재구성 - 캐시 무효화 리스너보다 먼저 실행
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener
+    public void onZonesImported(ZonesImportedEvent event) {
+        long start = System.currentTimeMillis();
+        zoneIndexes.forEach(this::rebuildQuietly);
+        log.info("일괄 가져오기 이후 인덱스 재구성 완료 - 가져온 Zone {}개, {}ms",
+                event.getImportedCount(), System.currentTimeMillis() - start);
+    }
+
+    private void rebuildQuietly(ZoneIndex zoneIndex) {
+        try {
+            zoneIndex.rebuild();
+        } catch (Exception e) {
+            log.error("인덱스 구성 실패 - {}: {}", zoneIndex.getClass().getSimpleName(), e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.neogulmap.neogul_map.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Zone 일괄 가져오기 완료 이벤트
+ * 가져온 Zone마다 ZoneChangedEvent를 발행하는 대신 한 번만 발행하며,
+ * 인메모리 인덱스는 전체 재구성하고 캐시와 목록 스냅샷은 전체 무효화한다.
+ */
+@Getter
+public class ZonesImportedEvent extends ApplicationEvent {
+
+    private final long importedCount;
+
+    public ZonesImportedEvent(Object source, long importedCount) {
+        super(source);
+        this.importedCount = importedCount;
+    }
+}
@@ -0,0 +1,117 @@
+package com.neogulmap.neogul_map.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * CSV 리더 (RFC 4180 - 따옴표로 감싼 필드 안의 쉼표, 줄바꿈, "" 이스케이프 지원)
+ * 첫 행은 필드 이름 헤더
+ */
+class CsvZoneRecordReader implements ZoneRecordReader {
+
+    private final BufferedReader reader;
+    private final String[] header;
+    private long row = 0;
+
+    CsvZoneRecordReader(InputStream in, Charset charset) throws IOException {
+        this.reader = new BufferedReader(new InputStreamReader(in, charset), 64 * 1024);
+        // 엑셀에서 저장한 UTF-8 CSV의 BOM 건너뜀
+        reader.mark(1);
+        if (reader.read() != '\uFEFF') {
+            reader.reset();
+        }
+        List<String> fields = readFields();
+        if (fields == null) {
+            throw new IOException("CSV 헤더 행이 없습니다");
+        }
+        this.header = new String[fields.size()];
+        for (int i = 0; i < fields.size(); i++) {
+            header[i] = fields.get(i).trim().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    @Override
+    public ZoneRecord next() throws IOException {
+        List<String> fields;
+        do {
+            fields = readFields();
+            if (fields == null) {
+                return null;
+            }
+        } while (fields.size() == 1 && fields.get(0).isEmpty()); // 빈 줄
+
+        row++;
+        if (fields.size() != header.length) {
+            return ZoneRecord.invalid(row,
+                    String.format("필드 수가 헤더와 다릅니다 (헤더 %d개, 행 %d개)", header.length, fields.size()));
+        }
+        Map<String, String> values = new HashMap<>();
+        for (int i = 0; i < header.length; i++) {
+            String value = fields.get(i).trim();
+            if (!value.isEmpty()) {
+                values.put(header[i], value);
+            }
+        }
+        return new ZoneRecord(row, values, null);
+    }
+
+    // 레코드 하나의 필드 (입력 끝이면 null)
+    private List<String> readFields() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IOException("닫히지 않은 따옴표가 있습니다 (" + (row + 1) + "행)");
+                }
+                if (c == '"') {
+                    reader.mark(1);
+                    int next = reader.read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        reader.reset();
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r') {
+                    reader.mark(1);
+                    if (reader.read() != '\n') {
+                        reader.reset();
+                    }
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
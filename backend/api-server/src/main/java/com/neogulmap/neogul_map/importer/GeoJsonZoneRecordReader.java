@@ -0,0 +1,76 @@
+package com.neogulmap.neogul_map.importer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * GeoJSON FeatureCollection 리더
+ * 스트리밍 파서로 features 배열까지 이동한 뒤 feature 하나씩만 트리로 읽는다.
+ * 좌표는 Point geometry의 [경도, 위도], properties는 Zone 필드로 사용
+ */
+class GeoJsonZoneRecordReader implements ZoneRecordReader {
+
+    private final JsonParser parser;
+    private long feature = 0;
+
+    GeoJsonZoneRecordReader(InputStream in, ObjectMapper objectMapper) throws IOException {
+        this.parser = objectMapper.createParser(in);
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IOException("GeoJSON FeatureCollection 객체가 아닙니다");
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("features".equals(name)) {
+                if (value != JsonToken.START_ARRAY) {
+                    throw new IOException("features가 배열이 아닙니다");
+                }
+                return;
+            }
+            parser.skipChildren();
+        }
+        throw new IOException("features 배열이 없습니다");
+    }
+
+    @Override
+    public ZoneRecord next() throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.END_ARRAY || token == null) {
+            return null;
+        }
+        feature++;
+        if (token != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return ZoneRecord.invalid(feature, "feature가 객체가 아닙니다");
+        }
+        JsonNode node = parser.readValueAsTree();
+
+        JsonNode properties = node.path("properties");
+        Map<String, String> values = properties.isObject()
+                ? NdjsonZoneRecordReader.valuesOf(properties)
+                : new HashMap<>();
+        JsonNode geometry = node.path("geometry");
+        if (!geometry.isMissingNode() && !geometry.isNull()) {
+            JsonNode coordinates = geometry.path("coordinates");
+            if (!"Point".equals(geometry.path("type").asText()) || !coordinates.isArray() || coordinates.size() < 2
+                    || !coordinates.get(0).isNumber() || !coordinates.get(1).isNumber()) {
+                return ZoneRecord.invalid(feature, "geometry는 [경도, 위도] 좌표의 Point여야 합니다");
+            }
+            values.put("longitude", coordinates.get(0).asText());
+            values.put("latitude", coordinates.get(1).asText());
+        }
+        return new ZoneRecord(feature, values, null);
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+}
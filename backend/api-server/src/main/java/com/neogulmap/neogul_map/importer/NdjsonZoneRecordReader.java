@@ -0,0 +1,78 @@
+package com.neogulmap.neogul_map.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * NDJSON 리더 - 한 줄에 Zone 객체 하나 (줄 단위로 파싱하므로 잘못된 줄이 있어도 다음 줄부터 계속 읽음)
+ */
+class NdjsonZoneRecordReader implements ZoneRecordReader {
+
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private long line = 0;
+
+    NdjsonZoneRecordReader(InputStream in, Charset charset, ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(new InputStreamReader(in, charset), 64 * 1024);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public ZoneRecord next() throws IOException {
+        String text;
+        do {
+            text = reader.readLine();
+            if (text == null) {
+                return null;
+            }
+            line++;
+        } while (text.isBlank());
+
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(text);
+        } catch (JsonProcessingException e) {
+            return ZoneRecord.invalid(line, "JSON 형식 오류: " + e.getOriginalMessage());
+        }
+        if (!node.isObject()) {
+            return ZoneRecord.invalid(line, "JSON 객체가 아닙니다");
+        }
+        return new ZoneRecord(line, valuesOf(node), null);
+    }
+
+    /**
+     * JSON 객체의 필드 → 문자열 값 (null, 빈 값 제외, 중첩 값은 JSON 문자열)
+     */
+    static Map<String, String> valuesOf(JsonNode node) {
+        Map<String, String> values = new HashMap<>();
+        Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            JsonNode value = field.getValue();
+            if (value.isNull()) {
+                continue;
+            }
+            String text = (value.isValueNode() ? value.asText() : value.toString()).trim();
+            if (!text.isEmpty()) {
+                values.put(field.getKey().toLowerCase(Locale.ROOT), text);
+            }
+        }
+        return values;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
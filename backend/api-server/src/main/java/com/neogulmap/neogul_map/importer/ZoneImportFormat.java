@@ -0,0 +1,62 @@
+package com.neogulmap.neogul_map.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.neogulmap.neogul_map.config.exceptionHandling.ErrorCode;
+import com.neogulmap.neogul_map.config.exceptionHandling.exception.ValidationException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.Locale;
+
+/**
+ * 일괄 가져오기 입력 형식
+ */
+public enum ZoneImportFormat {
+    CSV("text/csv"),
+    NDJSON("application/x-ndjson"),
+    GEOJSON("application/geo+json");
+
+    private final String mediaType;
+
+    ZoneImportFormat(String mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    /**
+     * 입력 형식 결정 - format 파라미터가 있으면 그 값, 없으면 Content-Type으로 판단
+     */
+    public static ZoneImportFormat resolve(String format, String contentType) {
+        // 폼 본문은 서블릿 컨테이너가 파라미터로 먼저 읽어 버리므로 입력으로 쓸 수 없음
+        if (contentType != null && (contentType.toLowerCase(Locale.ROOT).startsWith("application/x-www-form-urlencoded")
+                || contentType.toLowerCase(Locale.ROOT).startsWith("multipart/"))) {
+            throw new ValidationException(ErrorCode.FILE_TYPE_INVALID,
+                    "파일 내용을 요청 본문으로 보내야 합니다 (Content-Type: text/csv, application/x-ndjson, application/geo+json)");
+        }
+        if (format != null && !format.isBlank()) {
+            try {
+                return valueOf(format.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new ValidationException(ErrorCode.FILE_TYPE_INVALID, "지원하지 않는 형식입니다: " + format);
+            }
+        }
+        if (contentType != null) {
+            String type = contentType.split(";", 2)[0].trim().toLowerCase(Locale.ROOT);
+            for (ZoneImportFormat candidate : values()) {
+                if (candidate.mediaType.equals(type)) {
+                    return candidate;
+                }
+            }
+        }
+        throw new ValidationException(ErrorCode.FILE_TYPE_INVALID,
+                "format 파라미터(csv, ndjson, geojson) 또는 해당 Content-Type이 필요합니다");
+    }
+
+    public ZoneRecordReader open(InputStream in, Charset charset, ObjectMapper objectMapper) throws IOException {
+        return switch (this) {
+            case CSV -> new CsvZoneRecordReader(in, charset);
+            case NDJSON -> new NdjsonZoneRecordReader(in, charset, objectMapper);
+            case GEOJSON -> new GeoJsonZoneRecordReader(in, objectMapper);
+        };
+    }
+}
@@ -0,0 +1,31 @@
+package com.neogulmap.neogul_map.importer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * 가져오기 입력을 한 행씩 읽는 리더 (입력 전체를 메모리에 올리지 않음)
+ */
+public interface ZoneRecordReader extends Closeable {
+
+    /**
+     * 다음 행 (입력 끝이면 null)
+     * 행 하나의 형식 오류는 error가 채워진 ZoneRecord로, 더 읽을 수 없는 오류는 IOException으로 알린다.
+     */
+    ZoneRecord next() throws IOException;
+
+    /**
+     * 입력 한 행
+     *
+     * @param row 행 번호 (CSV는 헤더 제외 데이터 행, NDJSON은 줄, GeoJSON은 feature 순번 - 1부터)
+     * @param values 소문자 필드 이름 → 값 (빈 값은 제외)
+     * @param error 행 형식 오류 (없으면 null)
+     */
+    record ZoneRecord(long row, Map<String, String> values, String error) {
+
+        static ZoneRecord invalid(long row, String error) {
+            return new ZoneRecord(row, Map.of(), error);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.neogulmap.neogul_map.index;
+
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+/**
+ * 컬럼 배열(ids, latitudes, longitudes)에 대한 반경 판정 커널
+ * Vector API(jdk.incubator.vector)를 쓸 수 있으면 SIMD 구현, 아니면 스칼라 구현을 사용
+ */
+interface DistanceKernel {
+
+    /**
+     * [0, length) 구간에서 반경 안에 있는 ID를 out에 추가
+     */
+    void collect(RadiusQuery query, int[] ids, double[] latitudes, double[] longitudes, int length, List<Integer> out);
+
+    /**
+     * 실행 환경에 맞는 커널 생성
+     * --add-modules jdk.incubator.vector 없이 실행하면 모듈이 없으므로 스칼라 구현으로 대체
+     */
+    static DistanceKernel create() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            try {
+                // 모듈이 없을 때 클래스가 로딩되지 않도록 리플렉션으로 생성
+                return (DistanceKernel) Class.forName("com.neogulmap.neogul_map.index.VectorDistanceKernel")
+                        .getDeclaredConstructor()
+                        .newInstance();
+            } catch (ReflectiveOperationException | LinkageError e) {
+                LoggerFactory.getLogger(DistanceKernel.class).warn("Vector API 커널 생성 실패, 스칼라 커널 사용: {}", e.getMessage());
+            }
+        }
+        return new ScalarDistanceKernel();
+    }
+}
@@ -0,0 +1,189 @@
+package com.neogulmap.neogul_map.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * unigram/bigram/trigram → 압축 포스팅 역색인 (ZoneTextIndex, ZoneChosungIndex 공용)
+ *
+ * 입력 문자열은 호출하는 쪽에서 정규화해서 넘긴다. 불변 객체이며 update()는 바뀐 n-gram의
+ * 포스팅만 교체한 새 인덱스를 돌려주므로, 호출하는 쪽은 스냅샷을 한 번에 교체하면 된다.
+ * unigram은 한 글자 검색어(예: "역")를 전체 조회 없이 포스팅 하나로 처리하기 위해 둔다.
+ */
+final class NgramIndex {
+
+    // 색인 가능한 최소 검색어 길이 (unigram)
+    static final int MIN_QUERY_LENGTH = 1;
+
+    // n-gram 키 → 포스팅
+    private final OverlayMap<Long, Postings> postings;
+
+    private NgramIndex(OverlayMap<Long, Postings> postings) {
+        this.postings = postings;
+    }
+
+    int gramCount() {
+        return postings.size();
+    }
+
+    /**
+     * 쿼리의 n-gram을 모두 가진 ID (오름차순) - 연속된 부분 문자열인지는 호출하는 쪽에서 확인
+     */
+    int[] findCandidates(String query) {
+        List<Postings> lists = new ArrayList<>();
+        for (long gram : queryGrams(query)) {
+            Postings list = postings.get(gram);
+            if (list == null) {
+                return new int[0]; // 없는 n-gram이 있으면 결과 없음
+            }
+            lists.add(list);
+        }
+        // 가장 짧은 포스팅부터 교집합해 후보를 빠르게 줄임
+        lists.sort(Comparator.comparingInt(list -> list.size));
+
+        int[] candidates = lists.get(0).toArray();
+        int length = candidates.length;
+        for (int i = 1; i < lists.size() && length > 0; i++) {
+            length = lists.get(i).intersect(candidates, length);
+        }
+        return Arrays.copyOf(candidates, length);
+    }
+
+    /**
+     * 후보 수 추정 - 쿼리 n-gram 중 가장 짧은 포스팅 길이
+     */
+    int estimateCandidates(String query) {
+        int min = Integer.MAX_VALUE;
+        for (long gram : queryGrams(query)) {
+            Postings list = postings.get(gram);
+            min = Math.min(min, list == null ? 0 : list.size);
+        }
+        return min;
+    }
+
+    /**
+     * id의 n-gram을 stale에서 fresh로 바꾼 새 인덱스 (바뀐 것이 없으면 this)
+     * stale은 id로 색인되어 있는 n-gram 전부여야 하며(둘 다에 있는 n-gram은 건드리지 않음),
+     * 같은 변경을 두 번 반영해도 결과가 같음
+     */
+    NgramIndex update(int id, Set<Long> stale, Set<Long> fresh) {
+        Map<Long, Postings> changes = new HashMap<>();
+        for (long gram : stale) {
+            if (fresh.contains(gram)) {
+                continue;
+            }
+            Postings list = postings.get(gram);
+            if (list == null) {
+                continue;
+            }
+            Postings removed = list.without(id);
+            if (removed != list) {
+                changes.put(gram, removed.size == 0 ? null : removed);
+            }
+        }
+        for (long gram : fresh) {
+            if (stale.contains(gram)) {
+                continue;
+            }
+            Postings list = postings.get(gram);
+            Postings added = (list == null ? Postings.EMPTY : list).with(id);
+            if (added != list) {
+                changes.put(gram, added);
+            }
+        }
+        return changes.isEmpty() ? this : new NgramIndex(postings.with(changes));
+    }
+
+    /**
+     * 문자열별 unigram + bigram + trigram (문자열 경계를 넘는 n-gram은 만들지 않음)
+     */
+    static Set<Long> grams(String... texts) {
+        Set<Long> grams = new HashSet<>();
+        for (String text : texts) {
+            if (text == null) {
+                continue;
+            }
+            for (int i = 0; i < text.length(); i++) {
+                grams.add(gramKey(text, i, 1));
+                if (i + 2 <= text.length()) {
+                    grams.add(gramKey(text, i, 2));
+                }
+                if (i + 3 <= text.length()) {
+                    grams.add(gramKey(text, i, 3));
+                }
+            }
+        }
+        return grams;
+    }
+
+    // 쿼리 n-gram - 3글자 이상이면 trigram(더 선택적), 그보다 짧으면 검색어 길이의 n-gram
+    private static long[] queryGrams(String query) {
+        int n = Math.min(query.length(), 3);
+        long[] grams = new long[query.length() - n + 1];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = gramKey(query, i, n);
+        }
+        return Arrays.stream(grams).distinct().toArray();
+    }
+
+    // n-gram 키: 길이(상위 비트) + UTF-16 문자 최대 3개
+    private static long gramKey(String text, int offset, int n) {
+        long key = n;
+        for (int i = 0; i < 3; i++) {
+            key = (key << 16) | (i < n ? text.charAt(offset + i) : 0);
+        }
+        return key;
+    }
+
+    /**
+     * 전체 구성용 빌더 - ID 오름차순으로 add 해야 함
+     */
+    static final class Builder {
+        private final Map<Long, IdList> building = new HashMap<>();
+        private long entries = 0;
+
+        void add(int id, Set<Long> grams) {
+            for (long gram : grams) {
+                building.computeIfAbsent(gram, k -> new IdList()).add(id);
+            }
+        }
+
+        long entries() {
+            return entries;
+        }
+
+        NgramIndex build() {
+            Map<Long, Postings> built = new HashMap<>(building.size() * 2);
+            for (Map.Entry<Long, IdList> entry : building.entrySet()) {
+                IdList ids = entry.getValue();
+                built.put(entry.getKey(), Postings.of(ids.ids, ids.size));
+                entries += ids.size;
+            }
+            return new NgramIndex(OverlayMap.of(built));
+        }
+    }
+
+    /**
+     * 구성 중 포스팅 누적용 가변 ID 배열 (같은 ID 연속 추가는 무시)
+     */
+    private static final class IdList {
+        int[] ids = new int[4];
+        int size = 0;
+
+        void add(int id) {
+            if (size > 0 && ids[size - 1] == id) {
+                return;
+            }
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.neogulmap.neogul_map.index;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * 기본 맵 + 변경분(overlay)으로 이루어진 불변 맵 (인덱스 스냅샷용)
+ *
+ * with()는 변경분만 복사한 새 OverlayMap을 돌려주므로 쓰기마다 전체 맵을 복사하지 않고도
+ * 스냅샷을 통째로 교체할 수 있다. 변경분이 기본 맵 크기에 비해 커지면 기본 맵에 합친다.
+ * 값으로 null은 저장할 수 없다 (변경분의 null은 삭제 표시).
+ */
+final class OverlayMap<K, V> {
+
+    // 변경분 합치기 기준 - 최소 크기, 기본 맵 크기 대비 비율(1/64)
+    private static final int MIN_OVERLAY = 1024;
+    private static final int OVERLAY_RATIO = 64;
+
+    private final Map<K, V> base;
+    private final Map<K, V> overlay;
+    private final int size;
+
+    private OverlayMap(Map<K, V> base, Map<K, V> overlay, int size) {
+        this.base = base;
+        this.overlay = overlay;
+        this.size = size;
+    }
+
+    /**
+     * 기본 맵으로 생성 (이후 base를 변경하면 안 됨)
+     */
+    static <K, V> OverlayMap<K, V> of(Map<K, V> base) {
+        return new OverlayMap<>(base, Collections.emptyMap(), base.size());
+    }
+
+    V get(K key) {
+        V value = overlay.get(key);
+        if (value != null || overlay.containsKey(key)) {
+            return value;
+        }
+        return base.get(key);
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * 모든 항목 순회 (순서 없음)
+     */
+    void forEach(BiConsumer<K, V> action) {
+        base.forEach((key, value) -> {
+            if (!overlay.containsKey(key)) {
+                action.accept(key, value);
+            }
+        });
+        overlay.forEach((key, value) -> {
+            if (value != null) {
+                action.accept(key, value);
+            }
+        });
+    }
+
+    /**
+     * changes를 반영한 새 맵 (값이 null이면 삭제) - 이 맵은 바뀌지 않음
+     */
+    OverlayMap<K, V> with(Map<K, V> changes) {
+        if (changes.isEmpty()) {
+            return this;
+        }
+        int nextSize = size;
+        for (Map.Entry<K, V> change : changes.entrySet()) {
+            boolean present = get(change.getKey()) != null;
+            if (present && change.getValue() == null) {
+                nextSize--;
+            } else if (!present && change.getValue() != null) {
+                nextSize++;
+            }
+        }
+
+        Map<K, V> merged = new HashMap<>(overlay);
+        merged.putAll(changes);
+        if (merged.size() <= Math.max(MIN_OVERLAY, base.size() / OVERLAY_RATIO)) {
+            return new OverlayMap<>(base, merged, nextSize);
+        }
+
+        Map<K, V> folded = new HashMap<>(base);
+        for (Map.Entry<K, V> entry : merged.entrySet()) {
+            if (entry.getValue() == null) {
+                folded.remove(entry.getKey());
+            } else {
+                folded.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return new OverlayMap<>(folded, Collections.emptyMap(), nextSize);
+    }
+}
@@ -0,0 +1,229 @@
+package com.neogulmap.neogul_map.index;
+
+import java.util.Arrays;
+
+/**
+ * 압축 포스팅 리스트 (불변)
+ * 오름차순 Zone ID를 직전 ID와의 차이(delta)로 바꾼 뒤 unsigned LEB128 varint로 저장
+ *
+ * with()/without()은 압축본을 다시 인코딩하지 않고 압축하지 않은 작은 추가/삭제 목록만 복사한다.
+ * 두 목록의 합이 압축본 길이의 제곱근을 넘으면 그때 한 번 합쳐 다시 인코딩하므로,
+ * unigram처럼 긴 포스팅도 변경마다 전체를 다시 쓰지 않는다.
+ */
+final class Postings {
+
+    private static final int[] NONE = new int[0];
+
+    static final Postings EMPTY = new Postings(0, new byte[0], NONE, NONE);
+
+    // 합치기 전까지 쌓아 두는 추가/삭제 ID 수 하한
+    private static final int MIN_PENDING = 32;
+
+    // 전체 ID 수 (압축본 + 추가 - 삭제)
+    final int size;
+
+    private final int encoded;
+    private final byte[] data;
+    // 압축본에 없는 추가 ID, 압축본에서 지운 ID (각각 오름차순)
+    private final int[] added;
+    private final int[] removed;
+
+    private Postings(int encoded, byte[] data, int[] added, int[] removed) {
+        this.encoded = encoded;
+        this.data = data;
+        this.added = added;
+        this.removed = removed;
+        this.size = encoded + added.length - removed.length;
+    }
+
+    /**
+     * 오름차순, 중복 없는 ID 배열의 앞 length개로 생성
+     */
+    static Postings of(int[] ids, int length) {
+        if (length == 0) {
+            return EMPTY;
+        }
+        byte[] buffer = new byte[length * 5];
+        int position = 0;
+        int previous = 0;
+        for (int i = 0; i < length; i++) {
+            int delta = ids[i] - previous;
+            while ((delta & ~0x7F) != 0) {
+                buffer[position++] = (byte) ((delta & 0x7F) | 0x80);
+                delta >>>= 7;
+            }
+            buffer[position++] = (byte) delta;
+            previous = ids[i];
+        }
+        return new Postings(length, Arrays.copyOf(buffer, position), NONE, NONE);
+    }
+
+    int[] toArray() {
+        int[] ids = new int[size];
+        Cursor cursor = new Cursor();
+        for (int i = 0; i < size; i++) {
+            ids[i] = cursor.next();
+        }
+        return ids;
+    }
+
+    /**
+     * id를 추가한 새 포스팅 (이미 있으면 그대로 반환)
+     */
+    Postings with(int id) {
+        if (Arrays.binarySearch(added, id) >= 0) {
+            return this;
+        }
+        int index = Arrays.binarySearch(removed, id);
+        if (index >= 0) {
+            return settle(added, remove(removed, index));
+        }
+        if (encodedContains(id)) {
+            return this;
+        }
+        return settle(insert(added, -Arrays.binarySearch(added, id) - 1, id), removed);
+    }
+
+    /**
+     * id를 제거한 새 포스팅 (없으면 그대로 반환)
+     */
+    Postings without(int id) {
+        int index = Arrays.binarySearch(added, id);
+        if (index >= 0) {
+            return settle(remove(added, index), removed);
+        }
+        if (Arrays.binarySearch(removed, id) >= 0 || !encodedContains(id)) {
+            return this;
+        }
+        return settle(added, insert(removed, -Arrays.binarySearch(removed, id) - 1, id));
+    }
+
+    /**
+     * 정렬된 후보 배열과의 교집합 - 포스팅은 배열로 풀지 않고 순차 디코딩하며 병합
+     *
+     * @return 교집합 크기 (결과는 candidates 앞부분에 채워짐)
+     */
+    int intersect(int[] candidates, int length) {
+        Cursor cursor = new Cursor();
+        int remaining = size;
+        int current = remaining-- > 0 ? cursor.next() : Integer.MAX_VALUE;
+        int kept = 0;
+        for (int i = 0; i < length; i++) {
+            int candidate = candidates[i];
+            while (current < candidate) {
+                if (remaining-- == 0) {
+                    return kept;
+                }
+                current = cursor.next();
+            }
+            if (current == candidate) {
+                candidates[kept++] = candidate;
+            }
+        }
+        return kept;
+    }
+
+    // 추가/삭제 목록이 커졌으면 압축본에 합쳐 다시 인코딩
+    private Postings settle(int[] nextAdded, int[] nextRemoved) {
+        int nextSize = encoded + nextAdded.length - nextRemoved.length;
+        if (nextSize == 0) {
+            return EMPTY;
+        }
+        Postings next = new Postings(encoded, data, nextAdded, nextRemoved);
+        if (nextAdded.length + nextRemoved.length <= Math.max(MIN_PENDING, (int) Math.sqrt(encoded))) {
+            return next;
+        }
+        return of(next.toArray(), nextSize);
+    }
+
+    // 압축본에 id가 있는지 - id 이상이 나올 때까지만 순차 디코딩 (배열로 풀지 않음)
+    private boolean encodedContains(int id) {
+        int position = 0;
+        int value = 0;
+        for (int i = 0; i < encoded; i++) {
+            int delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[position++];
+                delta |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            value += delta;
+            if (value >= id) {
+                return value == id;
+            }
+        }
+        return false;
+    }
+
+    private static int[] insert(int[] ids, int at, int id) {
+        int[] next = new int[ids.length + 1];
+        System.arraycopy(ids, 0, next, 0, at);
+        next[at] = id;
+        System.arraycopy(ids, at, next, at + 1, ids.length - at);
+        return next;
+    }
+
+    private static int[] remove(int[] ids, int at) {
+        if (ids.length == 1) {
+            return NONE;
+        }
+        int[] next = new int[ids.length - 1];
+        System.arraycopy(ids, 0, next, 0, at);
+        System.arraycopy(ids, at + 1, next, at, ids.length - at - 1);
+        return next;
+    }
+
+    /**
+     * 순차 디코더 - 압축본에서 삭제 목록을 건너뛰며 추가 목록과 병합 (size번까지 호출)
+     */
+    private final class Cursor {
+        private int position = 0;
+        private int value = 0;
+        private int remaining = encoded;
+        private int addedAt = 0;
+        private int removedAt = 0;
+        private boolean hasEncoded;
+        private int nextEncoded;
+
+        Cursor() {
+            advance();
+        }
+
+        int next() {
+            if (addedAt < added.length && (!hasEncoded || added[addedAt] < nextEncoded)) {
+                return added[addedAt++];
+            }
+            int result = nextEncoded;
+            advance();
+            return result;
+        }
+
+        // 압축본의 다음 (삭제되지 않은) ID
+        private void advance() {
+            while (remaining > 0) {
+                remaining--;
+                int delta = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = data[position++];
+                    delta |= (b & 0x7F) << shift;
+                    shift += 7;
+                } while (b < 0);
+                value += delta;
+                while (removedAt < removed.length && removed[removedAt] < value) {
+                    removedAt++;
+                }
+                if (removedAt < removed.length && removed[removedAt] == value) {
+                    continue;
+                }
+                hasEncoded = true;
+                nextEncoded = value;
+                return;
+            }
+            hasEncoded = false;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.neogulmap.neogul_map.index;
+
+import com.neogulmap.neogul_map.util.GeoUtil;
+
+/**
+ * 반경 검색 조건과 사전 계산 값
+ *
+ * 후보 좌표마다 Haversine(삼각함수)을 계산하지 않도록 평면 근사 거리의 상한/하한으로 먼저 판정한다.
+ * 위도 차이를 dLat, 경도 차이를 dLon이라 할 때 실제 거리(도)는
+ * sqrt(dLat² + (dLon·cosMin)²) 이상, sqrt(dLat² + (dLon·cosMax)²) 이하이므로
+ * 상한이 반경 안이면 포함, 하한이 반경 밖이면 제외하고, 그 사이만 정확히 계산한다.
+ */
+record RadiusQuery(
+    double latitude,
+    double longitude,
+    double radiusMeters,
+    double cosMinSquared,   // 검색 범위 내 가장 먼 위도의 cos²
+    double cosMaxSquared,   // 검색 범위 내 가장 가까운 위도의 cos²
+    double acceptSquared,   // 이 값 이하면 확실히 반경 안 (도²)
+    double rejectSquared    // 이 값 초과면 확실히 반경 밖 (도²)
+) {
+
+    // 평면 근사와 구면 거리의 오차 허용치
+    private static final double EPSILON = 0.005;
+
+    static RadiusQuery of(double latitude, double longitude, double radiusMeters) {
+        double radiusDeg = GeoUtil.arcDegrees(radiusMeters);
+        double lowLat = latitude - radiusDeg;
+        double highLat = latitude + radiusDeg;
+        double nearestAbsLat = (lowLat <= 0 && highLat >= 0) ? 0.0 : Math.min(Math.abs(lowLat), Math.abs(highLat));
+        double farthestAbsLat = Math.min(90.0, Math.max(Math.abs(lowLat), Math.abs(highLat)));
+        double cosMin = Math.cos(Math.toRadians(farthestAbsLat));
+        double cosMax = Math.cos(Math.toRadians(nearestAbsLat));
+        double accept = radiusDeg * (1 - EPSILON);
+        double reject = radiusDeg * (1 + EPSILON);
+        return new RadiusQuery(latitude, longitude, radiusMeters,
+                cosMin * cosMin, cosMax * cosMax, accept * accept, reject * reject);
+    }
+
+    /**
+     * 정확한 거리(Haversine)로 반경 포함 여부 판정
+     */
+    boolean contains(double lat, double lon) {
+        return GeoUtil.distanceMeters(latitude, longitude, lat, lon) <= radiusMeters;
+    }
+}
@@ -0,0 +1,25 @@
+package com.neogulmap.neogul_map.index;
+
+import java.util.List;
+
+/**
+ * 스칼라 반경 판정 커널 (Vector API를 사용할 수 없을 때의 기본 구현)
+ */
+final class ScalarDistanceKernel implements DistanceKernel {
+
+    @Override
+    public void collect(RadiusQuery query, int[] ids, double[] latitudes, double[] longitudes, int length, List<Integer> out) {
+        for (int i = 0; i < length; i++) {
+            double dLat = latitudes[i] - query.latitude();
+            double dLon = longitudes[i] - query.longitude();
+            double dLat2 = dLat * dLat;
+            double dLon2 = dLon * dLon;
+            if (dLat2 + dLon2 * query.cosMaxSquared() <= query.acceptSquared()) {
+                out.add(ids[i]);
+            } else if (dLat2 + dLon2 * query.cosMinSquared() <= query.rejectSquared()
+                    && query.contains(latitudes[i], longitudes[i])) {
+                out.add(ids[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.neogulmap.neogul_map.index;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.util.List;
+
+/**
+ * Vector API(SIMD) 반경 판정 커널
+ * 평면 근사 상한/하한 비교를 레인 단위로 한 번에 계산하고, 애매한 레인만 Haversine으로 확인
+ * DistanceKernel.create()에서 jdk.incubator.vector 모듈이 있을 때만 리플렉션으로 생성됨
+ */
+final class VectorDistanceKernel implements DistanceKernel {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    @Override
+    public void collect(RadiusQuery query, int[] ids, double[] latitudes, double[] longitudes, int length, List<Integer> out) {
+        DoubleVector centerLat = DoubleVector.broadcast(SPECIES, query.latitude());
+        DoubleVector centerLon = DoubleVector.broadcast(SPECIES, query.longitude());
+        double cosMax2 = query.cosMaxSquared();
+        double cosMin2 = query.cosMinSquared();
+        double accept2 = query.acceptSquared();
+        double reject2 = query.rejectSquared();
+
+        int lanes = SPECIES.length();
+        int upper = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < upper; i += lanes) {
+            DoubleVector dLat = DoubleVector.fromArray(SPECIES, latitudes, i).sub(centerLat);
+            DoubleVector dLon = DoubleVector.fromArray(SPECIES, longitudes, i).sub(centerLon);
+            DoubleVector dLat2 = dLat.mul(dLat);
+            DoubleVector dLon2 = dLon.mul(dLon);
+
+            VectorMask<Double> accepted = dLon2.mul(cosMax2).add(dLat2).compare(VectorOperators.LE, accept2);
+            VectorMask<Double> undecided = dLon2.mul(cosMin2).add(dLat2).compare(VectorOperators.LE, reject2)
+                    .andNot(accepted);
+            if (!accepted.anyTrue() && !undecided.anyTrue()) {
+                continue;
+            }
+            for (int lane = 0; lane < lanes; lane++) {
+                if (accepted.laneIsSet(lane)) {
+                    out.add(ids[i + lane]);
+                } else if (undecided.laneIsSet(lane) && query.contains(latitudes[i + lane], longitudes[i + lane])) {
+                    out.add(ids[i + lane]);
+                }
+            }
+        }
+
+        // 레인 수로 나누어떨어지지 않는 나머지는 스칼라로 처리
+        for (; i < length; i++) {
+            double dLat = latitudes[i] - query.latitude();
+            double dLon = longitudes[i] - query.longitude();
+            double dLat2 = dLat * dLat;
+            double dLon2 = dLon * dLon;
+            if (dLat2 + dLon2 * cosMax2 <= accept2) {
+                out.add(ids[i]);
+            } else if (dLat2 + dLon2 * cosMin2 <= reject2 && query.contains(latitudes[i], longitudes[i])) {
+                out.add(ids[i]);
+            }
+        }
+    }
+}
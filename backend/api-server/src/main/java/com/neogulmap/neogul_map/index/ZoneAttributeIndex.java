@@ -0,0 +1,293 @@
+package com.neogulmap.neogul_map.index;
+
+import com.neogulmap.neogul_map.domain.Zone;
+import com.neogulmap.neogul_map.dto.ZoneFacetCount;
+import com.neogulmap.neogul_map.dto.ZoneFilter;
+import com.neogulmap.neogul_map.dto.ZoneText;
+import com.neogulmap.neogul_map.event.ZoneChangedEvent;
+import com.neogulmap.neogul_map.repository.ZoneRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 저카디널리티 속성(region, type, subtype, size) 비트맵 인덱스
+ *
+ * 속성의 서로 다른 값마다 해당 Zone ID 압축 비트맵을 둔다. 필터 값은 기존 검색과 같이
+ * 대소문자 무시 부분 문자열이므로, 필터를 포함하는 값들의 비트맵을 OR 한 뒤 속성 간에는 AND 한다.
+ * 값 종류가 적어 필터 판정과 패싯 집계 모두 Zone 수가 아니라 값 종류 수에 비례한 비트맵 연산으로 끝난다.
+ *
+ * 상태는 불변 스냅샷으로 두고 쓰기 때마다 바뀐 값의 비트맵만 교체한 새 스냅샷으로 바꾼다 (읽기는 락 없음).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ZoneAttributeIndex implements ZoneIndex {
+
+    /**
+     * 비트맵으로 색인하는 속성
+     */
+    public enum Attribute {
+        REGION(Zone::getRegion, ZoneText::region, ZoneFilter::region),
+        TYPE(Zone::getType, ZoneText::type, ZoneFilter::type),
+        SUBTYPE(Zone::getSubtype, ZoneText::subtype, ZoneFilter::subtype),
+        SIZE(Zone::getSize, ZoneText::size, ZoneFilter::size);
+
+        private final Function<Zone, String> zoneValue;
+        private final Function<ZoneText, String> textValue;
+        private final Function<ZoneFilter, String> filterValue;
+
+        Attribute(Function<Zone, String> zoneValue, Function<ZoneText, String> textValue,
+                  Function<ZoneFilter, String> filterValue) {
+            this.zoneValue = zoneValue;
+            this.textValue = textValue;
+            this.filterValue = filterValue;
+        }
+
+        public String key() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private static final Attribute[] ATTRIBUTES = Attribute.values();
+
+    private final ZoneRepository zoneRepository;
+
+    private volatile Snapshot snapshot = null;
+
+    // Zone ID → 색인된 속성 값 (Attribute 순서) - 같은 이벤트 중복 반영 시에도 비트맵이 어긋나지 않도록 보관
+    private Map<Integer, String[]> indexedValues = new HashMap<>();
+
+    // 쓰기 작업 직렬화용 락
+    private final Object writeLock = new Object();
+
+    @Override
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        synchronized (writeLock) {
+            long start = System.currentTimeMillis();
+            List<ZoneText> texts = zoneRepository.findAllTexts();
+
+            // 값별 ID 목록을 모은 뒤 한 번에 비트맵으로 변환 (ID 오름차순)
+            Map<Integer, String[]> values = new HashMap<>(texts.size() * 2);
+            List<Map<String, List<Integer>>> building = new ArrayList<>();
+            List<Map<String, String>> displays = new ArrayList<>();
+            for (int i = 0; i < ATTRIBUTES.length; i++) {
+                building.add(new HashMap<>());
+                displays.add(new HashMap<>());
+            }
+            int[] allIds = new int[texts.size()];
+            for (int z = 0; z < texts.size(); z++) {
+                ZoneText text = texts.get(z);
+                String[] zoneValues = new String[ATTRIBUTES.length];
+                for (int i = 0; i < ATTRIBUTES.length; i++) {
+                    zoneValues[i] = ATTRIBUTES[i].textValue.apply(text);
+                }
+                values.put(text.id(), zoneValues);
+                allIds[z] = text.id();
+                for (int i = 0; i < ATTRIBUTES.length; i++) {
+                    if (zoneValues[i] != null) {
+                        String key = normalize(zoneValues[i]);
+                        building.get(i).computeIfAbsent(key, k -> new ArrayList<>()).add(text.id());
+                        displays.get(i).putIfAbsent(key, zoneValues[i]);
+                    }
+                }
+            }
+
+            Map<Attribute, Map<String, ValueBitmap>> bitmaps = new EnumMap<>(Attribute.class);
+            int valueCount = 0;
+            for (int i = 0; i < ATTRIBUTES.length; i++) {
+                Map<String, ValueBitmap> attributeBitmaps = new HashMap<>();
+                for (Map.Entry<String, List<Integer>> entry : building.get(i).entrySet()) {
+                    int[] ids = entry.getValue().stream().mapToInt(Integer::intValue).toArray();
+                    attributeBitmaps.put(entry.getKey(),
+                            new ValueBitmap(displays.get(i).get(entry.getKey()), ZoneBitmap.of(ids, ids.length)));
+                }
+                bitmaps.put(ATTRIBUTES[i], attributeBitmaps);
+                valueCount += attributeBitmaps.size();
+            }
+            this.snapshot = new Snapshot(ZoneBitmap.of(allIds, allIds.length), bitmaps);
+            this.indexedValues = values;
+
+            log.info("속성 비트맵 인덱스 구성 완료 - Zone {}개, 속성 값 {}개, {}ms",
+                    texts.size(), valueCount, System.currentTimeMillis() - start);
+        }
+    }
+
+    @Override
+    public void apply(ZoneChangedEvent event) {
+        synchronized (writeLock) {
+            Snapshot current = snapshot;
+            if (current == null) {
+                return; // 아직 구성 전이면 rebuild 시 DB에서 함께 읽힘
+            }
+            int zoneId = event.getZoneId();
+            ZoneBitmap all = current.all();
+            Map<Attribute, Map<String, ValueBitmap>> bitmaps = new EnumMap<>(Attribute.class);
+            for (Attribute attribute : ATTRIBUTES) {
+                bitmaps.put(attribute, new HashMap<>(current.bitmaps().get(attribute)));
+            }
+
+            String[] stale = indexedValues.remove(zoneId);
+            if (stale != null) {
+                all = all.without(zoneId);
+                for (int i = 0; i < ATTRIBUTES.length; i++) {
+                    if (stale[i] != null) {
+                        bitmaps.get(ATTRIBUTES[i]).computeIfPresent(normalize(stale[i]), (key, value) -> {
+                            ZoneBitmap removed = value.bitmap().without(zoneId);
+                            return removed.cardinality() == 0 ? null : new ValueBitmap(value.display(), removed);
+                        });
+                    }
+                }
+            }
+            Zone zone = event.getCurrent();
+            if (zone != null) {
+                String[] fresh = valuesOf(zone);
+                all = all.with(zoneId);
+                for (int i = 0; i < ATTRIBUTES.length; i++) {
+                    if (fresh[i] != null) {
+                        String display = fresh[i];
+                        bitmaps.get(ATTRIBUTES[i]).merge(normalize(display),
+                                new ValueBitmap(display, ZoneBitmap.EMPTY.with(zoneId)),
+                                (value, added) -> new ValueBitmap(value.display(), value.bitmap().with(zoneId)));
+                    }
+                }
+                indexedValues.put(zoneId, fresh);
+            }
+            this.snapshot = new Snapshot(all, bitmaps);
+        }
+    }
+
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    /**
+     * ZoneFilter에 지정된 속성 필터 (값이 비어 있으면 제외)
+     */
+    public static Map<Attribute, String> filtersOf(ZoneFilter filter) {
+        Map<Attribute, String> filters = new EnumMap<>(Attribute.class);
+        for (Attribute attribute : ATTRIBUTES) {
+            String value = attribute.filterValue.apply(filter);
+            if (value != null && !value.trim().isEmpty()) {
+                filters.put(attribute, value);
+            }
+        }
+        return filters;
+    }
+
+    /**
+     * 속성 필터를 모두 만족하는 Zone 수
+     */
+    public int count(Map<Attribute, String> filters) {
+        Snapshot current = snapshot;
+        return current == null ? 0 : current.match(filters, null).cardinality();
+    }
+
+    /**
+     * 속성 필터를 모두 만족하는 Zone ID (오름차순)
+     */
+    public List<Integer> findIds(Map<Attribute, String> filters) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return new ArrayList<>();
+        }
+        int[] ids = current.match(filters, null).toArray();
+        List<Integer> result = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            result.add(id);
+        }
+        return result;
+    }
+
+    /**
+     * 속성별 값 분포 (Zone 수 내림차순, 같으면 값 오름차순, 0건 값 제외)
+     * 각 속성의 분포에는 그 속성 자신의 필터를 빼고 나머지 필터만 적용한다 -
+     * 이미 고른 칩 외에 다른 값을 골랐을 때의 건수를 보여 주기 위함
+     *
+     * @return 속성 키(region, type, subtype, size) → 값별 Zone 수
+     */
+    public Map<String, List<ZoneFacetCount>> facets(Map<Attribute, String> filters) {
+        Snapshot current = snapshot;
+        Map<String, List<ZoneFacetCount>> facets = new LinkedHashMap<>();
+        if (current == null) {
+            return facets;
+        }
+        for (Attribute attribute : ATTRIBUTES) {
+            ZoneBitmap base = current.match(filters, attribute);
+            List<ZoneFacetCount> counts = new ArrayList<>();
+            for (ValueBitmap value : current.bitmaps().get(attribute).values()) {
+                int count = value.bitmap().andCardinality(base);
+                if (count > 0) {
+                    counts.add(new ZoneFacetCount(value.display(), count));
+                }
+            }
+            counts.sort(Comparator.comparingInt(ZoneFacetCount::count).reversed()
+                    .thenComparing(ZoneFacetCount::value));
+            facets.put(attribute.key(), Collections.unmodifiableList(counts));
+        }
+        return facets;
+    }
+
+    private static String[] valuesOf(Zone zone) {
+        String[] values = new String[ATTRIBUTES.length];
+        for (int i = 0; i < ATTRIBUTES.length; i++) {
+            values[i] = ATTRIBUTES[i].zoneValue.apply(zone);
+        }
+        return values;
+    }
+
+    private static String normalize(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 값의 표시용 문자열과 Zone ID 비트맵
+     */
+    private record ValueBitmap(String display, ZoneBitmap bitmap) {
+    }
+
+    /**
+     * 인덱스 스냅샷 (불변)
+     */
+    private record Snapshot(ZoneBitmap all, Map<Attribute, Map<String, ValueBitmap>> bitmaps) {
+
+        /**
+         * 필터 판정 - 속성 안에서는 필터를 포함하는 값들의 OR, 속성 간에는 AND
+         *
+         * @param excluded 판정에서 뺄 속성 (없으면 null)
+         */
+        ZoneBitmap match(Map<Attribute, String> filters, Attribute excluded) {
+            ZoneBitmap result = all;
+            for (Map.Entry<Attribute, String> filter : filters.entrySet()) {
+                if (filter.getKey() == excluded) {
+                    continue;
+                }
+                String needle = filter.getValue().trim().toLowerCase(Locale.ROOT);
+                ZoneBitmap matched = ZoneBitmap.EMPTY;
+                for (Map.Entry<String, ValueBitmap> value : bitmaps.get(filter.getKey()).entrySet()) {
+                    if (value.getKey().contains(needle)) {
+                        matched = matched.or(value.getValue().bitmap());
+                    }
+                }
+                result = result.and(matched);
+                if (result.cardinality() == 0) {
+                    break;
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,458 @@
+package com.neogulmap.neogul_map.index;
+
+import java.util.Arrays;
+
+/**
+ * Roaring 방식 압축 비트맵 (불변, 0 이상 Zone ID 집합)
+ *
+ * ID의 상위 16비트별로 컨테이너를 두고, 컨테이너는 원소 수에 따라
+ * 정렬된 char 배열(4096개 이하) 또는 65536비트 비트맵(long 1024개)으로 저장한다.
+ * 집합 연산은 컨테이너 종류 조합별로 처리하며, 결과는 항상 새 객체로 반환한다.
+ */
+final class ZoneBitmap {
+
+    static final ZoneBitmap EMPTY = new ZoneBitmap(new char[0], new Container[0]);
+
+    // 배열 컨테이너 최대 크기 - 넘으면 비트맵 컨테이너가 더 작음 (4096 × 2바이트 = 8KB)
+    private static final int ARRAY_MAX = 4096;
+
+    private final char[] keys;               // 상위 16비트, 오름차순
+    private final Container[] containers;
+    private final int cardinality;
+
+    private ZoneBitmap(char[] keys, Container[] containers) {
+        this.keys = keys;
+        this.containers = containers;
+        int total = 0;
+        for (Container container : containers) {
+            total += container.cardinality();
+        }
+        this.cardinality = total;
+    }
+
+    /**
+     * 오름차순, 중복 없는 ID 배열의 앞 length개로 생성
+     */
+    static ZoneBitmap of(int[] ids, int length) {
+        char[] keys = new char[length];
+        Container[] containers = new Container[length];
+        int size = 0;
+        int start = 0;
+        while (start < length) {
+            char key = high(ids[start]);
+            int end = start;
+            while (end < length && high(ids[end]) == key) {
+                end++;
+            }
+            char[] values = new char[end - start];
+            for (int i = start; i < end; i++) {
+                values[i - start] = low(ids[i]);
+            }
+            keys[size] = key;
+            containers[size++] = ArrayContainer.of(values, values.length);
+            start = end;
+        }
+        return new ZoneBitmap(Arrays.copyOf(keys, size), Arrays.copyOf(containers, size));
+    }
+
+    int cardinality() {
+        return cardinality;
+    }
+
+    boolean contains(int id) {
+        int index = Arrays.binarySearch(keys, high(id));
+        return index >= 0 && containers[index].contains(low(id));
+    }
+
+    ZoneBitmap with(int id) {
+        char key = high(id);
+        int index = Arrays.binarySearch(keys, key);
+        if (index >= 0) {
+            Container updated = containers[index].add(low(id));
+            if (updated == containers[index]) {
+                return this;
+            }
+            Container[] nextContainers = containers.clone();
+            nextContainers[index] = updated;
+            return new ZoneBitmap(keys, nextContainers);
+        }
+        int insert = -index - 1;
+        char[] nextKeys = new char[keys.length + 1];
+        Container[] nextContainers = new Container[containers.length + 1];
+        System.arraycopy(keys, 0, nextKeys, 0, insert);
+        System.arraycopy(containers, 0, nextContainers, 0, insert);
+        nextKeys[insert] = key;
+        nextContainers[insert] = ArrayContainer.of(new char[]{low(id)}, 1);
+        System.arraycopy(keys, insert, nextKeys, insert + 1, keys.length - insert);
+        System.arraycopy(containers, insert, nextContainers, insert + 1, containers.length - insert);
+        return new ZoneBitmap(nextKeys, nextContainers);
+    }
+
+    ZoneBitmap without(int id) {
+        int index = Arrays.binarySearch(keys, high(id));
+        if (index < 0) {
+            return this;
+        }
+        Container updated = containers[index].remove(low(id));
+        if (updated == containers[index]) {
+            return this;
+        }
+        if (updated.cardinality() > 0) {
+            Container[] nextContainers = containers.clone();
+            nextContainers[index] = updated;
+            return new ZoneBitmap(keys, nextContainers);
+        }
+        char[] nextKeys = new char[keys.length - 1];
+        Container[] nextContainers = new Container[containers.length - 1];
+        System.arraycopy(keys, 0, nextKeys, 0, index);
+        System.arraycopy(containers, 0, nextContainers, 0, index);
+        System.arraycopy(keys, index + 1, nextKeys, index, keys.length - index - 1);
+        System.arraycopy(containers, index + 1, nextContainers, index, containers.length - index - 1);
+        return new ZoneBitmap(nextKeys, nextContainers);
+    }
+
+    ZoneBitmap and(ZoneBitmap other) {
+        int capacity = Math.min(keys.length, other.keys.length);
+        char[] nextKeys = new char[capacity];
+        Container[] nextContainers = new Container[capacity];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < keys.length && j < other.keys.length) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                Container result = containers[i].and(other.containers[j]);
+                if (result.cardinality() > 0) {
+                    nextKeys[size] = keys[i];
+                    nextContainers[size++] = result;
+                }
+                i++;
+                j++;
+            }
+        }
+        return new ZoneBitmap(Arrays.copyOf(nextKeys, size), Arrays.copyOf(nextContainers, size));
+    }
+
+    ZoneBitmap or(ZoneBitmap other) {
+        char[] nextKeys = new char[keys.length + other.keys.length];
+        Container[] nextContainers = new Container[keys.length + other.keys.length];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < keys.length || j < other.keys.length) {
+            if (j == other.keys.length || (i < keys.length && keys[i] < other.keys[j])) {
+                nextKeys[size] = keys[i];
+                nextContainers[size++] = containers[i++];
+            } else if (i == keys.length || keys[i] > other.keys[j]) {
+                nextKeys[size] = other.keys[j];
+                nextContainers[size++] = other.containers[j++];
+            } else {
+                nextKeys[size] = keys[i];
+                nextContainers[size++] = containers[i++].or(other.containers[j++]);
+            }
+        }
+        return new ZoneBitmap(Arrays.copyOf(nextKeys, size), Arrays.copyOf(nextContainers, size));
+    }
+
+    /**
+     * 교집합 크기 (결과 비트맵을 만들지 않음 - 패싯 집계용)
+     */
+    int andCardinality(ZoneBitmap other) {
+        int total = 0;
+        int i = 0;
+        int j = 0;
+        while (i < keys.length && j < other.keys.length) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                total += containers[i++].andCardinality(other.containers[j++]);
+            }
+        }
+        return total;
+    }
+
+    /**
+     * 오름차순 ID 배열
+     */
+    int[] toArray() {
+        int[] ids = new int[cardinality];
+        int position = 0;
+        for (int i = 0; i < keys.length; i++) {
+            position = containers[i].fill(keys[i] << 16, ids, position);
+        }
+        return ids;
+    }
+
+    private static char high(int id) {
+        return (char) (id >>> 16);
+    }
+
+    private static char low(int id) {
+        return (char) id;
+    }
+
+    /**
+     * 상위 16비트가 같은 하위 16비트 값 집합
+     */
+    private sealed interface Container permits ArrayContainer, BitmapContainer {
+        int cardinality();
+
+        boolean contains(char value);
+
+        Container add(char value);
+
+        Container remove(char value);
+
+        Container and(Container other);
+
+        Container or(Container other);
+
+        int andCardinality(Container other);
+
+        int fill(int base, int[] out, int position);
+    }
+
+    /**
+     * 정렬된 char 배열 컨테이너 (원소 4096개 이하)
+     */
+    private record ArrayContainer(char[] values) implements Container {
+
+        static Container of(char[] values, int length) {
+            if (length > ARRAY_MAX) {
+                return BitmapContainer.of(values, length);
+            }
+            return new ArrayContainer(length == values.length ? values : Arrays.copyOf(values, length));
+        }
+
+        @Override
+        public int cardinality() {
+            return values.length;
+        }
+
+        @Override
+        public boolean contains(char value) {
+            return Arrays.binarySearch(values, value) >= 0;
+        }
+
+        @Override
+        public Container add(char value) {
+            int index = Arrays.binarySearch(values, value);
+            if (index >= 0) {
+                return this;
+            }
+            int insert = -index - 1;
+            char[] next = new char[values.length + 1];
+            System.arraycopy(values, 0, next, 0, insert);
+            next[insert] = value;
+            System.arraycopy(values, insert, next, insert + 1, values.length - insert);
+            return of(next, next.length);
+        }
+
+        @Override
+        public Container remove(char value) {
+            int index = Arrays.binarySearch(values, value);
+            if (index < 0) {
+                return this;
+            }
+            char[] next = new char[values.length - 1];
+            System.arraycopy(values, 0, next, 0, index);
+            System.arraycopy(values, index + 1, next, index, values.length - index - 1);
+            return new ArrayContainer(next);
+        }
+
+        @Override
+        public Container and(Container other) {
+            char[] result = new char[values.length];
+            int size = 0;
+            if (other instanceof ArrayContainer array) {
+                int i = 0;
+                int j = 0;
+                while (i < values.length && j < array.values.length) {
+                    if (values[i] < array.values[j]) {
+                        i++;
+                    } else if (values[i] > array.values[j]) {
+                        j++;
+                    } else {
+                        result[size++] = values[i];
+                        i++;
+                        j++;
+                    }
+                }
+            } else {
+                for (char value : values) {
+                    if (other.contains(value)) {
+                        result[size++] = value;
+                    }
+                }
+            }
+            return new ArrayContainer(Arrays.copyOf(result, size));
+        }
+
+        @Override
+        public Container or(Container other) {
+            if (other instanceof BitmapContainer bitmap) {
+                return bitmap.or(this);
+            }
+            char[] otherValues = ((ArrayContainer) other).values;
+            char[] result = new char[values.length + otherValues.length];
+            int size = 0;
+            int i = 0;
+            int j = 0;
+            while (i < values.length || j < otherValues.length) {
+                if (j == otherValues.length || (i < values.length && values[i] < otherValues[j])) {
+                    result[size++] = values[i++];
+                } else if (i == values.length || values[i] > otherValues[j]) {
+                    result[size++] = otherValues[j++];
+                } else {
+                    result[size++] = values[i];
+                    i++;
+                    j++;
+                }
+            }
+            return of(result, size);
+        }
+
+        @Override
+        public int andCardinality(Container other) {
+            int count = 0;
+            for (char value : values) {
+                if (other.contains(value)) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        @Override
+        public int fill(int base, int[] out, int position) {
+            for (char value : values) {
+                out[position++] = base | value;
+            }
+            return position;
+        }
+    }
+
+    /**
+     * 65536비트 비트맵 컨테이너 (원소 4096개 초과)
+     */
+    private record BitmapContainer(long[] words, int cardinality) implements Container {
+
+        static BitmapContainer of(char[] values, int length) {
+            long[] words = new long[1024];
+            for (int i = 0; i < length; i++) {
+                words[values[i] >>> 6] |= 1L << values[i];
+            }
+            return new BitmapContainer(words, length);
+        }
+
+        @Override
+        public boolean contains(char value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        public Container add(char value) {
+            if (contains(value)) {
+                return this;
+            }
+            long[] next = words.clone();
+            next[value >>> 6] |= 1L << value;
+            return new BitmapContainer(next, cardinality + 1);
+        }
+
+        @Override
+        public Container remove(char value) {
+            if (!contains(value)) {
+                return this;
+            }
+            long[] next = words.clone();
+            next[value >>> 6] &= ~(1L << value);
+            return shrink(next, cardinality - 1);
+        }
+
+        @Override
+        public Container and(Container other) {
+            if (other instanceof ArrayContainer array) {
+                return array.and(this);
+            }
+            long[] otherWords = ((BitmapContainer) other).words;
+            long[] next = new long[1024];
+            int count = 0;
+            for (int i = 0; i < next.length; i++) {
+                next[i] = words[i] & otherWords[i];
+                count += Long.bitCount(next[i]);
+            }
+            return shrink(next, count);
+        }
+
+        @Override
+        public Container or(Container other) {
+            long[] next = words.clone();
+            int count = cardinality;
+            if (other instanceof ArrayContainer array) {
+                for (char value : array.values()) {
+                    long bit = 1L << value;
+                    if ((next[value >>> 6] & bit) == 0) {
+                        next[value >>> 6] |= bit;
+                        count++;
+                    }
+                }
+            } else {
+                long[] otherWords = ((BitmapContainer) other).words;
+                count = 0;
+                for (int i = 0; i < next.length; i++) {
+                    next[i] |= otherWords[i];
+                    count += Long.bitCount(next[i]);
+                }
+            }
+            return new BitmapContainer(next, count);
+        }
+
+        @Override
+        public int andCardinality(Container other) {
+            if (other instanceof ArrayContainer array) {
+                return array.andCardinality(this);
+            }
+            long[] otherWords = ((BitmapContainer) other).words;
+            int count = 0;
+            for (int i = 0; i < words.length; i++) {
+                count += Long.bitCount(words[i] & otherWords[i]);
+            }
+            return count;
+        }
+
+        @Override
+        public int fill(int base, int[] out, int position) {
+            for (int i = 0; i < words.length; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    out[position++] = base | (i << 6) | Long.numberOfTrailingZeros(word);
+                    word &= word - 1;
+                }
+            }
+            return position;
+        }
+
+        // 원소가 줄어 배열 컨테이너가 더 작아지면 변환
+        private static Container shrink(long[] words, int cardinality) {
+            if (cardinality > ARRAY_MAX) {
+                return new BitmapContainer(words, cardinality);
+            }
+            char[] values = new char[cardinality];
+            int position = 0;
+            for (int i = 0; i < words.length; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    values[position++] = (char) ((i << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            return new ArrayContainer(values);
+        }
+    }
+}
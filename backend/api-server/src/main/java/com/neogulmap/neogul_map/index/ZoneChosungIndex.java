@@ -0,0 +1,225 @@
+package com.neogulmap.neogul_map.index;
+
+import com.neogulmap.neogul_map.domain.Zone;
+import com.neogulmap.neogul_map.dto.ZoneSuggestion;
+import com.neogulmap.neogul_map.event.ZoneChangedEvent;
+import com.neogulmap.neogul_map.util.HangulUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import static com.neogulmap.neogul_map.index.ZoneTextStore.Text.ADDRESS;
+import static com.neogulmap.neogul_map.index.ZoneTextStore.Text.DESCRIPTION;
+import static com.neogulmap.neogul_map.index.ZoneTextStore.Text.REGION;
+
+/**
+ * 초성 검색 인덱스 (예: "ㄱㄴㅇ" → 강남역)
+ *
+ * address, region, description의 한글 음절을 초성으로 바꾼 문자열로 bigram/trigram(한 글자 검색어는 unigram)
+ * 역색인을 만들어 후보를 좁히고, ZoneTextStore의 정규화 원문을 HangulUtil 규칙으로 최종 판정한다.
+ * 초성과 완성 음절이 섞인 검색어("강ㄴㅇ")도 원문으로 판정하므로 findMatches() 결과는 DB 확인이 필요 없다.
+ *
+ * 역색인과 색인한 시점의 원문 참조는 하나의 불변 스냅샷으로 두고 쓰기 때마다 바뀐 부분만 교체한 새 스냅샷으로 바꾼다 (읽기는 락 없음).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ZoneChosungIndex implements ZoneIndex {
+
+    private final ZoneTextStore zoneTextStore;
+
+    private volatile Snapshot snapshot = null;
+
+    // 쓰기 작업 직렬화용 락
+    private final Object writeLock = new Object();
+
+    @Override
+    public void rebuild() {
+        synchronized (writeLock) {
+            long start = System.currentTimeMillis();
+            List<ZoneTextStore.Text> texts = zoneTextStore.all();
+
+            NgramIndex.Builder builder = new NgramIndex.Builder();
+            Map<Integer, ZoneTextStore.Text> built = new HashMap<>(texts.size() * 2);
+            for (ZoneTextStore.Text text : texts) {
+                builder.add(text.id(), grams(text));
+                built.put(text.id(), text);
+            }
+            NgramIndex builtIndex = builder.build();
+            this.snapshot = new Snapshot(builtIndex, OverlayMap.of(built));
+
+            log.info("초성 인덱스 구성 완료 - Zone {}개, n-gram {}개, {}ms",
+                    texts.size(), builtIndex.gramCount(), System.currentTimeMillis() - start);
+        }
+    }
+
+    @Override
+    public void apply(ZoneChangedEvent event) {
+        synchronized (writeLock) {
+            Snapshot current = snapshot;
+            if (current == null) {
+                return; // 아직 구성 전이면 rebuild 시 DB에서 함께 읽힘
+            }
+            int zoneId = event.getZoneId();
+
+            // 색인한 원문 기준으로 n-gram을 교체하므로 같은 이벤트를 중복 반영해도 안전
+            ZoneTextStore.Text stale = current.texts().get(zoneId);
+            ZoneTextStore.Text fresh = zoneTextStore.get(zoneId);
+            Map<Integer, ZoneTextStore.Text> changed = new HashMap<>();
+            changed.put(zoneId, fresh);
+
+            // 역색인과 원문을 한 스냅샷으로 교체 - 읽는 쪽은 항상 같은 시점의 둘을 봄
+            this.snapshot = new Snapshot(current.index().update(zoneId, grams(stale), grams(fresh)),
+                    current.texts().with(changed));
+        }
+    }
+
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    /**
+     * 초성이 섞인 검색어와 맞는 Zone ID (오름차순, 최종 판정까지 완료 - matches()와 같은 규칙)
+     *
+     * @param prefix true면 필드 시작 부분만 일치 (자동완성용), false면 부분 문자열
+     */
+    public List<Integer> findMatches(String keyword, boolean prefix) {
+        return findMatches(keyword, prefix, Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    /**
+     * afterId 다음부터 초성이 섞인 검색어와 맞는 Zone ID (오름차순 최대 limit개 - 키셋 페이지네이션용)
+     */
+    public List<Integer> findMatches(String keyword, boolean prefix, int afterId, int limit) {
+        Snapshot current = snapshot;
+        List<Integer> result = new ArrayList<>();
+        if (current == null) {
+            return result;
+        }
+
+        String normalized = keyword.trim().toLowerCase(Locale.ROOT);
+        String query = HangulUtil.toChosung(normalized);
+        if (query.length() < NgramIndex.MIN_QUERY_LENGTH) {
+            return result;
+        }
+        int[] candidates = current.index().findCandidates(query);
+        int start = Arrays.binarySearch(candidates, afterId);
+        start = start >= 0 ? start + 1 : -start - 1;
+        for (int i = start; i < candidates.length && result.size() < limit; i++) {
+            ZoneTextStore.Text text = current.texts().get(candidates[i]);
+            if (text != null && matches(text, normalized, prefix)) {
+                result.add(candidates[i]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 초성 접두어 자동완성 - 접두어로 시작하는 주소/지역 원문을 Zone 수 내림차순으로 (같으면 문자열 순)
+     * 스냅샷에 있는 원문으로 집계하므로 DB를 읽지 않는다.
+     */
+    public List<ZoneSuggestion> suggest(String prefix, int limit) {
+        Snapshot current = snapshot;
+        String query = toQuery(prefix);
+        if (current == null || query.length() < NgramIndex.MIN_QUERY_LENGTH) {
+            return List.of();
+        }
+
+        String keyword = prefix.strip();
+        Map<String, Integer> counts = new HashMap<>();
+        for (int zoneId : current.index().findCandidates(query)) {
+            ZoneTextStore.Text text = current.texts().get(zoneId);
+            if (text == null) {
+                continue;
+            }
+            String address = text.original(ADDRESS);
+            String region = text.original(REGION);
+            boolean addressMatches = address != null && HangulUtil.startsWithChosung(address, keyword);
+            if (addressMatches) {
+                counts.merge(address, 1, Integer::sum);
+            }
+            // 주소와 지역이 같은 Zone은 한 번만 집계
+            if (region != null && !(addressMatches && region.equals(address))
+                    && HangulUtil.startsWithChosung(region, keyword)) {
+                counts.merge(region, 1, Integer::sum);
+            }
+        }
+        return counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(limit)
+                .map(entry -> new ZoneSuggestion(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    /**
+     * 후보 수 추정 (구성 전이거나 검색어가 비어 있으면 -1)
+     */
+    public int estimateCandidates(String keyword) {
+        Snapshot current = snapshot;
+        String query = toQuery(keyword);
+        if (current == null || query.length() < NgramIndex.MIN_QUERY_LENGTH) {
+            return -1;
+        }
+        return current.index().estimateCandidates(query);
+    }
+
+    /**
+     * Zone이 초성 검색어와 맞는지 최종 판정 (address, region, description)
+     */
+    public static boolean matches(Zone zone, String keyword) {
+        String normalized = keyword.trim();
+        for (String field : new String[]{zone.getAddress(), zone.getRegion(), zone.getDescription()}) {
+            if (field != null && HangulUtil.matchesChosung(field, normalized)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean matches(ZoneTextStore.Text text, String keyword, boolean prefix) {
+        for (String field : fields(text)) {
+            if (field != null && (prefix ? HangulUtil.startsWithChosung(field, keyword)
+                    : HangulUtil.matchesChosung(field, keyword))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String toQuery(String keyword) {
+        return HangulUtil.toChosung(keyword.trim().toLowerCase(Locale.ROOT));
+    }
+
+    // 초성 검색 대상 필드 (정규화 원문)
+    private static String[] fields(ZoneTextStore.Text text) {
+        return new String[]{text.normalized(ADDRESS), text.normalized(REGION), text.normalized(DESCRIPTION)};
+    }
+
+    // 정규화 원문의 필드별 초성 n-gram
+    private static Set<Long> grams(ZoneTextStore.Text text) {
+        if (text == null) {
+            return Set.of();
+        }
+        String[] fields = fields(text);
+        String[] chosung = new String[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            chosung[i] = fields[i] == null ? null : HangulUtil.toChosung(fields[i]);
+        }
+        return NgramIndex.grams(chosung);
+    }
+
+    /**
+     * 인덱스 스냅샷 (불변) - 초성 n-gram 포스팅과 색인한 시점의 Zone별 텍스트 (ZoneTextStore와 같은 객체)
+     */
+    private record Snapshot(NgramIndex index, OverlayMap<Integer, ZoneTextStore.Text> texts) {
+    }
+}
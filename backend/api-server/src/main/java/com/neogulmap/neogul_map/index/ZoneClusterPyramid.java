@@ -0,0 +1,318 @@
+package com.neogulmap.neogul_map.index;
+
+import com.neogulmap.neogul_map.config.RadiusLevel;
+import com.neogulmap.neogul_map.domain.Zone;
+import com.neogulmap.neogul_map.dto.ZoneCluster;
+import com.neogulmap.neogul_map.dto.ZonePoint;
+import com.neogulmap.neogul_map.event.ZoneChangedEvent;
+import com.neogulmap.neogul_map.repository.ZoneRepository;
+import com.neogulmap.neogul_map.util.GeoUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Zone 클러스터 피라미드
+ * RadiusLevel 줌 레벨마다 격자 클러스터를 미리 계산해 두고, 넓은 영역 조회 시 클러스터만 반환
+ *
+ * 레벨별 셀 크기는 LEVEL_15에서 TOP_CELL_SIZE_DEG이고 한 단계 내려갈 때마다 절반이 되어
+ * 상위 셀 하나가 하위 셀 네 개로 정확히 나뉜다. 이를 이용해 확장 줌(expansion zoom)을 계산한다.
+ * Zone 변경 시에는 레벨마다 해당 셀의 합계만 갱신하므로 O(레벨 수)로 반영된다.
+ *
+ * 레벨별 셀 맵은 하나의 불변 스냅샷으로 두고 쓰기 때마다 바뀐 셀만 교체한 새 스냅샷으로 바꾼다 (읽기는 락 없음).
+ * Zone별로 반영된 좌표를 보관해 이전 좌표는 이벤트가 아니라 보관된 값에서 빼므로, 같은 이벤트를 두 번 반영하거나
+ * 커밋 직후 재구성이 이미 읽은 변경을 다시 반영해도 합계가 어긋나지 않는다.
+ */
+@Slf4j
+@Component
+public class ZoneClusterPyramid implements ZoneIndex {
+
+    // LEVEL_15(152km)의 셀 크기 (도 단위) - 반경 안에 약 10x10 셀이 들어가도록 설정
+    private static final double TOP_CELL_SIZE_DEG = 0.25;
+
+    private static final int MAX_LEVEL = RadiusLevel.LEVEL_15.getZoomLevel();
+
+    private final ZoneRepository zoneRepository;
+
+    // 클러스터를 유지하는 최소 줌 레벨 (이보다 좁은 영역은 개별 Zone 조회)
+    private final int minLevel;
+
+    // 레벨 → (셀 키 → 셀 합계)
+    private volatile Map<Integer, OverlayMap<Long, ClusterCell>> levels = null;
+
+    // Zone ID → 반영된 좌표 - 같은 이벤트 중복 반영 시에도 합계가 어긋나지 않도록 보관
+    private Map<Integer, Position> indexedPositions = new HashMap<>();
+
+    // 쓰기 작업 직렬화용 락
+    private final Object writeLock = new Object();
+
+    public ZoneClusterPyramid(ZoneRepository zoneRepository,
+                              @Value("${app.zone.cluster.min-zoom:9}") int minLevel) {
+        this.zoneRepository = zoneRepository;
+        this.minLevel = Math.max(RadiusLevel.LEVEL_1.getZoomLevel(), Math.min(minLevel, MAX_LEVEL));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        synchronized (writeLock) {
+            long start = System.currentTimeMillis();
+            List<ZonePoint> points = zoneRepository.findAllPoints();
+
+            Map<Integer, Map<Long, ClusterCell>> building = new HashMap<>();
+            for (int level = minLevel; level <= MAX_LEVEL; level++) {
+                building.put(level, new HashMap<>());
+            }
+            Map<Integer, Position> positions = new HashMap<>(points.size() * 2);
+            for (ZonePoint point : points) {
+                Position position = new Position(point.latitude().doubleValue(), point.longitude().doubleValue());
+                add(building, position, 1);
+                positions.put(point.id(), position);
+            }
+            Map<Integer, OverlayMap<Long, ClusterCell>> built = new HashMap<>();
+            building.forEach((level, cells) -> built.put(level, OverlayMap.of(cells)));
+            this.levels = built;
+            this.indexedPositions = positions;
+
+            log.info("클러스터 피라미드 구성 완료 - Zone {}개, 레벨 {}~{}, {}ms",
+                    points.size(), minLevel, MAX_LEVEL, System.currentTimeMillis() - start);
+        }
+    }
+
+    @Override
+    public void apply(ZoneChangedEvent event) {
+        synchronized (writeLock) {
+            Map<Integer, OverlayMap<Long, ClusterCell>> current = levels;
+            if (current == null) {
+                return; // 아직 구성 전이면 rebuild 시 DB에서 함께 읽힘
+            }
+            int zoneId = event.getZoneId();
+            Position stale = indexedPositions.get(zoneId);
+            Zone zone = event.getCurrent();
+            Position fresh = zone == null ? null
+                    : new Position(zone.getLatitude().doubleValue(), zone.getLongitude().doubleValue());
+            // 좌표가 바뀌지 않은 수정이나 이미 반영된 변경은 클러스터에 영향 없음
+            if (Objects.equals(stale, fresh)) {
+                return;
+            }
+
+            // 레벨별로 바뀐 셀만 모아 새 스냅샷 구성
+            Map<Integer, Map<Long, ClusterCell>> changes = new HashMap<>();
+            for (int level = minLevel; level <= MAX_LEVEL; level++) {
+                changes.put(level, new HashMap<>());
+            }
+            if (stale != null) {
+                addChange(current, changes, stale, -1);
+                indexedPositions.remove(zoneId);
+            }
+            if (fresh != null) {
+                addChange(current, changes, fresh, 1);
+                indexedPositions.put(zoneId, fresh);
+            }
+            Map<Integer, OverlayMap<Long, ClusterCell>> next = new HashMap<>();
+            current.forEach((level, cells) -> next.put(level, cells.with(changes.get(level))));
+            this.levels = next;
+        }
+    }
+
+    /**
+     * 클러스터를 제공하는 줌 레벨인지 확인
+     */
+    public boolean supports(int zoomLevel) {
+        return zoomLevel >= minLevel && zoomLevel <= MAX_LEVEL;
+    }
+
+    public int getMinLevel() {
+        return minLevel;
+    }
+
+    /**
+     * 중심점과 줌 레벨 반경 안의 클러스터 조회
+     *
+     * @param zoomLevel RadiusLevel 줌 레벨 (반경은 해당 레벨의 반경 사용)
+     * @return 반경 안에 중심점이 있는 클러스터 목록
+     */
+    public List<ZoneCluster> findClusters(double latitude, double longitude, int zoomLevel) {
+        List<ZoneCluster> result = new ArrayList<>();
+        Map<Integer, OverlayMap<Long, ClusterCell>> snapshot = levels;
+        if (snapshot == null || !supports(zoomLevel)) {
+            return result;
+        }
+
+        double radiusMeters = RadiusLevel.getRadiusByZoomLevel(zoomLevel);
+        double latDelta = GeoUtil.latitudeDelta(radiusMeters);
+        double lonDelta = GeoUtil.longitudeDelta(latitude, radiusMeters);
+        double cellSize = cellSize(zoomLevel);
+        int minRow = index(latitude - latDelta + 90.0, cellSize);
+        int maxRow = index(latitude + latDelta + 90.0, cellSize);
+        int minCol = index(longitude - lonDelta + 180.0, cellSize);
+        int maxCol = index(longitude + lonDelta + 180.0, cellSize);
+
+        OverlayMap<Long, ClusterCell> cells = snapshot.get(zoomLevel);
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int col = minCol; col <= maxCol; col++) {
+                ClusterCell cell = cells.get(key(row, col));
+                if (cell == null || cell.count <= 0) {
+                    continue;
+                }
+                double centerLat = cell.sumLatitude / cell.count;
+                double centerLon = cell.sumLongitude / cell.count;
+                if (GeoUtil.distanceMeters(latitude, longitude, centerLat, centerLon) <= radiusMeters) {
+                    result.add(new ZoneCluster(centerLat, centerLon, cell.count,
+                            expansionZoom(snapshot, zoomLevel, row, col)));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 영역 안의 클러스터 조회 - 영역을 덮는 해당 레벨 셀 중 중심점이 영역 안에 있는 것
+     * 덮는 셀 수가 채워진 셀 수보다 많으면 채워진 셀만 순회하므로 조회 비용은 둘 중 작은 쪽에 비례한다.
+     *
+     * @param zoomLevel RadiusLevel 줌 레벨
+     */
+    public List<ZoneCluster> findClustersWithinBounds(double minLat, double minLon, double maxLat, double maxLon,
+                                                      int zoomLevel) {
+        List<ZoneCluster> result = new ArrayList<>();
+        Map<Integer, OverlayMap<Long, ClusterCell>> snapshot = levels;
+        if (snapshot == null || !supports(zoomLevel)) {
+            return result;
+        }
+
+        double cellSize = cellSize(zoomLevel);
+        int minRow = index(minLat + 90.0, cellSize);
+        int maxRow = index(maxLat + 90.0, cellSize);
+        int minCol = index(minLon + 180.0, cellSize);
+        int maxCol = index(maxLon + 180.0, cellSize);
+
+        OverlayMap<Long, ClusterCell> cells = snapshot.get(zoomLevel);
+        long covering = (long) (maxRow - minRow + 1) * (maxCol - minCol + 1);
+        if (covering > cells.size()) {
+            cells.forEach((key, cell) -> {
+                int row = (int) (key >> 32);
+                int col = (int) (long) key;
+                if (row >= minRow && row <= maxRow && col >= minCol && col <= maxCol) {
+                    addIfWithin(result, snapshot, zoomLevel, row, col, cell, minLat, minLon, maxLat, maxLon);
+                }
+            });
+            return result;
+        }
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int col = minCol; col <= maxCol; col++) {
+                addIfWithin(result, snapshot, zoomLevel, row, col, cells.get(key(row, col)),
+                        minLat, minLon, maxLat, maxLon);
+            }
+        }
+        return result;
+    }
+
+    private void addIfWithin(List<ZoneCluster> result, Map<Integer, OverlayMap<Long, ClusterCell>> snapshot,
+                             int zoomLevel, int row, int col, ClusterCell cell,
+                             double minLat, double minLon, double maxLat, double maxLon) {
+        if (cell == null || cell.count <= 0) {
+            return;
+        }
+        double centerLat = cell.sumLatitude / cell.count;
+        double centerLon = cell.sumLongitude / cell.count;
+        if (centerLat >= minLat && centerLat <= maxLat && centerLon >= minLon && centerLon <= maxLon) {
+            result.add(new ZoneCluster(centerLat, centerLon, cell.count, expansionZoom(snapshot, zoomLevel, row, col)));
+        }
+    }
+
+    /**
+     * 클러스터가 둘 이상으로 나뉘는 가장 넓은 줌 레벨
+     * 최소 레벨까지 나뉘지 않으면 minLevel - 1 (개별 Zone 조회 레벨)을 반환
+     */
+    private int expansionZoom(Map<Integer, OverlayMap<Long, ClusterCell>> snapshot, int zoomLevel, int row, int col) {
+        int level = zoomLevel;
+        while (level > minLevel) {
+            OverlayMap<Long, ClusterCell> children = snapshot.get(level - 1);
+            int nonEmpty = 0;
+            int childRow = row;
+            int childCol = col;
+            for (int r = row * 2; r <= row * 2 + 1; r++) {
+                for (int c = col * 2; c <= col * 2 + 1; c++) {
+                    ClusterCell child = children.get(key(r, c));
+                    if (child != null && child.count > 0) {
+                        nonEmpty++;
+                        childRow = r;
+                        childCol = c;
+                    }
+                }
+            }
+            level--;
+            if (nonEmpty != 1) {
+                return level;
+            }
+            row = childRow;
+            col = childCol;
+        }
+        return Math.max(minLevel - 1, RadiusLevel.LEVEL_1.getZoomLevel());
+    }
+
+    // 구성 중인(공개 전) 레벨 맵에 바로 반영
+    private void add(Map<Integer, Map<Long, ClusterCell>> target, Position position, int delta) {
+        for (int level = minLevel; level <= MAX_LEVEL; level++) {
+            target.get(level).compute(cellKey(position, level),
+                    (key, cell) -> (cell == null ? ClusterCell.EMPTY : cell).plus(position, delta));
+        }
+    }
+
+    // 공개된 스냅샷은 그대로 두고 레벨별 변경 셀(null이면 삭제)에 누적
+    private void addChange(Map<Integer, OverlayMap<Long, ClusterCell>> current,
+                           Map<Integer, Map<Long, ClusterCell>> changes, Position position, int delta) {
+        for (int level = minLevel; level <= MAX_LEVEL; level++) {
+            long key = cellKey(position, level);
+            Map<Long, ClusterCell> levelChanges = changes.get(level);
+            ClusterCell base = levelChanges.containsKey(key) ? levelChanges.get(key) : current.get(level).get(key);
+            levelChanges.put(key, (base == null ? ClusterCell.EMPTY : base).plus(position, delta));
+        }
+    }
+
+    private static long cellKey(Position position, int level) {
+        double cellSize = cellSize(level);
+        return key(index(position.latitude() + 90.0, cellSize), index(position.longitude() + 180.0, cellSize));
+    }
+
+    // 레벨별 셀 크기 - 레벨이 하나 내려갈 때마다 절반
+    private static double cellSize(int level) {
+        return TOP_CELL_SIZE_DEG / (1L << (MAX_LEVEL - level));
+    }
+
+    private static int index(double offsetDegrees, double cellSize) {
+        return (int) Math.floor(offsetDegrees / cellSize);
+    }
+
+    private static long key(int row, int col) {
+        return ((long) row << 32) | (col & 0xffffffffL);
+    }
+
+    /**
+     * 셀 합계 (불변) - 중심점은 좌표 합 / 개수
+     */
+    private record ClusterCell(long count, double sumLatitude, double sumLongitude) {
+        static final ClusterCell EMPTY = new ClusterCell(0, 0.0, 0.0);
+
+        // 좌표 하나를 더하거나(delta = 1) 뺀 셀 - 비면 null
+        ClusterCell plus(Position position, int delta) {
+            ClusterCell next = new ClusterCell(count + delta,
+                    sumLatitude + position.latitude() * delta,
+                    sumLongitude + position.longitude() * delta);
+            return next.count <= 0 ? null : next;
+        }
+    }
+
+    /**
+     * 반영된 Zone 좌표
+     */
+    private record Position(double latitude, double longitude) {
+    }
+}
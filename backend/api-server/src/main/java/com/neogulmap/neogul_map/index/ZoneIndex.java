@@ -0,0 +1,20 @@
+package com.neogulmap.neogul_map.index;
+
+import com.neogulmap.neogul_map.event.ZoneChangedEvent;
+
+/**
+ * Zone 인메모리 인덱스 공통 인터페이스
+ * 시작 시 rebuild()로 전체 구성하고, 이후에는 커밋된 변경 이벤트로 증분 갱신
+ */
+public interface ZoneIndex {
+
+    /**
+     * DB에서 전체 데이터를 읽어 인덱스를 다시 구성
+     */
+    void rebuild();
+
+    /**
+     * 커밋된 Zone 변경 사항을 인덱스에 반영 (같은 이벤트를 두 번 반영해도 결과가 같아야 함)
+     */
+    void apply(ZoneChangedEvent event);
+}
@@ -0,0 +1,543 @@
+package com.neogulmap.neogul_map.index;
+
+import com.neogulmap.neogul_map.domain.Zone;
+import com.neogulmap.neogul_map.dto.ZonePoint;
+import com.neogulmap.neogul_map.event.ZoneChangedEvent;
+import com.neogulmap.neogul_map.repository.ZoneRepository;
+import com.neogulmap.neogul_map.util.GeoUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Zone 공간 인덱스 (균일 격자)
+ * 위경도를 GeoUtil.CELL_SIZE_DEG 크기의 셀로 나누어 보관하고,
+ * 반경 검색 시 반경을 덮는 셀만 방문한 뒤 후보에 대해서만 Haversine 거리를 계산
+ *
+ * 셀 맵은 copy-on-write 스냅샷으로 관리한다. 쓰기는 변경된 셀만 새로 만든 복사본을
+ * volatile 참조로 원자적으로 교체하므로, 읽기는 락 없이 항상 일관된 스냅샷을 본다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ZoneSpatialIndex implements ZoneIndex {
+
+    private static final int MAX_COLUMN = GeoUtil.cellColumn(180.0);
+
+    // 부분 포함 셀의 후보 수가 이 값 이상이면 병렬 스캔
+    private static final int PARALLEL_SCAN_THRESHOLD = 32_768;
+
+    // 반경 판정 커널 (Vector API 사용 가능 시 SIMD)
+    private final DistanceKernel kernel = DistanceKernel.create();
+
+    private final ZoneRepository zoneRepository;
+
+    // database 모드에서는 DB 공간 인덱스를 사용하므로 인메모리 인덱스를 구성하지 않음
+    @Value("${app.zone.spatial.mode:memory}")
+    private String spatialMode;
+
+    // 셀 키 → 셀 (읽기 전용 스냅샷, 쓰기 시 통째로 교체)
+    private volatile Map<Long, Cell> cells = null;
+
+    // 쓰기 작업 직렬화용 락 (읽기는 사용하지 않음)
+    private final Object writeLock = new Object();
+
+    /**
+     * DB에서 좌표만 읽어 인덱스 구성
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        if ("database".equalsIgnoreCase(spatialMode)) {
+            log.info("공간 인덱스 구성 생략 - app.zone.spatial.mode=database");
+            return;
+        }
+        synchronized (writeLock) {
+            rebuildSnapshot();
+        }
+    }
+
+    private void rebuildSnapshot() {
+        long start = System.currentTimeMillis();
+        List<ZonePoint> points = zoneRepository.findAllPoints();
+
+        Map<Long, List<ZonePoint>> grouped = new HashMap<>();
+        for (ZonePoint point : points) {
+            long key = GeoUtil.cellKey(point.latitude().doubleValue(), point.longitude().doubleValue());
+            grouped.computeIfAbsent(key, k -> new ArrayList<>()).add(point);
+        }
+
+        Map<Long, Cell> built = new HashMap<>(grouped.size() * 2);
+        grouped.forEach((key, list) -> built.put(key, Cell.of(key, list)));
+        this.cells = built;
+
+        log.info("공간 인덱스 구성 완료 - Zone {}개, 셀 {}개, {}ms, 거리 커널 {}",
+                points.size(), built.size(), System.currentTimeMillis() - start, kernel.getClass().getSimpleName());
+    }
+
+    /**
+     * 커밋된 변경 사항을 반영 - 영향을 받는 셀만 교체한 새 스냅샷을 만들어 교체
+     */
+    @Override
+    public void apply(ZoneChangedEvent event) {
+        synchronized (writeLock) {
+            Map<Long, Cell> current = cells;
+            if (current == null) {
+                return; // 아직 구성 전이면 rebuild 시 DB에서 함께 읽힘
+            }
+
+            Map<Long, Cell> next = new HashMap<>(current);
+            int zoneId = event.getZoneId();
+
+            // 이전 위치와 새 위치 셀에서 모두 제거해 같은 이벤트가 중복 반영돼도 안전하게 처리
+            if (event.getPrevious() != null) {
+                removeFromCell(next, cellKeyOf(event.getPrevious()), zoneId);
+            }
+            if (event.getCurrent() != null) {
+                Zone zone = event.getCurrent();
+                long key = cellKeyOf(zone);
+                removeFromCell(next, key, zoneId);
+                Cell cell = next.get(key);
+                Cell added = (cell == null ? Cell.empty(key) : cell)
+                        .with(zoneId, zone.getLatitude().doubleValue(), zone.getLongitude().doubleValue());
+                next.put(key, added);
+            }
+
+            this.cells = next;
+        }
+    }
+
+    private static long cellKeyOf(Zone zone) {
+        return GeoUtil.cellKey(zone.getLatitude().doubleValue(), zone.getLongitude().doubleValue());
+    }
+
+    private static void removeFromCell(Map<Long, Cell> target, long key, int zoneId) {
+        Cell cell = target.get(key);
+        if (cell == null) {
+            return;
+        }
+        Cell removed = cell.without(zoneId);
+        if (removed == cell) {
+            return;
+        }
+        if (removed.ids.length == 0) {
+            target.remove(key);
+        } else {
+            target.put(key, removed);
+        }
+    }
+
+    /**
+     * 인덱스 사용 가능 여부 (시작 직후 구성 전에는 false)
+     */
+    public boolean isReady() {
+        return cells != null;
+    }
+
+    /**
+     * 반경 내 Zone ID 검색
+     *
+     * @param latitude 중심점 위도
+     * @param longitude 중심점 경도
+     * @param radiusMeters 반경 (미터)
+     * @return 반경 내 Zone ID 목록 (순서 보장 없음)
+     */
+    public List<Integer> findWithinRadius(double latitude, double longitude, double radiusMeters) {
+        Map<Long, Cell> snapshot = cells;
+        List<Integer> result = new ArrayList<>();
+        if (snapshot == null || snapshot.isEmpty()) {
+            return result;
+        }
+
+        RadiusQuery query = RadiusQuery.of(latitude, longitude, radiusMeters);
+        List<Cell> partialCells = new ArrayList<>();
+        int partialPoints = 0;
+        for (Cell cell : cellsWithinRadius(snapshot, latitude, longitude, radiusMeters)) {
+            if (cell.isWithin(query)) {
+                // 셀 전체가 반경 안이면 거리 계산 없이 모두 포함
+                for (int id : cell.ids) {
+                    result.add(id);
+                }
+            } else {
+                partialCells.add(cell);
+                partialPoints += cell.ids.length;
+            }
+        }
+
+        if (partialPoints >= PARALLEL_SCAN_THRESHOLD) {
+            // 후보가 많으면 fork-join으로 셀 묶음을 나누어 병렬 처리
+            result.addAll(ForkJoinPool.commonPool().invoke(new RadiusScanTask(kernel, query, partialCells, 0, partialCells.size())));
+        } else {
+            for (Cell cell : partialCells) {
+                kernel.collect(query, cell.ids, cell.latitudes, cell.longitudes, cell.ids.length, result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 반경을 덮는 셀들의 Zone 수 (반경 검색 후보 수 추정용, 거리 계산 없음)
+     */
+    public int countCandidatesWithinRadius(double latitude, double longitude, double radiusMeters) {
+        Map<Long, Cell> snapshot = cells;
+        if (snapshot == null || snapshot.isEmpty()) {
+            return 0;
+        }
+        int count = 0;
+        for (Cell cell : cellsWithinRadius(snapshot, latitude, longitude, radiusMeters)) {
+            count += cell.ids.length;
+        }
+        return count;
+    }
+
+    // 반경을 덮는 셀 목록 - 거리 계산과 같은 지구 반지름 기준, 경도 폭은 범위 내 가장 높은 위도 기준
+    private static List<Cell> cellsWithinRadius(Map<Long, Cell> snapshot, double latitude, double longitude, double radiusMeters) {
+        double latDelta = GeoUtil.arcDegrees(radiusMeters);
+        double farthestLatitude = Math.min(90.0, Math.abs(latitude) + latDelta);
+        double cos = Math.max(Math.cos(Math.toRadians(farthestLatitude)), 0.01);
+        double lonDelta = Math.min(latDelta / cos, 180.0);
+        return cellsInRange(snapshot,
+                GeoUtil.cellRow(latitude - latDelta), GeoUtil.cellRow(latitude + latDelta),
+                GeoUtil.cellColumn(longitude - lonDelta), GeoUtil.cellColumn(longitude + lonDelta));
+    }
+
+    /**
+     * 영역(bounding box) 내 Zone ID 검색
+     * 결과가 limit을 넘으면 셀을 번갈아 가며 뽑아 화면 전체에 고르게 분포하도록 자름
+     *
+     * @param limit 최대 반환 개수
+     * @return 영역 내 Zone ID 목록 (잘린 경우 limit + 1개를 반환해 초과 여부를 알 수 있게 함)
+     */
+    public List<Integer> findWithinBounds(double minLat, double minLon, double maxLat, double maxLon, int limit) {
+        Map<Long, Cell> snapshot = cells;
+        List<Integer> result = new ArrayList<>();
+        if (snapshot == null || snapshot.isEmpty()) {
+            return result;
+        }
+
+        List<Cell> candidates = cellsInRange(snapshot,
+                GeoUtil.cellRow(minLat), GeoUtil.cellRow(maxLat),
+                GeoUtil.cellColumn(minLon), GeoUtil.cellColumn(maxLon));
+
+        // 셀마다 한 개씩 돌아가며 추가 (라운드 로빈)
+        for (int round = 0; result.size() <= limit; round++) {
+            boolean remaining = false;
+            for (Cell cell : candidates) {
+                if (round >= cell.ids.length) {
+                    continue;
+                }
+                remaining = true;
+                double lat = cell.latitudes[round];
+                double lon = cell.longitudes[round];
+                if (lat >= minLat && lat <= maxLat && lon >= minLon && lon <= maxLon) {
+                    result.add(cell.ids[round]);
+                    if (result.size() > limit) {
+                        break;
+                    }
+                }
+            }
+            if (!remaining) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 가까운 Zone k개 검색 (best-first)
+     * 중심 셀에서 시작해 링 단위로 셀을 넓혀 가며 크기 k의 최대 힙에 후보를 유지하고,
+     * 다음 링까지의 최소 거리가 힙의 최댓값보다 크면 탐색을 멈춤
+     *
+     * @return 거리 오름차순으로 정렬된 최대 k개의 결과
+     */
+    public List<Neighbor> findNearest(double latitude, double longitude, int k) {
+        Map<Long, Cell> snapshot = cells;
+        List<Neighbor> result = new ArrayList<>();
+        if (snapshot == null || snapshot.isEmpty() || k <= 0) {
+            return result;
+        }
+
+        PriorityQueue<Neighbor> heap = new PriorityQueue<>(k + 1,
+                Comparator.comparingDouble(Neighbor::distanceMeters).reversed());
+        int centerRow = GeoUtil.cellRow(latitude);
+        int centerCol = GeoUtil.cellColumn(longitude);
+        int visitedCells = 0;
+
+        for (int ring = 0; visitedCells < snapshot.size(); ring++) {
+            if (heap.size() == k && ringLowerBoundMeters(latitude, ring) > heap.peek().distanceMeters()) {
+                break;
+            }
+            long ringCells = ring == 0 ? 1 : 8L * ring;
+            if (ringCells > snapshot.size()) {
+                // 데이터가 듬성듬성해 링이 너무 넓어지면 남은 셀을 직접 순회
+                for (Map.Entry<Long, Cell> entry : snapshot.entrySet()) {
+                    int row = GeoUtil.rowOf(entry.getKey());
+                    int col = GeoUtil.columnOf(entry.getKey());
+                    if (Math.max(Math.abs(row - centerRow), Math.abs(col - centerCol)) >= ring) {
+                        entry.getValue().offerNearest(latitude, longitude, k, heap);
+                    }
+                }
+                break;
+            }
+            for (int row = centerRow - ring; row <= centerRow + ring; row++) {
+                boolean edgeRow = row == centerRow - ring || row == centerRow + ring;
+                int step = edgeRow || ring == 0 ? 1 : 2 * ring;
+                for (int col = centerCol - ring; col <= centerCol + ring; col += step) {
+                    if (row < 0 || col < 0 || col > MAX_COLUMN) {
+                        continue; // 경도 범위를 벗어난 셀 키가 다른 행으로 넘어가지 않도록 제외
+                    }
+                    Cell cell = snapshot.get(GeoUtil.cellKey(row, col));
+                    if (cell != null) {
+                        visitedCells++;
+                        cell.offerNearest(latitude, longitude, k, heap);
+                    }
+                }
+            }
+        }
+
+        result.addAll(heap);
+        result.sort(Comparator.comparingDouble(Neighbor::distanceMeters));
+        return result;
+    }
+
+    // 링 ring 안의 셀까지의 최소 거리 (중심점은 중심 셀 안 어딘가에 있으므로 ring - 1칸 이상 떨어짐)
+    private static double ringLowerBoundMeters(double latitude, int ring) {
+        if (ring <= 1) {
+            return 0.0;
+        }
+        double farthestLatitude = Math.abs(latitude) + ring * GeoUtil.CELL_SIZE_DEG;
+        return GeoUtil.minDistanceMeters(farthestLatitude, (ring - 1) * GeoUtil.CELL_SIZE_DEG);
+    }
+
+    // 행/열 범위에 걸치는 셀 목록
+    private static List<Cell> cellsInRange(Map<Long, Cell> snapshot, int minRow, int maxRow, int minCol, int maxCol) {
+        List<Cell> result = new ArrayList<>();
+        long coveringCells = (long) (maxRow - minRow + 1) * (maxCol - minCol + 1);
+        if (coveringCells > snapshot.size()) {
+            // 범위가 넓어 덮는 셀이 실제 셀보다 많으면 존재하는 셀만 순회
+            for (Map.Entry<Long, Cell> entry : snapshot.entrySet()) {
+                int row = GeoUtil.rowOf(entry.getKey());
+                int col = GeoUtil.columnOf(entry.getKey());
+                if (row >= minRow && row <= maxRow && col >= minCol && col <= maxCol) {
+                    result.add(entry.getValue());
+                }
+            }
+            return result;
+        }
+
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int col = minCol; col <= maxCol; col++) {
+                Cell cell = snapshot.get(GeoUtil.cellKey(row, col));
+                if (cell != null) {
+                    result.add(cell);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Zone ID별 좌표 (순위 검색처럼 후보 좌표만 필요할 때 DB 대신 사용)
+     * 셀의 원시 배열을 한 번 훑으며 ids에 포함된 Zone만 모음 (전체 Zone 수에 비례, 객체 생성은 결과만)
+     *
+     * @return Zone ID → 좌표 (인덱스 구성 전이면 null, 인덱스에 없는 ID는 제외)
+     */
+    public Map<Integer, Position> findPositions(Collection<Integer> ids) {
+        Map<Long, Cell> snapshot = cells;
+        if (snapshot == null) {
+            return null;
+        }
+        Map<Integer, Position> positions = new HashMap<>(ids.size() * 2);
+        if (ids.isEmpty()) {
+            return positions;
+        }
+        BitSet wanted = new BitSet();
+        for (int id : ids) {
+            wanted.set(id);
+        }
+        for (Cell cell : snapshot.values()) {
+            for (int i = 0; i < cell.ids.length; i++) {
+                if (wanted.get(cell.ids[i])) {
+                    positions.put(cell.ids[i], new Position(cell.latitudes[i], cell.longitudes[i]));
+                }
+            }
+        }
+        return positions;
+    }
+
+    /**
+     * 인덱스에 포함된 Zone 개수
+     */
+    public int size() {
+        Map<Long, Cell> snapshot = cells;
+        if (snapshot == null) {
+            return 0;
+        }
+        return snapshot.values().stream().mapToInt(cell -> cell.ids.length).sum();
+    }
+
+    /**
+     * 격자 셀 - 컬럼 형태의 원시 배열로 보관해 BigDecimal 변환 없이 거리 계산
+     */
+    static final class Cell {
+        final long key;
+        final int[] ids;
+        final double[] latitudes;
+        final double[] longitudes;
+
+        Cell(long key, int[] ids, double[] latitudes, double[] longitudes) {
+            this.key = key;
+            this.ids = ids;
+            this.latitudes = latitudes;
+            this.longitudes = longitudes;
+        }
+
+        static Cell empty(long key) {
+            return new Cell(key, new int[0], new double[0], new double[0]);
+        }
+
+        static Cell of(long key, List<ZonePoint> points) {
+            int size = points.size();
+            int[] ids = new int[size];
+            double[] latitudes = new double[size];
+            double[] longitudes = new double[size];
+            for (int i = 0; i < size; i++) {
+                ZonePoint point = points.get(i);
+                ids[i] = point.id();
+                latitudes[i] = point.latitude().doubleValue();
+                longitudes[i] = point.longitude().doubleValue();
+            }
+            return new Cell(key, ids, latitudes, longitudes);
+        }
+
+        // 원소를 추가한 새 셀 (기존 셀은 변경하지 않음)
+        Cell with(int id, double latitude, double longitude) {
+            int size = ids.length;
+            int[] newIds = Arrays.copyOf(ids, size + 1);
+            double[] newLatitudes = Arrays.copyOf(latitudes, size + 1);
+            double[] newLongitudes = Arrays.copyOf(longitudes, size + 1);
+            newIds[size] = id;
+            newLatitudes[size] = latitude;
+            newLongitudes[size] = longitude;
+            return new Cell(key, newIds, newLatitudes, newLongitudes);
+        }
+
+        // 원소를 제거한 새 셀 (없으면 자기 자신 반환)
+        Cell without(int id) {
+            int index = -1;
+            for (int i = 0; i < ids.length; i++) {
+                if (ids[i] == id) {
+                    index = i;
+                    break;
+                }
+            }
+            if (index < 0) {
+                return this;
+            }
+            int size = ids.length - 1;
+            int[] newIds = new int[size];
+            double[] newLatitudes = new double[size];
+            double[] newLongitudes = new double[size];
+            System.arraycopy(ids, 0, newIds, 0, index);
+            System.arraycopy(ids, index + 1, newIds, index, size - index);
+            System.arraycopy(latitudes, 0, newLatitudes, 0, index);
+            System.arraycopy(latitudes, index + 1, newLatitudes, index, size - index);
+            System.arraycopy(longitudes, 0, newLongitudes, 0, index);
+            System.arraycopy(longitudes, index + 1, newLongitudes, index, size - index);
+            return new Cell(key, newIds, newLatitudes, newLongitudes);
+        }
+
+        void offerNearest(double latitude, double longitude, int k, PriorityQueue<Neighbor> heap) {
+            for (int i = 0; i < ids.length; i++) {
+                double distance = GeoUtil.distanceMeters(latitude, longitude, latitudes[i], longitudes[i]);
+                if (heap.size() < k) {
+                    heap.add(new Neighbor(ids[i], distance));
+                } else if (distance < heap.peek().distanceMeters()) {
+                    heap.poll();
+                    heap.add(new Neighbor(ids[i], distance));
+                }
+            }
+        }
+
+        // 셀의 네 꼭짓점이 모두 반경 안이면 셀 전체가 반경 안
+        boolean isWithin(RadiusQuery query) {
+            double south = GeoUtil.rowLatitude(GeoUtil.rowOf(key));
+            double west = GeoUtil.columnLongitude(GeoUtil.columnOf(key));
+            double north = south + GeoUtil.CELL_SIZE_DEG;
+            double east = west + GeoUtil.CELL_SIZE_DEG;
+            return query.contains(south, west) && query.contains(south, east)
+                    && query.contains(north, west) && query.contains(north, east);
+        }
+    }
+
+    /**
+     * 셀 목록을 반씩 나누어 병렬로 반경 판정하는 fork-join 작업
+     */
+    private static final class RadiusScanTask extends RecursiveTask<List<Integer>> {
+
+        private static final int SPLIT_POINTS = 8_192;
+
+        private final DistanceKernel kernel;
+        private final RadiusQuery query;
+        private final List<Cell> cells;
+        private final int from;
+        private final int to;
+
+        RadiusScanTask(DistanceKernel kernel, RadiusQuery query, List<Cell> cells, int from, int to) {
+            this.kernel = kernel;
+            this.query = query;
+            this.cells = cells;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected List<Integer> compute() {
+            int points = 0;
+            for (int i = from; i < to; i++) {
+                points += cells.get(i).ids.length;
+            }
+            List<Integer> out = new ArrayList<>();
+            if (points <= SPLIT_POINTS || to - from <= 1) {
+                for (int i = from; i < to; i++) {
+                    Cell cell = cells.get(i);
+                    kernel.collect(query, cell.ids, cell.latitudes, cell.longitudes, cell.ids.length, out);
+                }
+                return out;
+            }
+            int middle = (from + to) >>> 1;
+            RadiusScanTask left = new RadiusScanTask(kernel, query, cells, from, middle);
+            left.fork();
+            List<Integer> right = new RadiusScanTask(kernel, query, cells, middle, to).compute();
+            out.addAll(left.join());
+            out.addAll(right);
+            return out;
+        }
+    }
+
+    /**
+     * 최근접 검색 결과 (Zone ID와 거리)
+     */
+    public record Neighbor(int zoneId, double distanceMeters) {
+    }
+
+    /**
+     * Zone 좌표
+     */
+    public record Position(double latitude, double longitude) {
+    }
+}
@@ -0,0 +1,348 @@
+package com.neogulmap.neogul_map.index;
+
+import com.neogulmap.neogul_map.domain.Zone;
+import com.neogulmap.neogul_map.dto.ZoneSuggestion;
+import com.neogulmap.neogul_map.dto.ZoneText;
+import com.neogulmap.neogul_map.event.ZoneChangedEvent;
+import com.neogulmap.neogul_map.repository.ZoneRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 주소/지역 자동완성 인덱스 (radix trie)
+ *
+ * Zone의 address, region 문자열을 정규화(소문자)한 키로 압축 trie를 만들고,
+ * 노드마다 하위 문자열 중 Zone 수가 많은 상위 k개를 미리 계산해 둔다.
+ * 조회는 접두어를 따라 내려가 도착한 노드의 목록을 그대로 반환하므로 접두어 길이에만 비례한다.
+ *
+ * 노드는 불변이며 쓰기는 바뀐 경로의 노드만 새로 만들어 루트를 교체한다 (읽기는 락 없음).
+ */
+@Slf4j
+@Component
+public class ZoneSuggestIndex implements ZoneIndex {
+
+    private final ZoneRepository zoneRepository;
+
+    // 노드마다 미리 계산할 완성어 수 (조회 limit 최대값)
+    private final int topK;
+
+    private volatile Node root = null;
+
+    // Zone ID → 색인된 문자열 (address, region) - 같은 이벤트 중복 반영 시에도 개수가 어긋나지 않도록 보관
+    private Map<Integer, String[]> indexedTerms = new HashMap<>();
+
+    // 쓰기 작업 직렬화용 락
+    private final Object writeLock = new Object();
+
+    public ZoneSuggestIndex(ZoneRepository zoneRepository, @Value("${app.zone.suggest.top-k:10}") int topK) {
+        this.zoneRepository = zoneRepository;
+        this.topK = topK;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        synchronized (writeLock) {
+            long start = System.currentTimeMillis();
+            List<ZoneText> texts = zoneRepository.findAllTexts();
+
+            Map<Integer, String[]> terms = new HashMap<>(texts.size() * 2);
+            Map<String, String> displays = new HashMap<>();
+            Map<String, Integer> counts = new HashMap<>();
+            for (ZoneText text : texts) {
+                String[] zoneTerms = termsOf(text.address(), text.region());
+                terms.put(text.id(), zoneTerms);
+                for (String term : zoneTerms) {
+                    String key = normalize(term);
+                    displays.putIfAbsent(key, term);
+                    counts.merge(key, 1, Integer::sum);
+                }
+            }
+
+            // 순위 계산 없이 구성한 뒤 한 번에 상위 k개를 채움
+            Node built = Node.EMPTY_ROOT;
+            for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+                built = update(built, entry.getKey(), 0, displays.get(entry.getKey()), entry.getValue(), false);
+            }
+            this.root = rank(built);
+            this.indexedTerms = terms;
+
+            log.info("자동완성 인덱스 구성 완료 - Zone {}개, 문자열 {}개, {}ms",
+                    texts.size(), counts.size(), System.currentTimeMillis() - start);
+        }
+    }
+
+    @Override
+    public void apply(ZoneChangedEvent event) {
+        synchronized (writeLock) {
+            Node current = root;
+            if (current == null) {
+                return; // 아직 구성 전이면 rebuild 시 DB에서 함께 읽힘
+            }
+            int zoneId = event.getZoneId();
+            String[] previous = indexedTerms.remove(zoneId);
+            if (previous != null) {
+                for (String term : previous) {
+                    current = update(current, normalize(term), 0, term, -1, true);
+                }
+            }
+            Zone zone = event.getCurrent();
+            if (zone != null) {
+                String[] terms = termsOf(zone.getAddress(), zone.getRegion());
+                for (String term : terms) {
+                    current = update(current, normalize(term), 0, term, 1, true);
+                }
+                indexedTerms.put(zoneId, terms);
+            }
+            this.root = current;
+        }
+    }
+
+    public boolean isReady() {
+        return root != null;
+    }
+
+    public int getTopK() {
+        return topK;
+    }
+
+    /**
+     * 접두어 자동완성 (Zone 수 내림차순, 같으면 가나다순)
+     */
+    public List<ZoneSuggestion> suggest(String prefix, int limit) {
+        Node node = root;
+        List<ZoneSuggestion> result = new ArrayList<>();
+        if (node == null) {
+            return result;
+        }
+
+        String key = normalize(prefix);
+        int position = 0;
+        while (position < key.length()) {
+            Node child = node.child(key.charAt(position));
+            if (child == null) {
+                return result;
+            }
+            int common = commonPrefix(child.edge, key, position);
+            if (position + common == key.length()) {
+                node = child; // 접두어가 간선 중간에서 끝나도 같은 하위 문자열 집합
+                break;
+            }
+            if (common < child.edge.length()) {
+                return result;
+            }
+            node = child;
+            position += common;
+        }
+
+        int size = Math.min(limit, node.topTerms.length);
+        for (int i = 0; i < size; i++) {
+            result.add(new ZoneSuggestion(node.topTerms[i], node.topCounts[i]));
+        }
+        return result;
+    }
+
+    public static String normalize(String text) {
+        return text.stripLeading().toLowerCase(Locale.ROOT);
+    }
+
+    private static String[] termsOf(String address, String region) {
+        List<String> terms = new ArrayList<>(2);
+        for (String term : new String[]{address, region}) {
+            if (term != null && !term.isBlank() && !terms.contains(term.strip())) {
+                terms.add(term.strip());
+            }
+        }
+        return terms.toArray(new String[0]);
+    }
+
+    /**
+     * key[position..]에 해당하는 문자열의 개수를 delta만큼 바꾼 새 노드 반환 (바뀐 경로만 복사)
+     */
+    private Node update(Node node, String key, int position, String display, int delta, boolean ranked) {
+        if (position == key.length()) {
+            int count = Math.max(0, node.count + delta);
+            String term = count == 0 ? null : (node.term != null ? node.term : display);
+            return make(node.edge, node.children, term, count, ranked);
+        }
+
+        Node[] children = node.children;
+        int index = node.childIndex(key.charAt(position));
+        Node updated;
+        if (index < 0) {
+            if (delta <= 0) {
+                return node; // 없는 문자열 제거
+            }
+            updated = make(key.substring(position), Node.NO_CHILDREN, display, delta, ranked);
+            children = insertChild(children, -index - 1, updated);
+        } else {
+            Node child = children[index];
+            int common = commonPrefix(child.edge, key, position);
+            if (common == child.edge.length()) {
+                updated = update(child, key, position + common, display, delta, ranked);
+            } else {
+                if (delta <= 0) {
+                    return node;
+                }
+                // 간선 분할: 공통 부분을 중간 노드로 만들고 기존 자식은 그 아래로
+                Node tail = child.withEdge(child.edge.substring(common));
+                Node split = make(child.edge.substring(0, common), new Node[]{tail}, null, 0, ranked);
+                updated = update(split, key, position + common, display, delta, ranked);
+            }
+            updated = compact(updated);
+            children = updated == null ? removeChild(children, index) : replaceChild(children, index, updated);
+        }
+        return make(node.edge, children, node.term, node.count, ranked);
+    }
+
+    // 빈 노드는 제거(null), 자식이 하나인 중간 노드는 자식과 합침
+    private static Node compact(Node node) {
+        if (node.count > 0) {
+            return node;
+        }
+        if (node.children.length == 0) {
+            return null;
+        }
+        if (node.children.length == 1) {
+            Node only = node.children[0];
+            return only.withEdge(node.edge + only.edge);
+        }
+        return node;
+    }
+
+    private Node rank(Node node) {
+        Node[] children = new Node[node.children.length];
+        for (int i = 0; i < children.length; i++) {
+            children[i] = rank(node.children[i]);
+        }
+        return make(node.edge, children, node.term, node.count, true);
+    }
+
+    private Node make(String edge, Node[] children, String term, int count, boolean ranked) {
+        if (!ranked) {
+            return new Node(edge, children, term, count, Node.NO_TERMS, Node.NO_COUNTS);
+        }
+
+        // 자기 문자열 + 자식들의 상위 목록에서 다시 상위 k개 선택
+        List<String> terms = new ArrayList<>();
+        List<Integer> counts = new ArrayList<>();
+        if (term != null) {
+            terms.add(term);
+            counts.add(count);
+        }
+        for (Node child : children) {
+            for (int i = 0; i < child.topTerms.length; i++) {
+                terms.add(child.topTerms[i]);
+                counts.add(child.topCounts[i]);
+            }
+        }
+        Integer[] order = new Integer[terms.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> counts.get(a).equals(counts.get(b))
+                ? terms.get(a).compareTo(terms.get(b))
+                : Integer.compare(counts.get(b), counts.get(a)));
+
+        int size = Math.min(topK, order.length);
+        String[] topTerms = new String[size];
+        int[] topCounts = new int[size];
+        for (int i = 0; i < size; i++) {
+            topTerms[i] = terms.get(order[i]);
+            topCounts[i] = counts.get(order[i]);
+        }
+        return new Node(edge, children, term, count, topTerms, topCounts);
+    }
+
+    private static int commonPrefix(String edge, String key, int position) {
+        int max = Math.min(edge.length(), key.length() - position);
+        int i = 0;
+        while (i < max && edge.charAt(i) == key.charAt(position + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private static Node[] insertChild(Node[] children, int index, Node child) {
+        Node[] next = new Node[children.length + 1];
+        System.arraycopy(children, 0, next, 0, index);
+        next[index] = child;
+        System.arraycopy(children, index, next, index + 1, children.length - index);
+        return next;
+    }
+
+    private static Node[] replaceChild(Node[] children, int index, Node child) {
+        Node[] next = children.clone();
+        next[index] = child;
+        return next;
+    }
+
+    private static Node[] removeChild(Node[] children, int index) {
+        Node[] next = new Node[children.length - 1];
+        System.arraycopy(children, 0, next, 0, index);
+        System.arraycopy(children, index + 1, next, index, children.length - index - 1);
+        return next;
+    }
+
+    /**
+     * trie 노드 (불변)
+     */
+    static final class Node {
+        static final Node[] NO_CHILDREN = new Node[0];
+        static final String[] NO_TERMS = new String[0];
+        static final int[] NO_COUNTS = new int[0];
+        static final Node EMPTY_ROOT = new Node("", NO_CHILDREN, null, 0, NO_TERMS, NO_COUNTS);
+
+        final String edge;          // 부모로부터의 간선 레이블 (정규화된 문자열)
+        final Node[] children;      // 간선 첫 글자 오름차순
+        final String term;          // 이 노드에서 끝나는 표시용 문자열 (없으면 null)
+        final int count;            // term을 가진 Zone 수
+        final String[] topTerms;    // 하위 문자열 중 상위 k개
+        final int[] topCounts;
+
+        Node(String edge, Node[] children, String term, int count, String[] topTerms, int[] topCounts) {
+            this.edge = edge;
+            this.children = children;
+            this.term = term;
+            this.count = count;
+            this.topTerms = topTerms;
+            this.topCounts = topCounts;
+        }
+
+        Node withEdge(String newEdge) {
+            return new Node(newEdge, children, term, count, topTerms, topCounts);
+        }
+
+        // 간선 첫 글자로 자식 위치 검색 (없으면 -(삽입 위치) - 1)
+        int childIndex(char c) {
+            int low = 0;
+            int high = children.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                char midChar = children[mid].edge.charAt(0);
+                if (midChar < c) {
+                    low = mid + 1;
+                } else if (midChar > c) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+
+        Node child(char c) {
+            int index = childIndex(c);
+            return index < 0 ? null : children[index];
+        }
+    }
+}
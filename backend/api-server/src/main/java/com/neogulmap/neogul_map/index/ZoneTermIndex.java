@@ -0,0 +1,387 @@
+package com.neogulmap.neogul_map.index;
+
+import com.neogulmap.neogul_map.event.ZoneChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 오타 허용 검색용 단어 사전 (BK-tree)
+ *
+ * region, address, type, subtype, description을 단어로 나눈 사전을 편집 거리 기준 BK-tree로 구성한다.
+ * 조회 시 삼각 부등식으로 |d(q, node) - d(node, child)| > 허용 거리인 하위 트리는 건너뛰므로
+ * 전체 단어와 비교하지 않는다. 단어별로 그 단어를 가진 Zone ID 포스팅을 둔다.
+ *
+ * 단어는 ZoneTextStore의 정규화 텍스트에서 뽑는다. 트리 노드와 포스팅은 하나의 불변 스냅샷으로 두고, 쓰기는 바뀐 단어의 포스팅과 새 단어까지의 경로 노드만
+ * 새로 만든 스냅샷으로 교체한다 (읽기는 락 없음, 여러 단어 검색도 한 시점의 사전만 봄).
+ * BK-tree는 삭제를 지원하지 않으므로 더 이상 쓰이지 않는 단어는 포스팅만 지우고 노드는 남겨 두며(조회 시 제외),
+ * 그런 노드가 사용 중인 단어 수의 1/4을 넘으면 사용 중인 단어만으로 트리를 다시 만든다.
+ */
+@Slf4j
+@Component
+public class ZoneTermIndex implements ZoneIndex {
+
+    private static final Pattern SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    // 사전에 넣을 최소 단어 길이 (한 글자 단어는 편집 거리 1로 모든 한 글자와 맞으므로 제외)
+    private static final int MIN_TERM_LENGTH = 2;
+
+    // 이 길이 이하 단어는 편집 거리 1까지만 허용
+    private static final int SHORT_TERM_LENGTH = 4;
+
+    // 트리 재구성 기준 - 남아 있는 미사용 노드 수 (최소값, 사용 중인 단어 수 대비 비율 1/4)
+    private static final int MIN_DEAD_TERMS = 1024;
+    private static final int DEAD_TERM_RATIO = 4;
+
+    private final ZoneTextStore zoneTextStore;
+
+    // 허용할 최대 편집 거리 (1 ~ 2)
+    private final int maxDistance;
+
+    private volatile Snapshot snapshot = null;
+
+    // Zone ID → 색인한 시점의 텍스트 (ZoneTextStore와 같은 객체) - 같은 이벤트 중복 반영 시에도 포스팅이 어긋나지 않도록 보관
+    private Map<Integer, ZoneTextStore.Text> indexedTexts = new HashMap<>();
+
+    // 쓰기 작업 직렬화용 락
+    private final Object writeLock = new Object();
+
+    public ZoneTermIndex(ZoneTextStore zoneTextStore, @Value("${app.zone.fuzzy.max-distance:2}") int maxDistance) {
+        this.zoneTextStore = zoneTextStore;
+        this.maxDistance = Math.max(1, Math.min(2, maxDistance));
+    }
+
+    @Override
+    public void rebuild() {
+        synchronized (writeLock) {
+            long start = System.currentTimeMillis();
+            List<ZoneTextStore.Text> texts = zoneTextStore.all();
+
+            Map<Integer, ZoneTextStore.Text> indexed = new HashMap<>(texts.size() * 2);
+            Map<String, List<Integer>> building = new HashMap<>();
+            for (ZoneTextStore.Text text : texts) {
+                indexed.put(text.id(), text);
+                // ID 오름차순으로 읽으므로 append만 하면 정렬 상태가 유지됨
+                for (String term : termsOf(text.normalized())) {
+                    building.computeIfAbsent(term, k -> new ArrayList<>()).add(text.id());
+                }
+            }
+
+            Map<String, Postings> built = new HashMap<>(building.size() * 2);
+            for (Map.Entry<String, List<Integer>> entry : building.entrySet()) {
+                int[] ids = entry.getValue().stream().mapToInt(Integer::intValue).toArray();
+                built.put(entry.getKey(), Postings.of(ids, ids.length));
+            }
+            this.snapshot = new Snapshot(build(built.keySet()), built.size(), OverlayMap.of(built));
+            this.indexedTexts = indexed;
+
+            log.info("오타 허용 사전 구성 완료 - Zone {}개, 단어 {}개, 최대 편집 거리 {}, {}ms",
+                    texts.size(), built.size(), maxDistance, System.currentTimeMillis() - start);
+        }
+    }
+
+    @Override
+    public void apply(ZoneChangedEvent event) {
+        synchronized (writeLock) {
+            Snapshot current = snapshot;
+            if (current == null) {
+                return; // 아직 구성 전이면 rebuild 시 DB에서 함께 읽힘
+            }
+            int zoneId = event.getZoneId();
+            Map<String, Postings> changes = new HashMap<>();
+            ZoneTextStore.Text stale = indexedTexts.remove(zoneId);
+            if (stale != null) {
+                for (String term : termsOf(stale.normalized())) {
+                    Postings list = current.postings().get(term);
+                    if (list != null) {
+                        Postings removed = list.without(zoneId);
+                        changes.put(term, removed.size == 0 ? null : removed); // 노드는 남김 (조회 시 제외)
+                    }
+                }
+            }
+            Node root = current.root();
+            int nodeCount = current.nodeCount();
+            ZoneTextStore.Text fresh = zoneTextStore.get(zoneId);
+            if (fresh != null) {
+                for (String term : termsOf(fresh.normalized())) {
+                    Postings list = changes.containsKey(term) ? changes.get(term) : current.postings().get(term);
+                    changes.put(term, (list == null ? Postings.EMPTY : list).with(zoneId));
+                    Node inserted = insertCopy(root, term);
+                    if (inserted != root) {
+                        root = inserted;
+                        nodeCount++;
+                    }
+                }
+                indexedTexts.put(zoneId, fresh);
+            }
+
+            OverlayMap<String, Postings> postings = current.postings().with(changes);
+            int dead = nodeCount - postings.size();
+            if (dead > Math.max(MIN_DEAD_TERMS, postings.size() / DEAD_TERM_RATIO)) {
+                // 미사용 노드가 많아지면 사용 중인 단어만으로 트리 재구성
+                List<String> live = new ArrayList<>(postings.size());
+                collectTerms(root, postings, live);
+                root = build(live);
+                log.debug("오타 허용 사전 트리 정리 - 미사용 단어 {}개 제거, 단어 {}개", dead, live.size());
+                nodeCount = live.size();
+            }
+            this.snapshot = new Snapshot(root, nodeCount, postings);
+        }
+    }
+
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    /**
+     * 트리 노드 수 (포스팅이 없는 미사용 단어 포함, 구성 전이면 0)
+     */
+    int nodeCount() {
+        Snapshot current = snapshot;
+        return current == null ? 0 : current.nodeCount();
+    }
+
+    /**
+     * 검색어의 각 단어와 허용 거리 안에 있는 사전 단어 (편집 거리 오름차순, 같으면 Zone 수 내림차순)
+     */
+    public List<TermMatch> lookup(String word) {
+        Snapshot current = snapshot;
+        return current == null ? new ArrayList<>() : lookup(current, word);
+    }
+
+    private List<TermMatch> lookup(Snapshot current, String word) {
+        List<TermMatch> matches = new ArrayList<>();
+        if (current.root() == null) {
+            return matches;
+        }
+
+        int limit = allowedDistance(word);
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(current.root());
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            int distance = distance(word, node.term);
+            if (distance <= limit) {
+                Postings list = current.postings().get(node.term);
+                if (list != null && list.size > 0) {
+                    matches.add(new TermMatch(node.term, distance, list.size));
+                }
+            }
+            // 삼각 부등식: 자식까지의 거리가 [distance - limit, distance + limit] 안인 하위 트리만 후보
+            for (Map.Entry<Integer, Node> child : node.children.entrySet()) {
+                if (Math.abs(child.getKey() - distance) <= limit) {
+                    pending.push(child.getValue());
+                }
+            }
+        }
+        matches.sort(Comparator.comparingInt(TermMatch::distance)
+                .thenComparing(Comparator.comparingInt(TermMatch::frequency).reversed())
+                .thenComparing(TermMatch::term));
+        return matches;
+    }
+
+    /**
+     * 검색어의 모든 단어가 허용 거리 안에서 맞는 Zone
+     * 편집 거리 합 오름차순, 같으면 맞은 단어의 Zone 수 합 내림차순, 같으면 ID 순
+     */
+    public List<ZoneMatch> search(String keyword) {
+        Snapshot current = snapshot;
+        List<ZoneMatch> result = new ArrayList<>();
+        if (current == null) {
+            return result;
+        }
+
+        Set<String> words = termsOf(keyword);
+        if (words.isEmpty()) {
+            return result;
+        }
+
+        Map<Integer, int[]> scores = null; // Zone ID → {편집 거리 합, Zone 수 합}
+        for (String word : words) {
+            // 단어별로 Zone마다 가장 가까운 사전 단어 하나만 반영 (lookup 결과가 이미 순위순)
+            Map<Integer, int[]> wordScores = new HashMap<>();
+            for (TermMatch match : lookup(current, word)) {
+                Postings list = current.postings().get(match.term());
+                if (list == null) {
+                    continue;
+                }
+                for (int zoneId : list.toArray()) {
+                    wordScores.putIfAbsent(zoneId, new int[]{match.distance(), match.frequency()});
+                }
+            }
+            if (scores == null) {
+                scores = wordScores;
+            } else {
+                Map<Integer, int[]> merged = new HashMap<>();
+                for (Map.Entry<Integer, int[]> entry : scores.entrySet()) {
+                    int[] score = wordScores.get(entry.getKey());
+                    if (score != null) {
+                        merged.put(entry.getKey(), new int[]{entry.getValue()[0] + score[0], entry.getValue()[1] + score[1]});
+                    }
+                }
+                scores = merged;
+            }
+            if (scores.isEmpty()) {
+                return result;
+            }
+        }
+
+        scores.forEach((zoneId, score) -> result.add(new ZoneMatch(zoneId, score[0], score[1])));
+        result.sort(Comparator.comparingInt(ZoneMatch::distance)
+                .thenComparing(Comparator.comparingInt(ZoneMatch::frequency).reversed())
+                .thenComparingInt(ZoneMatch::zoneId));
+        return result;
+    }
+
+    // 짧은 단어는 한 글자만 틀려도 다른 단어가 되기 쉬우므로 거리 1로 제한
+    private int allowedDistance(String word) {
+        return word.length() <= SHORT_TERM_LENGTH ? 1 : maxDistance;
+    }
+
+    private static Set<String> termsOf(String... fields) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String field : fields) {
+            if (field == null) {
+                continue;
+            }
+            for (String term : SEPARATOR.split(field.toLowerCase(Locale.ROOT))) {
+                if (term.length() >= MIN_TERM_LENGTH) {
+                    terms.add(term);
+                }
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * 단어 목록으로 BK-tree 구성 (공개 전 트리이므로 자식 맵에 바로 추가)
+     */
+    private static Node build(Collection<String> terms) {
+        Node root = null;
+        for (String term : terms) {
+            if (root == null) {
+                root = new Node(term, new HashMap<>(4));
+                continue;
+            }
+            Node node = root;
+            while (true) {
+                int distance = distance(term, node.term);
+                if (distance == 0) {
+                    break;
+                }
+                Node child = node.children.get(distance);
+                if (child == null) {
+                    node.children.put(distance, new Node(term, new HashMap<>(4)));
+                    break;
+                }
+                node = child;
+            }
+        }
+        return root;
+    }
+
+    /**
+     * BK-tree 삽입 (경로 복사) - 새 단어까지의 경로 노드만 새로 만든 루트 반환, 이미 있으면 node 그대로
+     * 공개된 노드는 바꾸지 않으므로 이전 스냅샷을 읽는 조회에 영향 없음
+     */
+    private static Node insertCopy(Node node, String term) {
+        if (node == null) {
+            return new Node(term, new HashMap<>(4));
+        }
+        int distance = distance(term, node.term);
+        if (distance == 0) {
+            return node;
+        }
+        Node child = node.children.get(distance);
+        Node inserted = insertCopy(child, term);
+        if (inserted == child) {
+            return node;
+        }
+        Map<Integer, Node> children = new HashMap<>(node.children);
+        children.put(distance, inserted);
+        return new Node(node.term, children);
+    }
+
+    // 트리에서 포스팅이 남아 있는 단어만 수집
+    private static void collectTerms(Node root, OverlayMap<String, Postings> postings, List<String> terms) {
+        if (root == null) {
+            return;
+        }
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            if (postings.get(node.term) != null) {
+                terms.add(node.term);
+            }
+            node.children.values().forEach(pending::push);
+        }
+    }
+
+    /**
+     * Levenshtein 편집 거리 (두 행만 유지)
+     */
+    static int distance(String a, String b) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            char ca = a.charAt(i - 1);
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = ca == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+
+    /**
+     * 사전 단어 일치 결과
+     */
+    public record TermMatch(String term, int distance, int frequency) {
+    }
+
+    /**
+     * Zone 일치 결과 (distance: 검색어 단어별 편집 거리 합, frequency: 맞은 단어의 Zone 수 합)
+     */
+    public record ZoneMatch(int zoneId, int distance, int frequency) {
+    }
+
+    /**
+     * BK-tree 노드 - 자식은 부모 단어와의 편집 거리로 구분 (공개 후에는 변경하지 않음)
+     */
+    private static final class Node {
+        final String term;
+        final Map<Integer, Node> children;
+
+        Node(String term, Map<Integer, Node> children) {
+            this.term = term;
+            this.children = children;
+        }
+    }
+
+    /**
+     * 사전 스냅샷 (불변) - BK-tree 루트, 트리 노드 수(미사용 단어 포함), 단어 → Zone ID 포스팅
+     */
+    private record Snapshot(Node root, int nodeCount, OverlayMap<String, Postings> postings) {
+    }
+}
@@ -0,0 +1,203 @@
+package com.neogulmap.neogul_map.index;
+
+import com.neogulmap.neogul_map.domain.Zone;
+import com.neogulmap.neogul_map.dto.ZoneText;
+import com.neogulmap.neogul_map.event.ZoneChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import static com.neogulmap.neogul_map.index.ZoneTextStore.Text.ADDRESS;
+import static com.neogulmap.neogul_map.index.ZoneTextStore.Text.DESCRIPTION;
+import static com.neogulmap.neogul_map.index.ZoneTextStore.Text.REGION;
+import static com.neogulmap.neogul_map.index.ZoneTextStore.Text.SUBTYPE;
+import static com.neogulmap.neogul_map.index.ZoneTextStore.Text.TYPE;
+
+/**
+ * Zone 키워드 검색용 n-gram 역색인
+ *
+ * region, address, type, subtype, description을 소문자로 정규화한 뒤 음절 unigram/bigram/trigram 단위로
+ * Zone ID 포스팅 리스트(delta + varint 압축)를 만든다. 검색어의 n-gram 포스팅을 작은 것부터 교집합해
+ * 후보를 구하며, n-gram이 모두 있어도 연속된 부분 문자열이 아닐 수 있으므로 최종 판정은 matches()로 한다.
+ * 최종 판정은 ZoneTextStore의 정규화 텍스트로 하므로 findMatches()는 DB(description CLOB)를 읽지 않는다.
+ * 한 글자 검색어는 unigram 포스팅으로 찾는다.
+ *
+ * 포스팅과 색인한 시점의 텍스트 참조는 하나의 불변 스냅샷으로 두고 쓰기 때마다 바뀐 부분만 교체한 새 스냅샷으로 바꾼다 (읽기는 락 없음).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ZoneTextIndex implements ZoneIndex {
+
+    private final ZoneTextStore zoneTextStore;
+
+    private volatile Snapshot snapshot = null;
+
+    // 쓰기 작업 직렬화용 락
+    private final Object writeLock = new Object();
+
+    @Override
+    public void rebuild() {
+        synchronized (writeLock) {
+            long start = System.currentTimeMillis();
+            List<ZoneTextStore.Text> texts = zoneTextStore.all();
+
+            // ID 오름차순으로 읽으므로 포스팅에 append만 하면 정렬 상태가 유지됨
+            NgramIndex.Builder builder = new NgramIndex.Builder();
+            Map<Integer, ZoneTextStore.Text> indexed = new HashMap<>(texts.size() * 2);
+            for (ZoneTextStore.Text text : texts) {
+                builder.add(text.id(), grams(text));
+                indexed.put(text.id(), text);
+            }
+            NgramIndex built = builder.build();
+            this.snapshot = new Snapshot(built, OverlayMap.of(indexed));
+
+            log.info("키워드 인덱스 구성 완료 - Zone {}개, n-gram {}개, 포스팅 {}건, {}ms",
+                    texts.size(), built.gramCount(), builder.entries(), System.currentTimeMillis() - start);
+        }
+    }
+
+    @Override
+    public void apply(ZoneChangedEvent event) {
+        synchronized (writeLock) {
+            Snapshot current = snapshot;
+            if (current == null) {
+                return; // 아직 구성 전이면 rebuild 시 DB에서 함께 읽힘
+            }
+            int zoneId = event.getZoneId();
+
+            // 색인한 텍스트의 n-gram을 저장소의 현재 텍스트 n-gram으로 교체 (중복 반영, rebuild 직후 반영에도 안전)
+            ZoneTextStore.Text stale = current.texts().get(zoneId);
+            ZoneTextStore.Text fresh = zoneTextStore.get(zoneId);
+            Map<Integer, ZoneTextStore.Text> changed = new HashMap<>();
+            changed.put(zoneId, fresh);
+
+            // 포스팅과 텍스트를 한 스냅샷으로 교체 - 읽는 쪽은 항상 같은 시점의 둘을 봄
+            this.snapshot = new Snapshot(current.index().update(zoneId, grams(stale), grams(fresh)),
+                    current.texts().with(changed));
+        }
+    }
+
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    /**
+     * 색인으로 검색할 수 있는 검색어인지 여부
+     */
+    public static boolean isSearchable(String keyword) {
+        return keyword != null && normalize(keyword).length() >= NgramIndex.MIN_QUERY_LENGTH;
+    }
+
+    /**
+     * 검색어의 n-gram을 모두 가진 Zone ID (오름차순, matches()로 최종 판정 필요)
+     */
+    public List<Integer> findCandidates(String keyword) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return new ArrayList<>();
+        }
+        return Arrays.stream(current.index().findCandidates(normalize(keyword))).boxed().toList();
+    }
+
+    /**
+     * 검색어를 포함하는 Zone ID (오름차순, 최종 판정까지 완료 - matches()와 같은 결과)
+     */
+    public List<Integer> findMatches(String keyword) {
+        return findMatches(keyword, Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    /**
+     * afterId 다음부터 검색어를 포함하는 Zone ID (오름차순 최대 limit개 - 키셋 페이지네이션용)
+     * 후보 중 afterId 다음부터 최종 판정하므로 앞 페이지의 후보는 다시 판정하지 않는다.
+     */
+    public List<Integer> findMatches(String keyword, int afterId, int limit) {
+        Snapshot current = snapshot;
+        List<Integer> result = new ArrayList<>();
+        if (current == null) {
+            return result;
+        }
+        String normalized = normalize(keyword);
+        int[] candidates = current.index().findCandidates(normalized);
+        int start = Arrays.binarySearch(candidates, afterId);
+        start = start >= 0 ? start + 1 : -start - 1;
+        for (int i = start; i < candidates.length && result.size() < limit; i++) {
+            ZoneTextStore.Text text = current.texts().get(candidates[i]);
+            if (text != null && contains(text, normalized)) {
+                result.add(candidates[i]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 보관된 정규화 텍스트 (순위 계산용, size는 보관하지 않으므로 null) - 없으면 null
+     */
+    public ZoneText findText(int zoneId) {
+        Snapshot current = snapshot;
+        ZoneTextStore.Text text = current == null ? null : current.texts().get(zoneId);
+        if (text == null) {
+            return null;
+        }
+        return new ZoneText(zoneId, text.normalized(REGION), text.normalized(ADDRESS), text.normalized(TYPE),
+                text.normalized(SUBTYPE), null, text.normalized(DESCRIPTION));
+    }
+
+    /**
+     * 후보 수 추정 - 검색어 n-gram 중 가장 짧은 포스팅 길이 (색인 불가 검색어는 -1)
+     */
+    public int estimateCandidates(String keyword) {
+        Snapshot current = snapshot;
+        if (current == null || !isSearchable(keyword)) {
+            return -1;
+        }
+        return current.index().estimateCandidates(normalize(keyword));
+    }
+
+    /**
+     * Zone이 검색어를 포함하는지 최종 판정 (대소문자 무시, 부분 문자열)
+     */
+    public static boolean matches(Zone zone, String keyword) {
+        String normalized = normalize(keyword);
+        for (String field : new String[]{zone.getRegion(), zone.getAddress(), zone.getType(),
+                zone.getSubtype(), zone.getDescription()}) {
+            if (field != null && normalize(field).contains(normalized)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static String normalize(String text) {
+        return text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // 필드 하나 안에 연속으로 있어야 일치 (두 필드에 걸쳐 맞지 않음)
+    private static boolean contains(ZoneTextStore.Text text, String keyword) {
+        for (String field : text.normalized()) {
+            if (field != null && field.contains(keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 정규화 텍스트의 필드별 n-gram
+    private static Set<Long> grams(ZoneTextStore.Text text) {
+        return text == null ? Set.of() : NgramIndex.grams(text.normalized());
+    }
+
+    /**
+     * 인덱스 스냅샷 (불변) - n-gram 포스팅과 색인한 시점의 Zone별 텍스트 (ZoneTextStore와 같은 객체)
+     */
+    private record Snapshot(NgramIndex index, OverlayMap<Integer, ZoneTextStore.Text> texts) {
+    }
+}
@@ -0,0 +1,141 @@
+package com.neogulmap.neogul_map.index;
+
+import com.neogulmap.neogul_map.domain.Zone;
+import com.neogulmap.neogul_map.dto.ZoneText;
+import com.neogulmap.neogul_map.event.ZoneChangedEvent;
+import com.neogulmap.neogul_map.repository.ZoneRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Zone 검색 텍스트 공용 저장소 (ZoneTextIndex, ZoneChosungIndex, ZoneTermIndex가 공유)
+ *
+ * region, address, type, subtype, description을 DB에서 한 번만 읽어 Zone별 Text로 정규화해 둔다.
+ * 검색 인덱스는 원문 사본을 따로 만들지 않고 자신이 색인한 시점의 Text 참조만 보관하므로
+ * description CLOB 텍스트는 메모리에 한 벌만 남는다.
+ *
+ * 다른 인덱스가 구성/반영 시 이 저장소를 읽으므로 리스너에서 가장 먼저 실행되도록 순서를 둔다.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class ZoneTextStore implements ZoneIndex {
+
+    private final ZoneRepository zoneRepository;
+
+    private volatile OverlayMap<Integer, Text> texts = null;
+
+    // 쓰기 작업 직렬화용 락
+    private final Object writeLock = new Object();
+
+    @Override
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        synchronized (writeLock) {
+            long start = System.currentTimeMillis();
+            List<ZoneText> loaded = zoneRepository.findAllTexts();
+
+            Map<Integer, Text> built = new HashMap<>(loaded.size() * 2);
+            for (ZoneText text : loaded) {
+                built.put(text.id(), Text.of(text.id(), text.region(), text.address(), text.type(),
+                        text.subtype(), text.description()));
+            }
+            this.texts = OverlayMap.of(built);
+
+            log.info("검색 텍스트 저장소 구성 완료 - Zone {}개, {}ms", loaded.size(), System.currentTimeMillis() - start);
+        }
+    }
+
+    @Override
+    public void apply(ZoneChangedEvent event) {
+        synchronized (writeLock) {
+            OverlayMap<Integer, Text> current = texts;
+            if (current == null) {
+                return; // 아직 구성 전이면 rebuild 시 DB에서 함께 읽힘
+            }
+            Zone zone = event.getCurrent();
+            Map<Integer, Text> changed = new HashMap<>();
+            changed.put(event.getZoneId(), zone == null ? null : Text.of(event.getZoneId(), zone.getRegion(),
+                    zone.getAddress(), zone.getType(), zone.getSubtype(), zone.getDescription()));
+            this.texts = current.with(changed);
+        }
+    }
+
+    public boolean isReady() {
+        return texts != null;
+    }
+
+    /**
+     * Zone 텍스트 (삭제되었으면 null)
+     *
+     * @throws IllegalStateException 저장소가 아직 구성되지 않은 경우
+     */
+    Text get(int zoneId) {
+        return requireTexts().get(zoneId);
+    }
+
+    /**
+     * 전체 Zone 텍스트 (ID 오름차순 - 인덱스 전체 구성용)
+     *
+     * @throws IllegalStateException 저장소가 아직 구성되지 않은 경우
+     */
+    List<Text> all() {
+        OverlayMap<Integer, Text> current = requireTexts();
+        List<Text> all = new ArrayList<>(current.size());
+        current.forEach((zoneId, text) -> all.add(text));
+        all.sort(Comparator.comparingInt(Text::id));
+        return all;
+    }
+
+    private OverlayMap<Integer, Text> requireTexts() {
+        OverlayMap<Integer, Text> current = texts;
+        if (current == null) {
+            throw new IllegalStateException("검색 텍스트 저장소가 아직 구성되지 않았습니다");
+        }
+        return current;
+    }
+
+    /**
+     * Zone 텍스트 (불변) - 필드별 원문(앞뒤 공백 제거)과 소문자 정규화본
+     * 정규화로 바뀌는 글자가 없으면 두 배열이 같은 String을 가리키므로 한글 텍스트는 추가 메모리가 들지 않는다.
+     */
+    record Text(int id, String[] original, String[] normalized) {
+
+        // 필드 순서
+        static final int REGION = 0;
+        static final int ADDRESS = 1;
+        static final int TYPE = 2;
+        static final int SUBTYPE = 3;
+        static final int DESCRIPTION = 4;
+
+        static Text of(int id, String... fields) {
+            String[] original = new String[fields.length];
+            String[] normalized = new String[fields.length];
+            for (int i = 0; i < fields.length; i++) {
+                original[i] = fields[i] == null ? null : fields[i].strip();
+                normalized[i] = original[i] == null ? null : original[i].trim().toLowerCase(Locale.ROOT);
+            }
+            return new Text(id, original, normalized);
+        }
+
+        String original(int field) {
+            return original[field];
+        }
+
+        String normalized(int field) {
+            return normalized[field];
+        }
+    }
+}
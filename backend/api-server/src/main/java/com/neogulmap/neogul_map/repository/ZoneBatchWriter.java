@@ -0,0 +1,118 @@
+package com.neogulmap.neogul_map.repository;
+
+import com.neogulmap.neogul_map.domain.Zone;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Zone 일괄 저장 (JDBC 배치)
+ * 엔티티 영속성 컨텍스트를 거치지 않고 INSERT 한 묶음을 한 번에 보낸다. 트랜잭션은 호출하는 쪽에서 관리
+ */
+@Repository
+@RequiredArgsConstructor
+public class ZoneBatchWriter {
+
+    private static final String INSERT_ZONE =
+            "INSERT INTO `zone` (`id`, `region`, `type`, `subtype`, `description`, `latitude`, `longitude`, `size`, " +
+            "`date`, `address`, `creator`, `image`) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // Zone 엔티티의 @TableGenerator(pooled-lo)와 같은 행 - next_val은 다음에 할당할 ID
+    private static final String RESERVE_ZONE_IDS =
+            "UPDATE `id_generator` SET `next_val` = `next_val` + ? WHERE `sequence_name` = 'zone'";
+    private static final String SELECT_ZONE_ID_LIMIT =
+            "SELECT `next_val` FROM `id_generator` WHERE `sequence_name` = 'zone'";
+
+    private static final String INSERT_CHANGE =
+            "INSERT INTO `zone_change` (`zone_id`, `version`, `deleted`, `changed_at`) VALUES (?, ?, FALSE, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 등록된 전체 주소 (중복 판정용)
+     */
+    public Set<String> findAllAddresses() {
+        Set<String> addresses = new HashSet<>();
+        jdbcTemplate.query("SELECT `address` FROM `zone`", rs -> {
+            addresses.add(rs.getString(1));
+        });
+        return addresses;
+    }
+
+    /**
+     * Zone 배치 INSERT - ID는 id_generator에서 zones 수만큼 한 번에 예약
+     *
+     * @return 생성된 Zone ID (zones 순서)
+     */
+    public List<Integer> insertZones(List<Zone> zones) {
+        jdbcTemplate.update(RESERVE_ZONE_IDS, zones.size());
+        Long limit = jdbcTemplate.queryForObject(SELECT_ZONE_ID_LIMIT, Long.class);
+        int firstId = (int) (limit - zones.size());
+
+        jdbcTemplate.batchUpdate(INSERT_ZONE, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Zone zone = zones.get(i);
+                ps.setInt(1, firstId + i);
+                ps.setString(2, zone.getRegion());
+                ps.setString(3, zone.getType());
+                ps.setString(4, zone.getSubtype());
+                if (zone.getDescription() != null) {
+                    ps.setString(5, zone.getDescription());
+                } else {
+                    ps.setNull(5, Types.CLOB);
+                }
+                ps.setBigDecimal(6, zone.getLatitude());
+                ps.setBigDecimal(7, zone.getLongitude());
+                ps.setString(8, zone.getSize());
+                ps.setDate(9, Date.valueOf(zone.getDate()));
+                ps.setString(10, zone.getAddress());
+                ps.setString(11, zone.getUser());
+                ps.setString(12, zone.getImage());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return zones.size();
+            }
+        });
+
+        List<Integer> ids = new ArrayList<>(zones.size());
+        for (int i = 0; i < zones.size(); i++) {
+            ids.add(firstId + i);
+        }
+        return ids;
+    }
+
+    /**
+     * 생성 변경 기록 배치 INSERT (zoneIds[i]의 버전은 firstVersion + i)
+     */
+    public void insertChanges(List<Integer> zoneIds, long firstVersion) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_CHANGE, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setInt(1, zoneIds.get(i));
+                ps.setLong(2, firstVersion + i);
+                ps.setTimestamp(3, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return zoneIds.size();
+            }
+        });
+    }
+}
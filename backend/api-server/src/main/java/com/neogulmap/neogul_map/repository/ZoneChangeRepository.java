@@ -0,0 +1,31 @@
+package com.neogulmap.neogul_map.repository;
+
+import com.neogulmap.neogul_map.domain.ZoneChange;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface ZoneChangeRepository extends JpaRepository<ZoneChange, Integer> {
+
+    // since 이후 변경 (버전 오름차순)
+    @Query("SELECT c FROM ZoneChange c WHERE c.version > :since ORDER BY c.version")
+    List<ZoneChange> findChangesSince(@Param("since") long since, Pageable pageable);
+
+    // 버전 카운터 증가 - 갱신한 행의 락이 커밋까지 유지되어 버전이 커밋 순서대로 보이게 됨
+    @Modifying
+    @Query(value = "UPDATE zone_change_seq SET version = version + 1 WHERE id = 1", nativeQuery = true)
+    int incrementVersion();
+
+    // 버전 카운터를 count만큼 증가 (일괄 가져오기 - 배치 하나에 연속된 버전 범위를 한 번에 할당)
+    @Modifying
+    @Query(value = "UPDATE zone_change_seq SET version = version + :count WHERE id = 1", nativeQuery = true)
+    int incrementVersionBy(@Param("count") int count);
+
+    // 현재 버전 (커밋된 마지막 변경 버전)
+    @Query(value = "SELECT version FROM zone_change_seq WHERE id = 1", nativeQuery = true)
+    long currentVersion();
+}
@@ -0,0 +1,127 @@
+package com.neogulmap.neogul_map.repository;
+
+import com.neogulmap.neogul_map.domain.Zone;
+import com.neogulmap.neogul_map.dto.ZoneFields;
+import com.neogulmap.neogul_map.dto.ZoneSummary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 필요한 컬럼만 SELECT 하는 Zone 조회 (?fields= 지원, 조건 검색 요약 조회)
+ * 요청하지 않은 컬럼(특히 description CLOB)은 DB에서 읽지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ZoneFieldQuery {
+
+    // IN 절 하나에 넣는 최대 ID 수
+    private static final int ID_CHUNK_SIZE = 1_000;
+
+    private final EntityManager entityManager;
+
+    // 전체 Zone (ID 오름차순)
+    public List<Map<String, Object>> findAll(ZoneFields fields) {
+        return find(null, fields, Integer.MAX_VALUE);
+    }
+
+    // 지정한 ID의 Zone (ID 오름차순, 없는 ID는 제외) - IN 목록은 구간별로 나눠 조회
+    public List<Map<String, Object>> findByIds(Collection<Integer> ids, ZoneFields fields) {
+        List<Integer> sorted = ids.stream().sorted().toList();
+        List<Map<String, Object>> rows = new ArrayList<>(sorted.size());
+        for (int from = 0; from < sorted.size(); from += ID_CHUNK_SIZE) {
+            List<Integer> chunk = sorted.subList(from, Math.min(from + ID_CHUNK_SIZE, sorted.size()));
+            rows.addAll(find((root, query, cb) -> root.get("id").in(chunk), fields, Integer.MAX_VALUE));
+        }
+        return rows;
+    }
+
+    /**
+     * 조건에 맞는 Zone의 선택 필드 (ID 오름차순 최대 limit개)
+     *
+     * @param where 조건 (null이면 전체)
+     */
+    public List<Map<String, Object>> find(Specification<Zone> where, ZoneFields fields, int limit) {
+        return find(where, fields, Sort.by("id"), 0, limit);
+    }
+
+    /**
+     * 조건에 맞는 Zone의 선택 필드 (sort 순서로 offset부터 최대 limit개 - 페이지 조회용)
+     *
+     * @param where 조건 (null이면 전체)
+     */
+    public List<Map<String, Object>> find(Specification<Zone> where, ZoneFields fields, Sort sort, long offset,
+                                          int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Zone> root = query.from(Zone.class);
+
+        List<String> columns = fields.columns();
+        List<Selection<?>> selections = new ArrayList<>(columns.size());
+        for (String column : columns) {
+            selections.add(root.get(column).alias(column));
+        }
+        query.multiselect(selections);
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (Tuple tuple : execute(query, root, cb, where, offset, limit)) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (String column : columns) {
+                row.put(column, tuple.get(column));
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    /**
+     * 조건에 맞는 Zone 요약 (생성자 표현식으로 요약 컬럼만 SELECT, ID 오름차순 최대 limit개)
+     *
+     * @param where 조건 (null이면 전체)
+     */
+    public List<ZoneSummary> findSummaries(Specification<Zone> where, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ZoneSummary> query = cb.createQuery(ZoneSummary.class);
+        Root<Zone> root = query.from(Zone.class);
+        query.select(cb.construct(ZoneSummary.class, root.get("id"), root.get("region"), root.get("address"),
+                root.get("latitude"), root.get("longitude"), root.get("type"), root.get("subtype"),
+                root.get("size"), root.get("image")));
+        query.orderBy(cb.asc(root.get("id")));
+        return execute(query, root, cb, where, 0, limit);
+    }
+
+    private <T> List<T> execute(CriteriaQuery<T> query, Root<Zone> root, CriteriaBuilder cb,
+                                Specification<Zone> where, long offset, int limit) {
+        if (where != null) {
+            Predicate predicate = where.toPredicate(root, query, cb);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+        TypedQuery<T> typed = entityManager.createQuery(query);
+        if (offset > 0) {
+            typed.setFirstResult(Math.toIntExact(offset));
+        }
+        if (limit < Integer.MAX_VALUE) {
+            typed.setMaxResults(limit);
+        }
+        return typed.getResultList();
+    }
+}
@@ -1,12 +1,19 @@
 package com.neogulmap.neogul_map.repository;
 
 import com.neogulmap.neogul_map.domain.Zone;
+import com.neogulmap.neogul_map.dto.ZonePoint;
+import com.neogulmap.neogul_map.dto.ZoneSummary;
+import com.neogulmap.neogul_map.dto.ZoneText;
+import com.neogulmap.neogul_map.util.GeoCellCover;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,6 +36,27 @@ public interface ZoneRepository extends JpaRepository<Zone, Integer>, JpaSpecifi
            "LOWER(z.subtype) LIKE LOWER(CONCAT('%', :keyword, '%'))")
     Page<Zone> findByKeyword(@Param("keyword") String keyword, Pageable pageable);
     
+    // 키워드 인덱스 구성 전 대체 경로 - 인덱스와 같은 대상(설명 포함)으로 ID만 조회 (엔티티, CLOB 로딩 없음)
+    @Query("SELECT z.id FROM Zone z WHERE " +
+           "LOWER(z.region) LIKE CONCAT('%', :keyword, '%') OR " +
+           "LOWER(z.address) LIKE CONCAT('%', :keyword, '%') OR " +
+           "LOWER(z.type) LIKE CONCAT('%', :keyword, '%') OR " +
+           "LOWER(z.subtype) LIKE CONCAT('%', :keyword, '%') OR " +
+           "LOWER(CAST(z.description AS String)) LIKE CONCAT('%', :keyword, '%') " +
+           "ORDER BY z.id")
+    List<Integer> findIdsByKeyword(@Param("keyword") String keyword);
+    
+    // 키워드 인덱스 구성 전 키셋 페이지네이션 - afterId 다음 일치 ID (개수는 pageable로 제한)
+    @Query("SELECT z.id FROM Zone z WHERE z.id > :afterId AND (" +
+           "LOWER(z.region) LIKE CONCAT('%', :keyword, '%') OR " +
+           "LOWER(z.address) LIKE CONCAT('%', :keyword, '%') OR " +
+           "LOWER(z.type) LIKE CONCAT('%', :keyword, '%') OR " +
+           "LOWER(z.subtype) LIKE CONCAT('%', :keyword, '%') OR " +
+           "LOWER(CAST(z.description AS String)) LIKE CONCAT('%', :keyword, '%')) " +
+           "ORDER BY z.id")
+    List<Integer> findIdsByKeywordAfter(@Param("keyword") String keyword, @Param("afterId") int afterId,
+                                        Pageable pageable);
+    
     // 지역별 검색
     List<Zone> findByRegionContainingIgnoreCase(String region);
     Page<Zone> findByRegionContainingIgnoreCase(String region, Pageable pageable);
@@ -58,36 +86,136 @@ public interface ZoneRepository extends JpaRepository<Zone, Integer>, JpaSpecifi
     Page<Zone> findByRegionContainingIgnoreCaseAndSubtypeContainingIgnoreCase(String region, String subtype, Pageable pageable);
     
     // 위치 기반 검색 - Haversine 공식을 사용한 반경 내 검색
-    @Query("SELECT z FROM Zone z WHERE " +
-           "(6371 * acos(cos(radians(:latitude)) * cos(radians(z.latitude)) * " +
-           "cos(radians(z.longitude) - radians(:longitude)) + " +
-           "sin(radians(:latitude)) * sin(radians(z.latitude)))) <= :radiusKm")
-    List<Zone> findNearbyZones(@Param("latitude") Double latitude, 
-                              @Param("longitude") Double longitude, 
-                              @Param("radiusKm") Double radiusKm);
+    // geocell 셀 목록(인덱스 범위 스캔)과 bounding box로 먼저 좁힌 뒤 정확한 거리 계산
+    default List<Zone> findNearbyZones(Double latitude, Double longitude, Double radiusKm) {
+        return findNearbyZones(latitude, longitude, radiusKm, null, null);
+    }
     
     // 위치 기반 검색 + 타입 필터링
+    default List<Zone> findNearbyZonesByType(Double latitude, Double longitude, Double radiusKm, String type) {
+        return findNearbyZones(latitude, longitude, radiusKm, type, null);
+    }
+    
+    // 위치 기반 검색 + 지역 필터링
+    default List<Zone> findNearbyZonesByRegion(Double latitude, Double longitude, Double radiusKm, String region) {
+        return findNearbyZones(latitude, longitude, radiusKm, null, region);
+    }
+    
+    // 위치 기반 검색 공통 (type, region은 null이면 조건 없음)
+    default List<Zone> findNearbyZones(Double latitude, Double longitude, Double radiusKm, String type, String region) {
+        GeoCellCover cover = GeoCellCover.of(latitude, longitude, radiusKm * 1000);
+        return cover.isListed()
+                ? findNearbyZonesInCells(latitude, longitude, radiusKm, cover, type, region)
+                : findNearbyZonesInCellRange(latitude, longitude, radiusKm, cover, type, region);
+    }
+    
+    // 셀 목록(IN) 사전 필터
     @Query("SELECT z FROM Zone z WHERE " +
+           "z.geocell IN :#{#cover.cells()} AND " +
+           "z.latitude BETWEEN :#{#cover.minLatitude()} AND :#{#cover.maxLatitude()} AND " +
+           "z.longitude BETWEEN :#{#cover.minLongitude()} AND :#{#cover.maxLongitude()} AND " +
            "(6371 * acos(cos(radians(:latitude)) * cos(radians(z.latitude)) * " +
            "cos(radians(z.longitude) - radians(:longitude)) + " +
            "sin(radians(:latitude)) * sin(radians(z.latitude)))) <= :radiusKm " +
-           "AND LOWER(z.type) LIKE LOWER(CONCAT('%', :type, '%'))")
-    List<Zone> findNearbyZonesByType(@Param("latitude") Double latitude, 
-                                    @Param("longitude") Double longitude, 
-                                    @Param("radiusKm") Double radiusKm,
-                                    @Param("type") String type);
+           "AND (:type IS NULL OR LOWER(z.type) LIKE LOWER(CONCAT('%', :type, '%'))) " +
+           "AND (:region IS NULL OR LOWER(z.region) LIKE LOWER(CONCAT('%', :region, '%')))")
+    List<Zone> findNearbyZonesInCells(@Param("latitude") Double latitude,
+                                      @Param("longitude") Double longitude,
+                                      @Param("radiusKm") Double radiusKm,
+                                      @Param("cover") GeoCellCover cover,
+                                      @Param("type") String type,
+                                      @Param("region") String region);
     
-    // 위치 기반 검색 + 지역 필터링
+    // 반경이 커서 셀이 많을 때 - 셀 키 범위 사전 필터
     @Query("SELECT z FROM Zone z WHERE " +
+           "z.geocell BETWEEN :#{#cover.minCell()} AND :#{#cover.maxCell()} AND " +
+           "z.latitude BETWEEN :#{#cover.minLatitude()} AND :#{#cover.maxLatitude()} AND " +
+           "z.longitude BETWEEN :#{#cover.minLongitude()} AND :#{#cover.maxLongitude()} AND " +
            "(6371 * acos(cos(radians(:latitude)) * cos(radians(z.latitude)) * " +
            "cos(radians(z.longitude) - radians(:longitude)) + " +
            "sin(radians(:latitude)) * sin(radians(z.latitude)))) <= :radiusKm " +
-           "AND LOWER(z.region) LIKE LOWER(CONCAT('%', :region, '%'))")
-    List<Zone> findNearbyZonesByRegion(@Param("latitude") Double latitude, 
-                                      @Param("longitude") Double longitude, 
-                                      @Param("radiusKm") Double radiusKm,
-                                      @Param("region") String region);
+           "AND (:type IS NULL OR LOWER(z.type) LIKE LOWER(CONCAT('%', :type, '%'))) " +
+           "AND (:region IS NULL OR LOWER(z.region) LIKE LOWER(CONCAT('%', :region, '%')))")
+    List<Zone> findNearbyZonesInCellRange(@Param("latitude") Double latitude,
+                                          @Param("longitude") Double longitude,
+                                          @Param("radiusKm") Double radiusKm,
+                                          @Param("cover") GeoCellCover cover,
+                                          @Param("type") String type,
+                                          @Param("region") String region);
     
     // 주소로 검색 (MVP용)
     List<Zone> findByAddressContainingIgnoreCase(String address);
+    
+    // 영역(bounding box) 검색 - 공간 인덱스 구성 전 대체 경로
+    Slice<Zone> findByLatitudeBetweenAndLongitudeBetween(BigDecimal minLatitude, BigDecimal maxLatitude,
+                                                         BigDecimal minLongitude, BigDecimal maxLongitude,
+                                                         Pageable pageable);
+    
+    // 영역(bounding box) 요약 검색 - 공간 인덱스 구성 전 대체 경로 (description CLOB 제외, ID 오름차순)
+    @Query("SELECT new com.neogulmap.neogul_map.dto.ZoneSummary(z.id, z.region, z.address, z.latitude, z.longitude, " +
+           "z.type, z.subtype, z.size, z.image) FROM Zone z " +
+           "WHERE z.latitude BETWEEN :minLatitude AND :maxLatitude " +
+           "AND z.longitude BETWEEN :minLongitude AND :maxLongitude ORDER BY z.id")
+    List<ZoneSummary> findSummariesWithinBounds(@Param("minLatitude") BigDecimal minLatitude,
+                                                @Param("maxLatitude") BigDecimal maxLatitude,
+                                                @Param("minLongitude") BigDecimal minLongitude,
+                                                @Param("maxLongitude") BigDecimal maxLongitude,
+                                                Pageable pageable);
+    
+    // 공간 타입 모드(app.zone.spatial.mode=database, MySQL) - location POINT 컬럼과 SPATIAL 인덱스 사용
+    // envelope(MBRContains)로 R-tree 범위 조회 후 구면 거리로 정확히 판정
+    @Query(value = "SELECT z.id FROM zone z " +
+                   "WHERE MBRContains(ST_GeomFromText(:envelope, 4326), z.location) " +
+                   "AND ST_Distance_Sphere(z.location, ST_GeomFromText(:center, 4326), 6371000) <= :radiusMeters",
+           nativeQuery = true)
+    List<Integer> findIdsWithinRadiusSpatial(@Param("center") String center,
+                                             @Param("envelope") String envelope,
+                                             @Param("radiusMeters") double radiusMeters);
+    
+    // 공간 타입 모드 - 영역 검색 (limit + 1개를 조회해 잘림 여부 판단)
+    @Query(value = "SELECT z.id FROM zone z " +
+                   "WHERE MBRContains(ST_GeomFromText(:envelope, 4326), z.location) " +
+                   "ORDER BY z.id LIMIT :limit",
+           nativeQuery = true)
+    List<Integer> findIdsWithinBoundsSpatial(@Param("envelope") String envelope, @Param("limit") int limit);
+    
+    // 공간 타입 모드 - envelope 안에서 거리순 상위 k개 [id, 거리(미터)]
+    @Query(value = "SELECT z.id, ST_Distance_Sphere(z.location, ST_GeomFromText(:center, 4326), 6371000) AS distance " +
+                   "FROM zone z " +
+                   "WHERE MBRContains(ST_GeomFromText(:envelope, 4326), z.location) " +
+                   "ORDER BY distance LIMIT :k",
+           nativeQuery = true)
+    List<Object[]> findNearestSpatial(@Param("center") String center,
+                                      @Param("envelope") String envelope,
+                                      @Param("k") int k);
+    
+    // 공간 인덱스 구성용 좌표 조회 (description 등은 로딩하지 않음)
+    @Query("SELECT new com.neogulmap.neogul_map.dto.ZonePoint(z.id, z.latitude, z.longitude) FROM Zone z")
+    List<ZonePoint> findAllPoints();
+    
+    @Query("SELECT new com.neogulmap.neogul_map.dto.ZonePoint(z.id, z.latitude, z.longitude) FROM Zone z WHERE z.id IN :ids")
+    List<ZonePoint> findPointsByIdIn(@Param("ids") Collection<Integer> ids);
+    
+    @Query("SELECT new com.neogulmap.neogul_map.dto.ZoneText(z.id, z.region, z.address, z.type, z.subtype, z.size, z.description) " +
+           "FROM Zone z WHERE z.id IN :ids")
+    List<ZoneText> findTextsByIdIn(@Param("ids") Collection<Integer> ids);
+    
+    // 검색/속성 인덱스 구성용 텍스트 조회 (ID 오름차순)
+    @Query("SELECT new com.neogulmap.neogul_map.dto.ZoneText(z.id, z.region, z.address, z.type, z.subtype, z.size, z.description) " +
+           "FROM Zone z ORDER BY z.id")
+    List<ZoneText> findAllTexts();
+    
+    // 목록/지도용 요약 조회 (description CLOB 제외, ID 오름차순)
+    @Query("SELECT new com.neogulmap.neogul_map.dto.ZoneSummary(z.id, z.region, z.address, z.latitude, z.longitude, " +
+           "z.type, z.subtype, z.size, z.image) FROM Zone z ORDER BY z.id")
+    List<ZoneSummary> findAllSummaries();
+    
+    @Query("SELECT new com.neogulmap.neogul_map.dto.ZoneSummary(z.id, z.region, z.address, z.latitude, z.longitude, " +
+           "z.type, z.subtype, z.size, z.image) FROM Zone z WHERE z.id IN :ids ORDER BY z.id")
+    List<ZoneSummary> findSummariesByIdIn(@Param("ids") Collection<Integer> ids);
+    
+    // afterId 다음 요약 (ID 오름차순, 개수는 pageable로 제한 - COUNT 없음)
+    @Query("SELECT new com.neogulmap.neogul_map.dto.ZoneSummary(z.id, z.region, z.address, z.latitude, z.longitude, " +
+           "z.type, z.subtype, z.size, z.image) FROM Zone z WHERE z.id > :afterId ORDER BY z.id")
+    List<ZoneSummary> findSummariesAfter(@Param("afterId") int afterId, Pageable pageable);
 }
@@ -0,0 +1,156 @@
+package com.neogulmap.neogul_map.repository;
+
+import com.neogulmap.neogul_map.dto.ZoneFields;
+import com.neogulmap.neogul_map.dto.ZoneSummary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Zone 요약(또는 선택 필드) 행 스트리밍 조회 (NDJSON 응답용)
+ *
+ * 결과를 List로 모으지 않고 forward-only 커서에서 한 행씩 읽어 바로 넘긴다.
+ * 요청당 메모리는 fetch-size 행(ID 목록 조회는 청크 하나)으로 고정된다.
+ * MySQL에서 fetch size대로 나눠 받으려면 JDBC URL에 useCursorFetch=true가 필요하다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ZoneStreamQuery {
+
+    private static final String SELECT_SUMMARY =
+            "SELECT `id`, `region`, `address`, `latitude`, `longitude`, `type`, `subtype`, `size`, `image` FROM `zone`";
+
+    // 엔티티 속성과 이름이 다른 컬럼
+    private static final Map<String, String> COLUMN_NAMES = Map.of("user", "creator");
+
+    // ID 목록 조회 시 IN 절 하나에 넣는 최대 ID 수
+    private static final int ID_CHUNK_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.zone.stream.fetch-size:500}")
+    private int fetchSize;
+
+    /**
+     * 전체 Zone 요약 (ID 오름차순)
+     */
+    public void streamAll(Consumer<ZoneSummary> consumer) {
+        streamAll(SELECT_SUMMARY, ZoneStreamQuery::mapSummary, consumer);
+    }
+
+    /**
+     * 전체 Zone의 선택 필드 (ID 오름차순, 요청한 컬럼만 SELECT)
+     */
+    public void streamAll(ZoneFields fields, Consumer<Map<String, Object>> consumer) {
+        streamAll(select(fields), rs -> mapFields(rs, fields), consumer);
+    }
+
+    /**
+     * 지정한 ID 순서대로 Zone 요약 (없는 ID는 제외)
+     * ID를 청크로 나눠 조회하고 청크 안에서만 순서를 맞추므로 보관하는 행은 청크 크기를 넘지 않는다.
+     */
+    public void streamByIds(List<Integer> ids, Consumer<ZoneSummary> consumer) {
+        streamByIds(SELECT_SUMMARY, ZoneStreamQuery::mapSummary, ZoneSummary::id, ids, consumer);
+    }
+
+    /**
+     * 지정한 ID 순서대로 Zone의 선택 필드 (없는 ID는 제외, 요청한 컬럼만 SELECT)
+     */
+    public void streamByIds(List<Integer> ids, ZoneFields fields, Consumer<Map<String, Object>> consumer) {
+        streamByIds(select(fields), rs -> mapFields(rs, fields), row -> (Integer) row.get("id"), ids, consumer);
+    }
+
+    private <T> void streamAll(String select, RowMapper<T> mapper, Consumer<T> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(select + " ORDER BY `id`",
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            return statement;
+        }, (RowCallbackHandler) rs -> consumer.accept(mapper.map(rs)));
+    }
+
+    private <T> void streamByIds(String select, RowMapper<T> mapper, Function<T, Integer> idOf, List<Integer> ids,
+                                 Consumer<T> consumer) {
+        for (int from = 0; from < ids.size(); from += ID_CHUNK_SIZE) {
+            List<Integer> chunk = ids.subList(from, Math.min(from + ID_CHUNK_SIZE, ids.size()));
+            String sql = select + " WHERE `id` IN (" + String.join(",", Collections.nCopies(chunk.size(), "?")) + ")";
+
+            Map<Integer, T> rows = new HashMap<>(chunk.size() * 2);
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(sql,
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(fetchSize);
+                for (int i = 0; i < chunk.size(); i++) {
+                    statement.setInt(i + 1, chunk.get(i));
+                }
+                return statement;
+            }, (RowCallbackHandler) rs -> {
+                T row = mapper.map(rs);
+                rows.put(idOf.apply(row), row);
+            });
+
+            for (Integer id : chunk) {
+                T row = rows.get(id);
+                if (row != null) {
+                    consumer.accept(row);
+                }
+            }
+        }
+    }
+
+    // 선택 필드의 컬럼만 SELECT (속성 이름과 컬럼 이름이 다르면 컬럼 이름을 별칭으로 바꿈)
+    private static String select(ZoneFields fields) {
+        return fields.columns().stream()
+                .map(property -> {
+                    String column = COLUMN_NAMES.getOrDefault(property, property);
+                    return column.equals(property) ? "`" + column + "`" : "`" + column + "` AS `" + property + "`";
+                })
+                .collect(Collectors.joining(", ", "SELECT ", " FROM `zone`"));
+    }
+
+    private static Map<String, Object> mapFields(ResultSet rs, ZoneFields fields) throws SQLException {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (String property : fields.columns()) {
+            row.put(property, switch (property) {
+                case "id" -> rs.getInt(property);
+                case "latitude", "longitude" -> rs.getBigDecimal(property);
+                case "date" -> rs.getObject(property, LocalDate.class);
+                default -> rs.getString(property); // description CLOB도 문자열로
+            });
+        }
+        return row;
+    }
+
+    private static ZoneSummary mapSummary(ResultSet rs) throws SQLException {
+        return new ZoneSummary(
+                rs.getInt("id"),
+                rs.getString("region"),
+                rs.getString("address"),
+                rs.getBigDecimal("latitude"),
+                rs.getBigDecimal("longitude"),
+                rs.getString("type"),
+                rs.getString("subtype"),
+                rs.getString("size"),
+                rs.getString("image"));
+    }
+
+    @FunctionalInterface
+    private interface RowMapper<T> {
+        T map(ResultSet rs) throws SQLException;
+    }
+}
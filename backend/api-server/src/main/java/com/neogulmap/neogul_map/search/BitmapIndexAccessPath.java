@@ -0,0 +1,56 @@
+package com.neogulmap.neogul_map.search;
+
+import com.neogulmap.neogul_map.dto.ZoneFilter;
+import com.neogulmap.neogul_map.index.ZoneAttributeIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 속성 비트맵 접근 경로 - 지역, 타입, 서브타입, 크기 조건을 비트맵 AND/OR로 판정해 해당 Zone만 로딩
+ * 비트맵 판정이 SQL 조건과 같은 부분 문자열 규칙이므로 속성 조건은 잔여 필터가 필요 없음
+ */
+@Order(4)
+@Component
+@RequiredArgsConstructor
+public class BitmapIndexAccessPath implements ZoneAccessPath {
+
+    private static final Set<ZoneCriterion> ATTRIBUTE_CRITERIA = EnumSet.of(
+            ZoneCriterion.REGION, ZoneCriterion.TYPE, ZoneCriterion.SUBTYPE, ZoneCriterion.SIZE);
+
+    private final ZoneAttributeIndex zoneAttributeIndex;
+
+    @Override
+    public String name() {
+        return "bitmap-index";
+    }
+
+    @Override
+    public long estimateRows(ZoneFilter filter, Set<ZoneCriterion> criteria) {
+        if (!zoneAttributeIndex.isReady() || criteria.stream().noneMatch(ATTRIBUTE_CRITERIA::contains)) {
+            return NOT_APPLICABLE;
+        }
+        // 비트맵 교집합 크기이므로 추정이 아니라 정확한 행 수
+        return zoneAttributeIndex.count(ZoneAttributeIndex.filtersOf(filter));
+    }
+
+    @Override
+    public Set<ZoneCriterion> covered(ZoneFilter filter, Set<ZoneCriterion> criteria) {
+        Set<ZoneCriterion> covered = EnumSet.noneOf(ZoneCriterion.class);
+        for (ZoneCriterion criterion : criteria) {
+            if (ATTRIBUTE_CRITERIA.contains(criterion)) {
+                covered.add(criterion);
+            }
+        }
+        return covered;
+    }
+
+    @Override
+    public List<Integer> findCandidateIds(ZoneFilter filter, Set<ZoneCriterion> criteria) {
+        return zoneAttributeIndex.findIds(ZoneAttributeIndex.filtersOf(filter));
+    }
+}
@@ -0,0 +1,48 @@
+package com.neogulmap.neogul_map.search;
+
+import com.neogulmap.neogul_map.dto.ZoneFilter;
+import com.neogulmap.neogul_map.index.ZoneChosungIndex;
+import com.neogulmap.neogul_map.util.HangulUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 초성 인덱스 접근 경로 - 키워드에 초성이 섞여 있을 때 초성 문자열이 맞는 Zone만 로딩
+ * 초성 인덱스는 설명까지 포함하므로 키워드 조건은 잔여 필터로 다시 판정
+ */
+@Order(3)
+@Component
+@RequiredArgsConstructor
+public class ChosungIndexAccessPath implements ZoneAccessPath {
+
+    private final ZoneChosungIndex zoneChosungIndex;
+
+    @Override
+    public String name() {
+        return "chosung-index";
+    }
+
+    @Override
+    public long estimateRows(ZoneFilter filter, Set<ZoneCriterion> criteria) {
+        if (!criteria.contains(ZoneCriterion.KEYWORD) || !zoneChosungIndex.isReady()
+                || !HangulUtil.containsChosung(filter.keyword())) {
+            return NOT_APPLICABLE;
+        }
+        int estimate = zoneChosungIndex.estimateCandidates(filter.keyword());
+        return estimate >= 0 ? estimate : zoneChosungIndex.findMatches(filter.keyword(), false).size();
+    }
+
+    @Override
+    public Set<ZoneCriterion> covered(ZoneFilter filter, Set<ZoneCriterion> criteria) {
+        return Set.of();
+    }
+
+    @Override
+    public List<Integer> findCandidateIds(ZoneFilter filter, Set<ZoneCriterion> criteria) {
+        return zoneChosungIndex.findMatches(filter.keyword(), false);
+    }
+}
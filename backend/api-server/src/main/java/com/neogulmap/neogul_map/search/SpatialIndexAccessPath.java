@@ -0,0 +1,49 @@
+package com.neogulmap.neogul_map.search;
+
+import com.neogulmap.neogul_map.dto.ZoneFilter;
+import com.neogulmap.neogul_map.index.ZoneSpatialIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 인메모리 공간 인덱스 접근 경로 - 위치 조건이 있을 때 반경 내 Zone만 로딩
+ */
+@Order(1)
+@Component
+@RequiredArgsConstructor
+public class SpatialIndexAccessPath implements ZoneAccessPath {
+
+    private final ZoneSpatialIndex zoneSpatialIndex;
+
+    @Override
+    public String name() {
+        return "spatial-index";
+    }
+
+    @Override
+    public long estimateRows(ZoneFilter filter, Set<ZoneCriterion> criteria) {
+        if (!criteria.contains(ZoneCriterion.LOCATION) || !zoneSpatialIndex.isReady()) {
+            return NOT_APPLICABLE;
+        }
+        return zoneSpatialIndex.countCandidatesWithinRadius(
+                filter.latitude(), filter.longitude(), ZoneCriterion.radiusMeters(filter));
+    }
+
+    @Override
+    public Set<ZoneCriterion> covered(ZoneFilter filter, Set<ZoneCriterion> criteria) {
+        return EnumSet.of(ZoneCriterion.LOCATION);
+    }
+
+    @Override
+    public List<Integer> findCandidateIds(ZoneFilter filter, Set<ZoneCriterion> criteria) {
+        return zoneSpatialIndex.findWithinRadius(filter.latitude(), filter.longitude(), ZoneCriterion.radiusMeters(filter))
+                .stream()
+                .sorted()
+                .toList();
+    }
+}
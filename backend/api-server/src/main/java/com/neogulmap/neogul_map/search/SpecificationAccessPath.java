@@ -0,0 +1,65 @@
+package com.neogulmap.neogul_map.search;
+
+import com.neogulmap.neogul_map.dto.ZoneFilter;
+import com.neogulmap.neogul_map.index.ZoneSpatialIndex;
+import com.neogulmap.neogul_map.repository.ZoneRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * SQL(Specification) 접근 경로 - 모든 조건을 DB로 내려 보내는 기본 경로
+ * 위치 조건은 geocell 인덱스 사전 필터로 내려가고 정확한 거리는 잔여 필터로 판정
+ */
+@Order(Ordered.LOWEST_PRECEDENCE)
+@Component
+@RequiredArgsConstructor
+public class SpecificationAccessPath implements ZoneAccessPath {
+
+    private final ZoneRepository zoneRepository;
+    private final ZoneSpatialIndex zoneSpatialIndex;
+
+    @Override
+    public String name() {
+        return "sql";
+    }
+
+    /**
+     * 위치 조건이 있으면 geocell 범위 조회 행 수, 없으면 LIKE 조건 때문에 테이블 전체
+     */
+    @Override
+    public long estimateRows(ZoneFilter filter, Set<ZoneCriterion> criteria) {
+        if (!zoneSpatialIndex.isReady()) {
+            return zoneRepository.count();
+        }
+        if (criteria.contains(ZoneCriterion.LOCATION)) {
+            return zoneSpatialIndex.countCandidatesWithinRadius(
+                    filter.latitude(), filter.longitude(), ZoneCriterion.radiusMeters(filter));
+        }
+        return zoneSpatialIndex.size();
+    }
+
+    @Override
+    public Set<ZoneCriterion> covered(ZoneFilter filter, Set<ZoneCriterion> criteria) {
+        Set<ZoneCriterion> covered = EnumSet.noneOf(ZoneCriterion.class);
+        for (ZoneCriterion criterion : criteria) {
+            if (criterion.isExactInSql(filter)) {
+                covered.add(criterion);
+            }
+        }
+        return covered;
+    }
+
+    /**
+     * 후보 ID 없이 조건을 그대로 SQL로 내려 보냄 - 플래너가 id > 커서 ORDER BY id LIMIT으로 필요한 행만 읽음
+     */
+    @Override
+    public List<Integer> findCandidateIds(ZoneFilter filter, Set<ZoneCriterion> criteria) {
+        return null;
+    }
+}
@@ -0,0 +1,47 @@
+package com.neogulmap.neogul_map.search;
+
+import com.neogulmap.neogul_map.dto.ZoneFilter;
+import com.neogulmap.neogul_map.index.ZoneTextIndex;
+import com.neogulmap.neogul_map.util.HangulUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * n-gram 역색인 접근 경로 - 키워드 조건이 있을 때 n-gram을 모두 가진 Zone만 로딩
+ * 후보는 상위 집합이므로 키워드 조건은 잔여 필터로 다시 판정
+ */
+@Order(2)
+@Component
+@RequiredArgsConstructor
+public class TextIndexAccessPath implements ZoneAccessPath {
+
+    private final ZoneTextIndex zoneTextIndex;
+
+    @Override
+    public String name() {
+        return "text-index";
+    }
+
+    @Override
+    public long estimateRows(ZoneFilter filter, Set<ZoneCriterion> criteria) {
+        if (!criteria.contains(ZoneCriterion.KEYWORD) || !zoneTextIndex.isReady()
+                || !ZoneTextIndex.isSearchable(filter.keyword()) || HangulUtil.containsChosung(filter.keyword())) {
+            return NOT_APPLICABLE;
+        }
+        return zoneTextIndex.estimateCandidates(filter.keyword());
+    }
+
+    @Override
+    public Set<ZoneCriterion> covered(ZoneFilter filter, Set<ZoneCriterion> criteria) {
+        return Set.of();
+    }
+
+    @Override
+    public List<Integer> findCandidateIds(ZoneFilter filter, Set<ZoneCriterion> criteria) {
+        return zoneTextIndex.findCandidates(filter.keyword());
+    }
+}
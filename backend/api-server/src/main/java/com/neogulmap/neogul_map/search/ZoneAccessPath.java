@@ -0,0 +1,37 @@
+package com.neogulmap.neogul_map.search;
+
+import com.neogulmap.neogul_map.dto.ZoneFilter;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Zone 검색 접근 경로 (공간 인덱스, SQL 등)
+ * 플래너는 적용 가능한 경로 중 예상 행 수가 가장 적은 경로를 고르고,
+ * 경로가 처리하지 못한 조건은 잔여 조건으로 적용한다.
+ */
+public interface ZoneAccessPath {
+
+    long NOT_APPLICABLE = -1;
+
+    /**
+     * 실행 계획 표시용 이름
+     */
+    String name();
+
+    /**
+     * 이 경로로 조회할 때 읽게 될 예상 행 수 (적용할 수 없으면 NOT_APPLICABLE)
+     */
+    long estimateRows(ZoneFilter filter, Set<ZoneCriterion> criteria);
+
+    /**
+     * 이 경로의 조회 결과가 이미 정확히 만족하는 조건
+     */
+    Set<ZoneCriterion> covered(ZoneFilter filter, Set<ZoneCriterion> criteria);
+
+    /**
+     * 후보 Zone ID (오름차순, covered 조건을 만족) - 행은 플래너가 필요한 만큼만 요약 프로젝션으로 읽음
+     * 인덱스 없이 조건을 그대로 SQL로 내려 보내는 경로는 null
+     */
+    List<Integer> findCandidateIds(ZoneFilter filter, Set<ZoneCriterion> criteria);
+}
@@ -0,0 +1,223 @@
+package com.neogulmap.neogul_map.search;
+
+import com.neogulmap.neogul_map.config.RadiusLevel;
+import com.neogulmap.neogul_map.domain.Zone;
+import com.neogulmap.neogul_map.dto.ZoneFilter;
+import com.neogulmap.neogul_map.dto.ZoneSummary;
+import com.neogulmap.neogul_map.util.GeoCellCover;
+import com.neogulmap.neogul_map.util.GeoUtil;
+import com.neogulmap.neogul_map.util.HangulUtil;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * ZoneFilter의 개별 검색 조건
+ * 조건마다 메모리 판정(잔여 필터)과 SQL 조건(Specification)을 함께 제공
+ */
+public enum ZoneCriterion {
+
+    // 지역, 주소, 타입, 서브타입 (ZoneRepository.findByKeyword와 같은 범위), 초성 검색어는 지역/주소만
+    KEYWORD {
+        @Override
+        public boolean isActive(ZoneFilter filter) {
+            return filter.isKeywordSearch() && !filter.isFuzzyKeywordSearch(); // 오타 허용은 ZoneSearchService에서 처리
+        }
+
+        // 초성 검색어일 때만 쓰임 (그 외에는 SQL LIKE로 정확히 판정)
+        @Override
+        public Predicate<ZoneSummary> toPredicate(ZoneFilter filter) {
+            String keyword = normalize(filter.keyword());
+            return zone -> matchesChosung(zone.region(), keyword) || matchesChosung(zone.address(), keyword);
+        }
+
+        @Override
+        public Specification<Zone> toSpecification(ZoneFilter filter) {
+            if (HangulUtil.containsChosung(filter.keyword())) {
+                return (root, query, cb) -> cb.conjunction(); // 초성은 SQL로 판정할 수 없음
+            }
+            String pattern = likePattern(filter.keyword());
+            return (root, query, cb) -> cb.or(
+                    cb.like(cb.lower(root.get("region")), pattern, '\\'),
+                    cb.like(cb.lower(root.get("address")), pattern, '\\'),
+                    cb.like(cb.lower(root.get("type")), pattern, '\\'),
+                    cb.like(cb.lower(root.get("subtype")), pattern, '\\'));
+        }
+
+        @Override
+        public boolean isExactInSql(ZoneFilter filter) {
+            return !HangulUtil.containsChosung(filter.keyword());
+        }
+    },
+
+    REGION {
+        @Override
+        public boolean isActive(ZoneFilter filter) {
+            return hasText(filter.region());
+        }
+
+        @Override
+        public Specification<Zone> toSpecification(ZoneFilter filter) {
+            return containsSpecification("region", filter.region());
+        }
+    },
+
+    TYPE {
+        @Override
+        public boolean isActive(ZoneFilter filter) {
+            return hasText(filter.type());
+        }
+
+        @Override
+        public Specification<Zone> toSpecification(ZoneFilter filter) {
+            return containsSpecification("type", filter.type());
+        }
+    },
+
+    SUBTYPE {
+        @Override
+        public boolean isActive(ZoneFilter filter) {
+            return hasText(filter.subtype());
+        }
+
+        @Override
+        public Specification<Zone> toSpecification(ZoneFilter filter) {
+            return containsSpecification("subtype", filter.subtype());
+        }
+    },
+
+    SIZE {
+        @Override
+        public boolean isActive(ZoneFilter filter) {
+            return hasText(filter.size());
+        }
+
+        @Override
+        public Specification<Zone> toSpecification(ZoneFilter filter) {
+            return containsSpecification("size", filter.size());
+        }
+    },
+
+    USER {
+        @Override
+        public boolean isActive(ZoneFilter filter) {
+            return hasText(filter.user());
+        }
+
+        @Override
+        public Specification<Zone> toSpecification(ZoneFilter filter) {
+            return containsSpecification("user", filter.user());
+        }
+    },
+
+    LOCATION {
+        @Override
+        public boolean isActive(ZoneFilter filter) {
+            return filter.isLocationBased();
+        }
+
+        @Override
+        public Predicate<ZoneSummary> toPredicate(ZoneFilter filter) {
+            double latitude = filter.latitude();
+            double longitude = filter.longitude();
+            double radiusMeters = radiusMeters(filter);
+            return zone -> GeoUtil.distanceMeters(latitude, longitude,
+                    zone.latitude().doubleValue(), zone.longitude().doubleValue()) <= radiusMeters;
+        }
+
+        /**
+         * geocell 인덱스 + bounding box 사전 필터 (정확한 거리 판정은 잔여 필터로 수행)
+         */
+        @Override
+        public Specification<Zone> toSpecification(ZoneFilter filter) {
+            GeoCellCover cover = GeoCellCover.of(filter.latitude(), filter.longitude(), radiusMeters(filter));
+            return (root, query, cb) -> cb.and(
+                    cover.isListed()
+                            ? root.get("geocell").in(cover.cells())
+                            : cb.between(root.get("geocell"), cover.minCell(), cover.maxCell()),
+                    cb.between(root.get("latitude"),
+                            BigDecimal.valueOf(cover.minLatitude()), BigDecimal.valueOf(cover.maxLatitude())),
+                    cb.between(root.get("longitude"),
+                            BigDecimal.valueOf(cover.minLongitude()), BigDecimal.valueOf(cover.maxLongitude())));
+        }
+
+        @Override
+        public boolean isExactInSql(ZoneFilter filter) {
+            return false;
+        }
+    };
+
+    /**
+     * 필터에 이 조건이 지정되어 있는지 여부
+     */
+    public abstract boolean isActive(ZoneFilter filter);
+
+    /**
+     * 로딩된 Zone 요약에 적용할 메모리 판정
+     * SQL 조건만으로 정확히 판정되지 않는 조건(isExactInSql()이 false)만 구현하며, 나머지는 SQL로만 판정
+     */
+    public Predicate<ZoneSummary> toPredicate(ZoneFilter filter) {
+        throw new UnsupportedOperationException(name() + " 조건은 SQL로 판정합니다");
+    }
+
+    /**
+     * DB에서 적용할 조건
+     */
+    public abstract Specification<Zone> toSpecification(ZoneFilter filter);
+
+    /**
+     * SQL 조건만으로 정확히 판정되는지 여부 (false면 SQL 조건은 사전 필터이고 잔여 필터가 필요)
+     */
+    public boolean isExactInSql(ZoneFilter filter) {
+        return true;
+    }
+
+    /**
+     * 필터에 지정된 조건 목록
+     */
+    public static Set<ZoneCriterion> activeIn(ZoneFilter filter) {
+        Set<ZoneCriterion> active = EnumSet.noneOf(ZoneCriterion.class);
+        for (ZoneCriterion criterion : values()) {
+            if (criterion.isActive(filter)) {
+                active.add(criterion);
+            }
+        }
+        return active;
+    }
+
+    /**
+     * 위치 조건의 반경 (미터) - radiusKm 우선, 없으면 줌 레벨 반경
+     */
+    public static double radiusMeters(ZoneFilter filter) {
+        if (filter.radiusKm() != null) {
+            return filter.radiusKm() * 1000.0;
+        }
+        return RadiusLevel.getRadiusByZoomLevel(filter.zoomLevel());
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.trim().isEmpty();
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean matchesChosung(String value, String keyword) {
+        return value != null && HangulUtil.matchesChosung(value, keyword);
+    }
+
+    private static String likePattern(String value) {
+        String escaped = normalize(value).replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+
+    private static Specification<Zone> containsSpecification(String attribute, String value) {
+        String pattern = likePattern(value);
+        return (root, query, cb) -> cb.like(cb.lower(root.get(attribute)), pattern, '\\');
+    }
+}
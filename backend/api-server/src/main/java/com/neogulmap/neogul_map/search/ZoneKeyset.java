@@ -0,0 +1,115 @@
+package com.neogulmap.neogul_map.search;
+
+import com.neogulmap.neogul_map.config.exceptionHandling.ErrorCode;
+import com.neogulmap.neogul_map.config.exceptionHandling.exception.ValidationException;
+import com.neogulmap.neogul_map.domain.Zone;
+import com.neogulmap.neogul_map.dto.ZoneCursor;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 키셋 페이지네이션 (정렬 키, ID) 탐색
+ *
+ * OFFSET은 건너뛸 행을 모두 읽어야 하므로 페이지가 깊어질수록 느려진다.
+ * 마지막으로 받은 (키, ID) 다음 행부터 읽으면 페이지 깊이와 관계없이 인덱스 탐색 한 번으로 시작한다.
+ * ID를 두 번째 키로 두어 같은 키 값 사이에서도 순서가 정해지도록 한다.
+ */
+public final class ZoneKeyset {
+
+    // DB 정렬 키 - 모두 NOT NULL 컬럼이라 NULL 순서를 따로 다루지 않음
+    public static final Set<String> SORT_KEYS = Set.of("id", "date", "region", "address");
+
+    private ZoneKeyset() {
+    }
+
+    /**
+     * Pageable 정렬에서 키셋 정렬 키 (첫 번째 정렬만 사용, 없으면 id 오름차순)
+     */
+    public static Sort.Order orderOf(Sort sort) {
+        Sort.Order order = sort.stream().findFirst().orElse(Sort.Order.asc("id"));
+        if (!SORT_KEYS.contains(order.getProperty())) {
+            throw new ValidationException(ErrorCode.SEARCH_PARAMETER_INVALID,
+                    "커서 페이지네이션 정렬은 " + String.join(", ", SORT_KEYS.stream().sorted().toList()) + " 중 하나여야 합니다");
+        }
+        return order;
+    }
+
+    /**
+     * (키, ID) 순서 정렬
+     */
+    public static Sort sort(String key, boolean descending) {
+        Sort.Direction direction = descending ? Sort.Direction.DESC : Sort.Direction.ASC;
+        return "id".equals(key) ? Sort.by(direction, "id") : Sort.by(direction, key).and(Sort.by(direction, "id"));
+    }
+
+    /**
+     * 커서 다음 행 조건 (커서가 없으면 조건 없음)
+     * 오름차순: key > v OR (key = v AND id > lastId), 내림차순은 부등호 반대
+     */
+    public static Specification<Zone> after(ZoneCursor cursor) {
+        if (cursor == null) {
+            return (root, query, cb) -> cb.conjunction();
+        }
+        if (!SORT_KEYS.contains(cursor.sort())) {
+            throw new ValidationException(ErrorCode.SEARCH_PARAMETER_INVALID, "올바르지 않은 커서입니다");
+        }
+        boolean descending = cursor.descending();
+        if ("date".equals(cursor.sort())) {
+            LocalDate value = parseDate(cursor.value());
+            return (root, query, cb) -> seek(cb, root.get("date"), value, root.get("id"), cursor.id(), descending);
+        }
+        if ("id".equals(cursor.sort())) {
+            return (root, query, cb) -> beyond(cb, root.get("id"), cursor.id(), descending);
+        }
+        return (root, query, cb) -> seek(cb, root.get(cursor.sort()), cursor.value(), root.get("id"), cursor.id(), descending);
+    }
+
+    /**
+     * 페이지 마지막 Zone에서 다음 페이지 커서
+     */
+    public static ZoneCursor cursorOf(Zone zone, String key, boolean descending) {
+        String value = switch (key) {
+            case "date" -> zone.getDate().toString();
+            case "region" -> zone.getRegion();
+            case "address" -> zone.getAddress();
+            default -> "";
+        };
+        return new ZoneCursor(key, descending, value, zone.getId());
+    }
+
+    /**
+     * 페이지 마지막 행(선택 필드 조회 결과, 정렬 키 포함)에서 다음 페이지 커서
+     */
+    public static ZoneCursor cursorOf(Map<String, Object> row, String key, boolean descending) {
+        String value = "id".equals(key) ? "" : String.valueOf(row.get(key));
+        return new ZoneCursor(key, descending, value, (Integer) row.get("id"));
+    }
+
+    private static <Y extends Comparable<? super Y>> Predicate seek(CriteriaBuilder cb, Path<Y> key, Y value,
+                                                                   Path<Integer> id, int lastId, boolean descending) {
+        return cb.or(
+                beyond(cb, key, value, descending),
+                cb.and(cb.equal(key, value), beyond(cb, id, lastId, descending)));
+    }
+
+    private static <Y extends Comparable<? super Y>> Predicate beyond(CriteriaBuilder cb, Path<Y> key, Y value,
+                                                                     boolean descending) {
+        return descending ? cb.lessThan(key, value) : cb.greaterThan(key, value);
+    }
+
+    private static LocalDate parseDate(String value) {
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new ValidationException(ErrorCode.SEARCH_PARAMETER_INVALID, "올바르지 않은 커서입니다");
+        }
+    }
+}
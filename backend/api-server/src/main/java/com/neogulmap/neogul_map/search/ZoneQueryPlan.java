@@ -0,0 +1,32 @@
+package com.neogulmap.neogul_map.search;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Zone 검색 실행 계획
+ *
+ * @param accessPath 선택된 접근 경로
+ * @param estimatedRows 접근 경로가 읽을 예상 행 수
+ * @param criteria 필터에 지정된 전체 조건
+ * @param residual 접근 경로 조회 후 메모리에서 적용할 조건
+ */
+public record ZoneQueryPlan(
+    ZoneAccessPath accessPath,
+    long estimatedRows,
+    Set<ZoneCriterion> criteria,
+    Set<ZoneCriterion> residual
+) {
+
+    /**
+     * 디버그 헤더용 요약 (예: access=spatial-index; estimatedRows=42; residual=type,region)
+     */
+    public String describe() {
+        String residualNames = residual.isEmpty() ? "none" : residual.stream()
+                .map(criterion -> criterion.name().toLowerCase(Locale.ROOT))
+                .collect(Collectors.joining(","));
+        return String.format("access=%s; estimatedRows=%d; residual=%s",
+                accessPath.name(), estimatedRows, residualNames);
+    }
+}
@@ -0,0 +1,186 @@
+package com.neogulmap.neogul_map.search;
+
+import com.neogulmap.neogul_map.config.exceptionHandling.ErrorCode;
+import com.neogulmap.neogul_map.config.exceptionHandling.exception.SystemException;
+import com.neogulmap.neogul_map.domain.Zone;
+import com.neogulmap.neogul_map.dto.ZoneFilter;
+import com.neogulmap.neogul_map.dto.ZoneSummary;
+import com.neogulmap.neogul_map.repository.ZoneFieldQuery;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Zone 검색 플래너
+ * 접근 경로별 예상 행 수(인덱스 통계)를 비교해 가장 적게 읽는 경로를 선택하고,
+ * 선택된 경로가 처리하지 못한 조건은 잔여 조건으로 적용 (행은 요약 프로젝션으로 필요한 만큼만 읽음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ZoneQueryPlanner {
+
+    // 한 번에 읽는 최대 행 수 (후보 ID IN 목록 최대 길이)
+    private static final int MAX_BATCH = 1_000;
+
+    // @Order 순서 - 예상 행 수가 같으면 앞선 경로 선택
+    private final List<ZoneAccessPath> accessPaths;
+    private final ZoneFieldQuery zoneFieldQuery;
+
+    public ZoneQueryPlan plan(ZoneFilter filter) {
+        Set<ZoneCriterion> criteria = ZoneCriterion.activeIn(filter);
+
+        ZoneAccessPath best = null;
+        long bestRows = Long.MAX_VALUE;
+        for (ZoneAccessPath accessPath : accessPaths) {
+            long rows = accessPath.estimateRows(filter, criteria);
+            if (rows != ZoneAccessPath.NOT_APPLICABLE && rows < bestRows) {
+                best = accessPath;
+                bestRows = rows;
+            }
+        }
+        if (best == null) {
+            throw new SystemException(ErrorCode.SEARCH_DATABASE_ERROR, "적용 가능한 Zone 접근 경로가 없습니다");
+        }
+
+        Set<ZoneCriterion> residual = EnumSet.noneOf(ZoneCriterion.class);
+        residual.addAll(criteria);
+        residual.removeAll(best.covered(filter, criteria));
+
+        ZoneQueryPlan plan = new ZoneQueryPlan(best, bestRows, criteria, residual);
+        log.debug("Zone 검색 계획 - {}", plan.describe());
+        return plan;
+    }
+
+    /**
+     * 계획 실행 - 조건에 맞는 Zone 요약 전체 (ID 오름차순)
+     */
+    public List<ZoneSummary> execute(ZoneQueryPlan plan, ZoneFilter filter) {
+        return execute(plan, filter, Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 계획 실행 - afterId 다음부터 조건에 맞는 Zone 요약 (ID 오름차순 최대 limit개, description CLOB은 읽지 않음)
+     * 인덱스 경로는 afterId 다음 후보 ID를 구간별로 IN 조건 + 잔여 조건 SQL로 읽고,
+     * SQL 경로는 모든 조건과 id > afterId를 SQL로 내려 보내 필요한 행만 읽는다.
+     * SQL로 정확히 판정되지 않는 잔여 조건(반경 거리, 초성)은 읽은 요약에 메모리 판정으로 적용한다.
+     *
+     * @param afterId 이전 페이지 마지막 Zone ID (첫 페이지면 Integer.MIN_VALUE)
+     */
+    public List<ZoneSummary> execute(ZoneQueryPlan plan, ZoneFilter filter, int afterId, int limit) {
+        List<Integer> candidates = plan.accessPath().findCandidateIds(filter, plan.criteria());
+        if (candidates == null) {
+            return seek(specification(plan.criteria(), filter), memoryFilter(plan.criteria(), filter), afterId, limit);
+        }
+        int start = Collections.binarySearch(candidates, afterId);
+        start = start >= 0 ? start + 1 : -start - 1;
+        return load(candidates.subList(start, candidates.size()), specification(plan.residual(), filter),
+                memoryFilter(plan.residual(), filter), limit);
+    }
+
+    /**
+     * 계획 실행 - order에 든 Zone 중 조건에 맞는 Zone 요약 (order 순서 그대로 최대 limit개)
+     * 거리순, 검색 순위순처럼 ID 순이 아닌 결과를 커서 다음부터 필요한 만큼만 읽을 때 사용
+     *
+     * @param order 결과 순서대로 정렬된 Zone ID (조건에 맞는 Zone을 모두 포함할 필요는 없음)
+     */
+    public List<ZoneSummary> execute(ZoneQueryPlan plan, ZoneFilter filter, List<Integer> order, int limit) {
+        List<Integer> candidates = plan.accessPath().findCandidateIds(filter, plan.criteria());
+        if (candidates == null) {
+            return load(order, specification(plan.criteria(), filter), memoryFilter(plan.criteria(), filter), limit);
+        }
+        List<Integer> ordered = order.stream()
+                .filter(id -> Collections.binarySearch(candidates, id) >= 0)
+                .toList();
+        return load(ordered, specification(plan.residual(), filter), memoryFilter(plan.residual(), filter), limit);
+    }
+
+    /**
+     * 지정한 순서대로 Zone 요약 (없는 ID는 제외, 최대 limit개)
+     */
+    public List<ZoneSummary> findInOrder(List<Integer> ids, int limit) {
+        return load(ids, null, zone -> true, limit);
+    }
+
+    // SQL 경로 - id > lastId로 ID 순 구간을 읽으며, 메모리 판정에 걸러진 만큼 다음 구간을 이어서 읽음
+    private List<ZoneSummary> seek(Specification<Zone> where, Predicate<ZoneSummary> inMemory, int afterId,
+                                   int limit) {
+        List<ZoneSummary> result = new ArrayList<>();
+        int batch = Math.min(limit, MAX_BATCH);
+        int lastId = afterId;
+        while (true) {
+            Specification<Zone> page = lastId == Integer.MIN_VALUE ? where : Specification.allOf(where, idAfter(lastId));
+            List<ZoneSummary> rows = zoneFieldQuery.findSummaries(page, batch);
+            for (ZoneSummary row : rows) {
+                if (inMemory.test(row)) {
+                    result.add(row);
+                    if (result.size() >= limit) {
+                        return result;
+                    }
+                }
+            }
+            if (rows.size() < batch) {
+                return result;
+            }
+            lastId = rows.get(rows.size() - 1).id();
+            batch = Math.min(MAX_BATCH, batch * 2);
+        }
+    }
+
+    // 순서가 정해진 ID를 구간별로 읽음 - 구간은 limit개부터 시작해 걸러질 때마다 두 배로 늘림
+    private List<ZoneSummary> load(List<Integer> ids, Specification<Zone> where, Predicate<ZoneSummary> inMemory,
+                                   int limit) {
+        List<ZoneSummary> result = new ArrayList<>();
+        int batch = Math.max(1, Math.min(limit, MAX_BATCH));
+        for (int from = 0; from < ids.size(); from += batch, batch = Math.min(MAX_BATCH, batch * 2)) {
+            List<Integer> chunk = ids.subList(from, Math.min(ids.size(), from + batch));
+            Specification<Zone> idIn = (root, query, cb) -> root.get("id").in(chunk);
+            Map<Integer, ZoneSummary> rows = new HashMap<>(chunk.size() * 2);
+            for (ZoneSummary row : zoneFieldQuery.findSummaries(where == null ? idIn : Specification.allOf(idIn, where),
+                    chunk.size())) {
+                rows.put(row.id(), row);
+            }
+            for (Integer id : chunk) {
+                ZoneSummary row = rows.get(id);
+                if (row != null && inMemory.test(row)) {
+                    result.add(row);
+                    if (result.size() >= limit) {
+                        return result;
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    private static Specification<Zone> specification(Set<ZoneCriterion> criteria, ZoneFilter filter) {
+        return Specification.allOf(criteria.stream()
+                .map(criterion -> criterion.toSpecification(filter))
+                .toList());
+    }
+
+    // SQL 조건만으로 정확히 판정되지 않는 조건
+    private static Predicate<ZoneSummary> memoryFilter(Set<ZoneCriterion> criteria, ZoneFilter filter) {
+        Predicate<ZoneSummary> inMemory = zone -> true;
+        for (ZoneCriterion criterion : criteria) {
+            if (!criterion.isExactInSql(filter)) {
+                inMemory = inMemory.and(criterion.toPredicate(filter));
+            }
+        }
+        return inMemory;
+    }
+
+    private static Specification<Zone> idAfter(int lastId) {
+        return (root, query, cb) -> cb.greaterThan(root.get("id"), lastId);
+    }
+}
@@ -0,0 +1,149 @@
+package com.neogulmap.neogul_map.search;
+
+import com.neogulmap.neogul_map.dto.ZoneText;
+import com.neogulmap.neogul_map.index.ZoneSpatialIndex;
+import com.neogulmap.neogul_map.util.GeoUtil;
+import com.neogulmap.neogul_map.util.HangulUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.PriorityQueue;
+import java.util.function.IntFunction;
+
+/**
+ * 키워드 검색 결과 순위 계산 (텍스트 관련도 + 기준점과의 거리)
+ *
+ * 점수 = text-weight × 텍스트 관련도 + (1 - text-weight) × 거리 점수 (기준점이 없으면 텍스트 관련도만)
+ * 거리 점수는 scale / (scale + 거리)로 기준점에서 멀어질수록 0에 가까워진다.
+ * 전체를 정렬하지 않고 크기 limit의 최소 힙으로 상위 limit개만 유지한다 (O(n log limit)).
+ * 후보는 엔티티가 아닌 ID로 받아 텍스트/좌표 조회 함수로 점수를 매긴다 (Zone 본문은 상위 limit개만 호출 측에서 조회).
+ */
+@Component
+public class ZoneRanker {
+
+    // 필드별 가중치 - 주소가 가장 구체적이고 지역이 가장 넓음
+    private static final double ADDRESS_WEIGHT = 1.0;
+    private static final double DESCRIPTION_WEIGHT = 0.8;
+    private static final double TYPE_WEIGHT = 0.6;
+    private static final double REGION_WEIGHT = 0.4;
+
+    // 일치 형태별 점수 - 단어 전체 > 단어 앞부분 > 단어 중간
+    private static final double WORD_MATCH = 1.0;
+    private static final double WORD_PREFIX_MATCH = 0.8;
+    private static final double SUBSTRING_MATCH = 0.5;
+
+    // 텍스트 관련도 반영 비율 (0 ~ 1)
+    private final double textWeight;
+
+    // 거리 점수가 0.5가 되는 거리 (미터)
+    private final double distanceScaleMeters;
+
+    public ZoneRanker(@Value("${app.zone.ranking.text-weight:0.4}") double textWeight,
+                      @Value("${app.zone.ranking.distance-scale-meters:1000}") double distanceScaleMeters) {
+        this.textWeight = Math.max(0.0, Math.min(1.0, textWeight));
+        this.distanceScaleMeters = distanceScaleMeters;
+    }
+
+    /**
+     * 점수 상위 limit개를 점수 내림차순으로 반환 (기준점이 있으면 distance 포함)
+     * 점수가 같으면 ID 오름차순. 텍스트나 좌표를 찾지 못한 ID(그 사이 삭제된 Zone)는 제외
+     *
+     * @param ids 키워드 일치 Zone ID
+     * @param texts Zone ID → 텍스트 (없으면 null)
+     * @param positions Zone ID → 좌표 (없으면 null, 기준점이 있을 때만 조회)
+     */
+    public List<Ranked> top(List<Integer> ids, IntFunction<ZoneText> texts, IntFunction<ZoneSpatialIndex.Position> positions,
+                            String keyword, Double latitude, Double longitude, int limit) {
+        String normalized = keyword.trim().toLowerCase(Locale.ROOT);
+        boolean hasOrigin = latitude != null && longitude != null;
+
+        // 루트가 현재 상위 limit개 중 가장 낮은 점수인 최소 힙
+        PriorityQueue<Ranked> heap = new PriorityQueue<>(limit + 1, Ranked.ASCENDING);
+        for (int id : ids) {
+            ZoneText text = texts.apply(id);
+            if (text == null) {
+                continue;
+            }
+            double score = textScore(text, normalized);
+            Double distance = null;
+            if (hasOrigin) {
+                ZoneSpatialIndex.Position position = positions.apply(id);
+                if (position == null) {
+                    continue;
+                }
+                distance = GeoUtil.distanceMeters(latitude, longitude, position.latitude(), position.longitude());
+                score = textWeight * score + (1.0 - textWeight) * distanceScaleMeters / (distanceScaleMeters + distance);
+            }
+            Ranked candidate = new Ranked(id, score, distance);
+            if (heap.size() < limit) {
+                heap.add(candidate);
+            } else if (Ranked.ASCENDING.compare(candidate, heap.peek()) > 0) {
+                heap.poll();
+                heap.add(candidate);
+            }
+        }
+
+        // 최소 힙을 비우면 오름차순이므로 뒤에서부터 채움
+        Ranked[] ranked = new Ranked[heap.size()];
+        for (int i = ranked.length - 1; i >= 0; i--) {
+            ranked[i] = heap.poll();
+        }
+        return Arrays.asList(ranked);
+    }
+
+    /**
+     * 텍스트 관련도 (0 ~ 1) - 필드 가중치 × 일치 형태 점수 중 최대값
+     */
+    static double textScore(ZoneText text, String keyword) {
+        double best = 0.0;
+        best = Math.max(best, ADDRESS_WEIGHT * matchScore(text.address(), keyword));
+        best = Math.max(best, DESCRIPTION_WEIGHT * matchScore(text.description(), keyword));
+        best = Math.max(best, TYPE_WEIGHT * Math.max(matchScore(text.type(), keyword), matchScore(text.subtype(), keyword)));
+        best = Math.max(best, REGION_WEIGHT * matchScore(text.region(), keyword));
+        return best;
+    }
+
+    private static double matchScore(String field, String keyword) {
+        if (field == null) {
+            return 0.0;
+        }
+        String text = field.toLowerCase(Locale.ROOT);
+        int start = indexOf(text, keyword);
+        if (start < 0) {
+            return 0.0;
+        }
+        int end = start + keyword.length();
+        boolean wordStart = start == 0 || !Character.isLetterOrDigit(text.charAt(start - 1));
+        boolean wordEnd = end == text.length() || !Character.isLetterOrDigit(text.charAt(end));
+        if (wordStart && wordEnd) {
+            return WORD_MATCH;
+        }
+        return wordStart ? WORD_PREFIX_MATCH : SUBSTRING_MATCH;
+    }
+
+    // 초성이 섞인 검색어는 초성 규칙으로 가장 앞선 일치 위치 검색
+    private static int indexOf(String text, String keyword) {
+        if (!HangulUtil.containsChosung(keyword)) {
+            return text.indexOf(keyword);
+        }
+        for (int start = 0; start + keyword.length() <= text.length(); start++) {
+            if (HangulUtil.startsWithChosung(text.substring(start), keyword)) {
+                return start;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 순위 결과 (Zone ID, 점수, 기준점과의 거리 - 기준점이 없으면 null)
+     */
+    public record Ranked(int zoneId, double score, Double distance) {
+        // 점수 오름차순, 같으면 ID 내림차순 (힙에서 먼저 밀려나는 순서)
+        static final Comparator<Ranked> ASCENDING = Comparator.comparingDouble(Ranked::score)
+                .thenComparing(Ranked::zoneId, Comparator.reverseOrder());
+    }
+}
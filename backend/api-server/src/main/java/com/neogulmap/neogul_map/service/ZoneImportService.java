@@ -0,0 +1,237 @@
+package com.neogulmap.neogul_map.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.neogulmap.neogul_map.config.exceptionHandling.ErrorCode;
+import com.neogulmap.neogul_map.config.exceptionHandling.exception.ValidationException;
+import com.neogulmap.neogul_map.domain.Zone;
+import com.neogulmap.neogul_map.dto.ZoneImportResult;
+import com.neogulmap.neogul_map.event.ZonesImportedEvent;
+import com.neogulmap.neogul_map.importer.ZoneImportFormat;
+import com.neogulmap.neogul_map.importer.ZoneRecordReader;
+import com.neogulmap.neogul_map.repository.ZoneBatchWriter;
+import com.neogulmap.neogul_map.util.ValidationUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.Charset;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Zone 일괄 가져오기 (공공데이터 흡연구역 목록 등)
+ *
+ * 입력을 한 행씩 읽어 검증하고, 미리 읽어 둔 주소 집합으로 중복을 거른 뒤 batch-size 행마다
+ * JDBC 배치 INSERT 한 번과 변경 기록을 한 트랜잭션으로 저장한다. 메모리에는 배치 하나와 주소 집합만 둔다.
+ * 가져오기가 끝나면 ZonesImportedEvent 한 번으로 인덱스를 재구성하고 캐시를 비운다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ZoneImportService {
+
+    private static final int SCALE = 7; // zone.latitude/longitude DECIMAL(10,7)
+
+    private final ZoneBatchWriter zoneBatchWriter;
+    private final ZoneSyncService zoneSyncService;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.zone.import.batch-size:1000}")
+    private int defaultBatchSize;
+
+    @Value("${app.zone.import.max-batch-size:10000}")
+    private int maxBatchSize;
+
+    @Value("${app.zone.import.max-errors:100}")
+    private int maxErrors;
+
+    /**
+     * 일괄 가져오기
+     *
+     * @param in 입력 (호출하는 쪽에서 닫음)
+     * @param batchSize 배치 하나의 행 수 (null이면 app.zone.import.batch-size)
+     */
+    public ZoneImportResult importZones(InputStream in, ZoneImportFormat format, Charset charset, Integer batchSize) {
+        int size = batchSize != null ? batchSize : defaultBatchSize;
+        if (!ValidationUtil.isInRange(size, 1, maxBatchSize)) {
+            throw new ValidationException(ErrorCode.SEARCH_PARAMETER_INVALID,
+                    String.format("batchSize는 1~%d 범위여야 합니다", maxBatchSize));
+        }
+
+        long start = System.nanoTime();
+        Progress progress = new Progress();
+        Set<String> addresses = zoneBatchWriter.findAllAddresses();
+        List<PendingZone> batch = new ArrayList<>(size);
+        try {
+            try (ZoneRecordReader reader = format.open(in, charset, objectMapper)) {
+                ZoneRecordReader.ZoneRecord record;
+                while ((record = reader.next()) != null) {
+                    progress.rows++;
+                    if (record.error() != null) {
+                        progress.fail(record.row(), record.error());
+                        continue;
+                    }
+                    Zone zone;
+                    try {
+                        zone = toZone(record.values());
+                    } catch (IllegalArgumentException e) {
+                        progress.fail(record.row(), e.getMessage());
+                        continue;
+                    }
+                    if (!addresses.add(zone.getAddress())) {
+                        progress.duplicates++;
+                        continue;
+                    }
+                    batch.add(new PendingZone(record.row(), zone));
+                    if (batch.size() >= size) {
+                        flush(batch, progress);
+                        batch.clear();
+                    }
+                }
+            } catch (IOException e) {
+                // 더 읽을 수 없는 입력 오류 - 그 전까지 읽은 행은 저장하고 결과에 중단 이유를 남김
+                log.warn("Zone 가져오기 입력 중단 - {}행 이후: {}", progress.rows, e.getMessage());
+                progress.aborted = e.getMessage();
+            }
+            flush(batch, progress);
+        } finally {
+            if (progress.imported > 0) {
+                eventPublisher.publishEvent(new ZonesImportedEvent(this, progress.imported));
+            }
+        }
+
+        long elapsedNanos = System.nanoTime() - start;
+        long elapsedMillis = elapsedNanos / 1_000_000;
+        long rowsPerSecond = elapsedNanos == 0 ? progress.rows : progress.rows * 1_000_000_000L / elapsedNanos;
+        log.info("Zone 가져오기 완료 ({}) - {}행, 저장 {}개, 중복 {}개, 오류 {}개, {}ms ({}행/초)",
+                format, progress.rows, progress.imported, progress.duplicates, progress.failed,
+                elapsedMillis, rowsPerSecond);
+        return new ZoneImportResult(format.name().toLowerCase(Locale.ROOT), progress.rows, progress.imported,
+                progress.duplicates, progress.failed, progress.errors, progress.failed > progress.errors.size(),
+                progress.aborted, elapsedMillis, rowsPerSecond);
+    }
+
+    // 배치 저장 - 제약 조건 위반(동시에 등록된 주소 등)이면 행 단위로 다시 저장해 실패한 행만 보고
+    private void flush(List<PendingZone> batch, Progress progress) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            insert(batch.stream().map(PendingZone::zone).toList());
+            progress.imported += batch.size();
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Zone 가져오기 배치 저장 실패, 행 단위로 재시도 - {}행: {}", batch.size(), e.getMessage());
+            for (PendingZone pending : batch) {
+                try {
+                    insert(List.of(pending.zone()));
+                    progress.imported++;
+                } catch (DataIntegrityViolationException rowError) {
+                    progress.fail(pending.row(), "저장 실패 (이미 등록된 주소 등 제약 조건 위반)");
+                }
+            }
+        }
+    }
+
+    private void insert(List<Zone> zones) {
+        transactionTemplate.executeWithoutResult(status ->
+                zoneSyncService.recordCreated(zoneBatchWriter.insertZones(zones)));
+    }
+
+    // 행 값 → Zone (검증 실패 시 IllegalArgumentException)
+    private static Zone toZone(Map<String, String> values) {
+        String creator = values.containsKey("user") ? values.get("user") : values.get("creator");
+        return Zone.builder()
+                .region(text(values, "region", 100, true))
+                .type(text(values, "type", 50, false))
+                .subtype(text(values, "subtype", 50, false))
+                .description(values.get("description"))
+                .latitude(coordinate(values, "latitude", ValidationUtil::isValidLatitude))
+                .longitude(coordinate(values, "longitude", ValidationUtil::isValidLongitude))
+                .size(text(values, "size", 50, false))
+                .date(date(values.get("date")))
+                .address(text(values, "address", 100, true))
+                .user(checkLength("user", creator, 100))
+                .image(text(values, "image", 255, false))
+                .build();
+    }
+
+    private static String text(Map<String, String> values, String field, int maxLength, boolean required) {
+        String value = values.get(field);
+        if (value == null && required) {
+            throw new IllegalArgumentException(field + " 값이 없습니다");
+        }
+        return checkLength(field, value, maxLength);
+    }
+
+    private static String checkLength(String field, String value, int maxLength) {
+        if (value != null && value.length() > maxLength) {
+            throw new IllegalArgumentException(String.format("%s는 %d자 이하여야 합니다", field, maxLength));
+        }
+        return value;
+    }
+
+    private static BigDecimal coordinate(Map<String, String> values, String field,
+                                         Predicate<Double> valid) {
+        String value = values.get(field);
+        if (value == null) {
+            throw new IllegalArgumentException(field + " 값이 없습니다");
+        }
+        BigDecimal coordinate;
+        try {
+            coordinate = new BigDecimal(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(field + " 값이 숫자가 아닙니다: " + value);
+        }
+        if (!valid.test(coordinate.doubleValue())) {
+            throw new IllegalArgumentException(field + " 값이 범위를 벗어났습니다: " + value);
+        }
+        return coordinate.setScale(SCALE, RoundingMode.HALF_UP);
+    }
+
+    private static LocalDate date(String value) {
+        if (value == null) {
+            return LocalDate.now();
+        }
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("date는 yyyy-MM-dd 형식이어야 합니다: " + value);
+        }
+    }
+
+    private record PendingZone(long row, Zone zone) {
+    }
+
+    // 가져오기 진행 상황 (요청 하나에서만 사용)
+    private class Progress {
+        long rows = 0;
+        long imported = 0;
+        long duplicates = 0;
+        long failed = 0;
+        String aborted = null;
+        final List<ZoneImportResult.RowError> errors = new ArrayList<>();
+
+        void fail(long row, String message) {
+            failed++;
+            if (errors.size() < maxErrors) {
+                errors.add(new ZoneImportResult.RowError(row, message));
+            }
+        }
+    }
+}
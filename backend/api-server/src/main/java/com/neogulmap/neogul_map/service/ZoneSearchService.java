@@ -0,0 +1,326 @@
+package com.neogulmap.neogul_map.service;
+
+import com.neogulmap.neogul_map.config.RadiusLevel;
+import com.neogulmap.neogul_map.config.exceptionHandling.ErrorCode;
+import com.neogulmap.neogul_map.config.exceptionHandling.exception.BusinessBaseException;
+import com.neogulmap.neogul_map.config.exceptionHandling.exception.ValidationException;
+import com.neogulmap.neogul_map.dto.ZoneCursor;
+import com.neogulmap.neogul_map.dto.ZoneFacetCount;
+import com.neogulmap.neogul_map.dto.ZoneFields;
+import com.neogulmap.neogul_map.dto.ZoneFilter;
+import com.neogulmap.neogul_map.dto.ZoneSearchResult;
+import com.neogulmap.neogul_map.dto.ZoneSearchSummary;
+import com.neogulmap.neogul_map.dto.ZoneSummary;
+import com.neogulmap.neogul_map.index.ZoneAttributeIndex;
+import com.neogulmap.neogul_map.index.ZoneSpatialIndex;
+import com.neogulmap.neogul_map.search.ZoneCriterion;
+import com.neogulmap.neogul_map.search.ZoneQueryPlan;
+import com.neogulmap.neogul_map.search.ZoneQueryPlanner;
+import com.neogulmap.neogul_map.util.GeoUtil;
+import com.neogulmap.neogul_map.util.ValidationUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * ZoneFilter 조건 검색 서비스 (ZoneQueryPlanner로 접근 경로 선택)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ZoneSearchService {
+
+    private final ZoneQueryPlanner zoneQueryPlanner;
+    private final ZoneService zoneService;
+    private final ZoneAttributeIndex zoneAttributeIndex;
+    private final ZoneSpatialIndex zoneSpatialIndex;
+
+    // 실행 계획 표시용 오타 허용 키워드 접근 경로 이름
+    private static final String FUZZY_ACCESS_PATH = "fuzzy-term-index";
+
+    // 커서 페이지네이션 기본 페이지 크기
+    private static final int DEFAULT_PAGE_SIZE = 20;
+
+    // 조건 검색 시 한 번에 반환할 최대 Zone 수
+    @Value("${app.zone.search.max-results:500}")
+    private int maxResults;
+
+    /**
+     * 조건 검색
+     * 위치 조건이 있으면 거리순(distance 포함), 오타 허용 키워드면 검색 순위순, 그 외에는 ID 순으로 요약 반환
+     */
+    @Transactional(readOnly = true)
+    public ZoneSearchResult search(ZoneFilter filter) {
+        return search(filter, null, null);
+    }
+
+    /**
+     * 조건 검색 (키셋 페이지네이션)
+     * 결과 순서(거리, 검색 순위, ID)에서 커서 다음 Zone부터 size개 반환
+     * cursorToken과 size가 모두 null이면 최대 app.zone.search.max-results개까지 한 번에 반환
+     *
+     * @param cursorToken 이전 응답의 nextCursor (첫 페이지면 null 또는 빈 문자열)
+     * @param size 페이지 크기 (1 ~ app.zone.search.max-results, null이면 20)
+     */
+    @Transactional(readOnly = true)
+    public ZoneSearchResult search(ZoneFilter filter, String cursorToken, Integer size) {
+        validate(filter);
+        boolean paged = cursorToken != null || size != null;
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : size;
+        if (paged && !ValidationUtil.isInRange(pageSize, 1, maxResults)) {
+            throw new ValidationException(ErrorCode.SEARCH_PARAMETER_INVALID,
+                    String.format("size는 1~%d 범위여야 합니다", maxResults));
+        }
+        ZoneCursor cursor = ZoneCursor.decode(cursorToken);
+
+        // 오타 허용 키워드는 플래너 조건에서 빠지고, 순위가 매겨진 Zone ID로 나머지 조건 결과를 거름
+        List<Integer> ranked = null;
+        Map<Integer, Integer> fuzzyRanks = null;
+        if (filter.isFuzzyKeywordSearch()) {
+            ranked = zoneService.rankFuzzyMatches(filter.keyword());
+            fuzzyRanks = new HashMap<>(ranked.size() * 2);
+            for (int i = 0; i < ranked.size(); i++) {
+                fuzzyRanks.put(ranked.get(i), i);
+            }
+        }
+
+        Set<ZoneCriterion> criteria = ZoneCriterion.activeIn(filter);
+        String order = criteria.contains(ZoneCriterion.LOCATION) ? "distance" : fuzzyRanks != null ? "rank" : "id";
+        if (cursor != null && !cursor.sort().equals(order)) {
+            throw new ValidationException(ErrorCode.SEARCH_PARAMETER_INVALID, "커서가 검색 조건과 맞지 않습니다");
+        }
+        // 이번 응답 범위(커서 다음부터 한 개 더)만 읽음
+        int limit = (paged ? pageSize : maxResults) + 1;
+
+        List<ZoneSummary> zones;
+        String planDescription;
+        if (fuzzyRanks != null && criteria.isEmpty()) {
+            // 순위 목록에서 이번 응답 범위만 잘라 조회
+            int from = cursor == null ? 0 : Math.min(ranked.size(), parseRank(cursor) + 1);
+            int to = Math.min(ranked.size(), from + limit);
+            zones = zoneQueryPlanner.findInOrder(ranked.subList(from, to), to - from);
+            planDescription = String.format("access=%s; estimatedRows=%d; residual=none",
+                    FUZZY_ACCESS_PATH, fuzzyRanks.size());
+        } else {
+            ZoneQueryPlan plan = zoneQueryPlanner.plan(filter);
+            planDescription = plan.describe();
+            if (order.equals("distance")) {
+                List<Integer> byDistance = orderByDistance(filter, cursor);
+                if (byDistance == null) {
+                    // 공간 인덱스 구성 전에는 전체를 읽어 거리순으로 정렬
+                    zones = zoneQueryPlanner.execute(plan, filter);
+                } else {
+                    if (fuzzyRanks != null) {
+                        byDistance = byDistance.stream().filter(fuzzyRanks::containsKey).toList();
+                    }
+                    zones = zoneQueryPlanner.execute(plan, filter, byDistance, limit);
+                }
+            } else if (order.equals("rank")) {
+                int from = cursor == null ? 0 : Math.min(ranked.size(), parseRank(cursor) + 1);
+                zones = zoneQueryPlanner.execute(plan, filter, ranked.subList(from, ranked.size()), limit);
+            } else {
+                zones = zoneQueryPlanner.execute(plan, filter, cursor == null ? Integer.MIN_VALUE : cursor.id(), limit);
+            }
+            if (fuzzyRanks != null) {
+                Map<Integer, Integer> ranks = fuzzyRanks;
+                zones = zones.stream().filter(zone -> ranks.containsKey(zone.id())).toList();
+                planDescription += "; fuzzyKeywordMatches=" + ranks.size();
+            }
+        }
+
+        List<ZoneSearchSummary> results;
+        if (order.equals("distance")) {
+            results = zones.stream()
+                    .map(zone -> new ZoneSearchSummary(zone, GeoUtil.distanceMeters(filter.latitude(),
+                            filter.longitude(), zone.latitude().doubleValue(), zone.longitude().doubleValue())))
+                    .sorted(Comparator.comparingDouble(ZoneSearchSummary::distance)
+                            .thenComparing(result -> result.zone().id()))
+                    .toList();
+        } else if (order.equals("rank")) {
+            Map<Integer, Integer> ranks = fuzzyRanks;
+            results = zones.stream()
+                    .sorted(Comparator.comparing(zone -> ranks.get(zone.id())))
+                    .map(zone -> new ZoneSearchSummary(zone, null))
+                    .toList();
+        } else {
+            results = zones.stream()
+                    .map(zone -> new ZoneSearchSummary(zone, null))
+                    .toList();
+        }
+
+        if (paged) {
+            return page(results, order, fuzzyRanks, cursor, pageSize, planDescription);
+        }
+        boolean truncated = results.size() > maxResults;
+        if (truncated) {
+            results = results.subList(0, maxResults);
+        }
+        log.info("조건 검색 완료 - {}개 Zone, {}", results.size(), planDescription);
+        return new ZoneSearchResult(results, truncated, planDescription, null);
+    }
+
+    /**
+     * 검색 결과 Zone의 선택 필드 (결과 순서 그대로 요청한 컬럼만 SELECT, distance는 선택했을 때만)
+     * 조건 판정과 정렬은 요약 프로젝션으로 끝내고 이번 응답에 담길 Zone만 다시 읽는다.
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> findFields(ZoneSearchResult result, ZoneFields fields) {
+        List<Map<String, Object>> rows = zoneService.findZones(
+                result.zones().stream().map(zone -> zone.zone().id()).toList(), fields);
+        if (fields.contains("distance")) {
+            Map<Integer, Double> distances = new HashMap<>(result.zones().size() * 2);
+            for (ZoneSearchSummary zone : result.zones()) {
+                if (zone.distance() != null) {
+                    distances.put(zone.zone().id(), zone.distance());
+                }
+            }
+            rows.forEach(row -> {
+                Double distance = distances.get((Integer) row.get("id"));
+                if (distance != null) {
+                    row.put("distance", distance);
+                }
+            });
+        }
+        return rows;
+    }
+
+    // 정렬된 결과에서 커서 다음 size개 (커서는 결과 순서 키와 ID)
+    private ZoneSearchResult page(List<ZoneSearchSummary> sorted, String order, Map<Integer, Integer> fuzzyRanks,
+                                  ZoneCursor cursor, int size, String planDescription) {
+        List<ZoneSearchSummary> results = sorted.stream()
+                .filter(result -> cursor == null || compareToCursor(result, order, fuzzyRanks, cursor) > 0)
+                .limit(size + 1L)
+                .toList();
+        boolean hasNext = results.size() > size;
+        String nextCursor = null;
+        if (hasNext) {
+            results = results.subList(0, size);
+            ZoneSearchSummary last = results.get(size - 1);
+            String value = switch (order) {
+                case "distance" -> String.valueOf(last.distance());
+                case "rank" -> String.valueOf(fuzzyRanks.get(last.zone().id()));
+                default -> "";
+            };
+            nextCursor = new ZoneCursor(order, false, value, last.zone().id()).encode();
+        }
+        log.info("조건 검색 완료 - {}개 Zone (커서), {}", results.size(), planDescription);
+        return new ZoneSearchResult(results, hasNext, planDescription, nextCursor);
+    }
+
+    /**
+     * 반경 내 Zone ID를 (거리, ID) 순으로 정렬해 커서 다음부터 반환 (공간 인덱스 구성 전이면 null)
+     * 좌표는 공간 인덱스 스냅샷에서 읽으므로 정렬에 DB 조회가 없다.
+     */
+    private List<Integer> orderByDistance(ZoneFilter filter, ZoneCursor cursor) {
+        if (!zoneSpatialIndex.isReady()) {
+            return null;
+        }
+        List<Integer> ids = zoneSpatialIndex.findWithinRadius(filter.latitude(), filter.longitude(),
+                ZoneCriterion.radiusMeters(filter));
+        Map<Integer, ZoneSpatialIndex.Position> positions = zoneSpatialIndex.findPositions(ids);
+        if (positions == null) {
+            return null;
+        }
+        double cursorDistance = cursor == null ? 0 : parseDistance(cursor);
+        List<Map.Entry<Integer, Double>> distances = new ArrayList<>(positions.size());
+        positions.forEach((id, position) -> distances.add(Map.entry(id, GeoUtil.distanceMeters(
+                filter.latitude(), filter.longitude(), position.latitude(), position.longitude()))));
+        return distances.stream()
+                .filter(entry -> cursor == null || Double.compare(entry.getValue(), cursorDistance) > 0
+                        || (Double.compare(entry.getValue(), cursorDistance) == 0 && entry.getKey() > cursor.id()))
+                .sorted(Map.Entry.<Integer, Double>comparingByValue().thenComparing(Map.Entry.comparingByKey()))
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    private static double parseDistance(ZoneCursor cursor) {
+        try {
+            return Double.parseDouble(cursor.value());
+        } catch (NumberFormatException e) {
+            throw new ValidationException(ErrorCode.SEARCH_PARAMETER_INVALID, "올바르지 않은 커서입니다");
+        }
+    }
+
+    private static int parseRank(ZoneCursor cursor) {
+        try {
+            return Math.max(-1, Integer.parseInt(cursor.value()));
+        } catch (NumberFormatException e) {
+            throw new ValidationException(ErrorCode.SEARCH_PARAMETER_INVALID, "올바르지 않은 커서입니다");
+        }
+    }
+
+    private static int compareToCursor(ZoneSearchSummary result, String order, Map<Integer, Integer> fuzzyRanks,
+                                       ZoneCursor cursor) {
+        try {
+            int compared = switch (order) {
+                case "distance" -> Double.compare(result.distance(), Double.parseDouble(cursor.value()));
+                case "rank" -> Integer.compare(fuzzyRanks.get(result.zone().id()), Integer.parseInt(cursor.value()));
+                default -> 0;
+            };
+            return compared != 0 ? compared : Integer.compare(result.zone().id(), cursor.id());
+        } catch (NumberFormatException e) {
+            throw new ValidationException(ErrorCode.SEARCH_PARAMETER_INVALID, "올바르지 않은 커서입니다");
+        }
+    }
+
+    /**
+     * 속성별 값 분포 (지도 필터 칩용)
+     * 지역, 타입, 서브타입, 크기 필터만 반영하며 각 속성의 분포에는 그 속성 자신의 필터는 빼고 적용
+     *
+     * 속성 인덱스는 시작 시 한 번 구성되며, 구성 전 요청은 503 (요청마다 재구성하지 않음)
+     *
+     * @return 속성 키(region, type, subtype, size) → Zone 수 내림차순 값 목록
+     */
+    public Map<String, List<ZoneFacetCount>> facets(ZoneFilter filter) {
+        if (!zoneAttributeIndex.isReady()) {
+            throw new BusinessBaseException(ErrorCode.SEARCH_INDEX_NOT_READY);
+        }
+        return zoneAttributeIndex.facets(ZoneAttributeIndex.filtersOf(filter));
+    }
+
+    private void validate(ZoneFilter filter) {
+        if (filter == null) {
+            throw new ValidationException(ErrorCode.SEARCH_PARAMETER_INVALID, "검색 조건이 하나 이상 필요합니다");
+        }
+        boolean hasLocation = filter.latitude() != null || filter.longitude() != null
+                || filter.radiusKm() != null || filter.zoomLevel() != null;
+        if (hasLocation) {
+            validateLocation(filter);
+        }
+        if (ZoneCriterion.activeIn(filter).isEmpty() && !filter.isFuzzyKeywordSearch()) {
+            throw new ValidationException(ErrorCode.SEARCH_PARAMETER_INVALID, "검색 조건이 하나 이상 필요합니다");
+        }
+        if (filter.isKeywordSearch() && filter.keyword().trim().length() > 100) {
+            throw new ValidationException(ErrorCode.SEARCH_KEYWORD_TOO_LONG);
+        }
+    }
+
+    private void validateLocation(ZoneFilter filter) {
+        if (!filter.isLocationBased()) {
+            throw new ValidationException(ErrorCode.SEARCH_PARAMETER_INVALID,
+                    "위치 검색에는 위도, 경도와 반경(radiusKm) 또는 줌 레벨(zoomLevel)이 필요합니다");
+        }
+        if (!ValidationUtil.isValidLatitude(filter.latitude())) {
+            throw new ValidationException(ErrorCode.LOCATION_LATITUDE_INVALID);
+        }
+        if (!ValidationUtil.isValidLongitude(filter.longitude())) {
+            throw new ValidationException(ErrorCode.LOCATION_LONGITUDE_INVALID);
+        }
+        if (filter.radiusKm() != null && !(filter.radiusKm() > 0)) {
+            throw new ValidationException(ErrorCode.SEARCH_PARAMETER_INVALID, "반경은 0보다 커야 합니다");
+        }
+        if (filter.radiusKm() == null && (filter.zoomLevel() < RadiusLevel.LEVEL_1.getZoomLevel()
+                || filter.zoomLevel() > RadiusLevel.LEVEL_15.getZoomLevel())) {
+            throw new ValidationException(ErrorCode.ZOOM_LEVEL_INVALID);
+        }
+    }
+}
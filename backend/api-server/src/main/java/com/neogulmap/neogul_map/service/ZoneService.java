@@ -1,25 +1,68 @@
 package com.neogulmap.neogul_map.service;
 
+import com.neogulmap.neogul_map.cache.ZoneCache;
 import com.neogulmap.neogul_map.config.exceptionHandling.ErrorCode;
 import com.neogulmap.neogul_map.config.exceptionHandling.exception.BusinessBaseException;
 import com.neogulmap.neogul_map.config.exceptionHandling.exception.NotFoundException;
 import com.neogulmap.neogul_map.config.exceptionHandling.exception.ValidationException;
 import com.neogulmap.neogul_map.domain.Zone;
+import com.neogulmap.neogul_map.dto.ZoneCluster;
+import com.neogulmap.neogul_map.dto.ZoneCursor;
+import com.neogulmap.neogul_map.dto.ZoneFields;
+import com.neogulmap.neogul_map.dto.ZonePoint;
+import com.neogulmap.neogul_map.dto.ZoneRankedSummary;
 import com.neogulmap.neogul_map.dto.ZoneRequest;
+import com.neogulmap.neogul_map.event.ZoneChangedEvent;
 import com.neogulmap.neogul_map.dto.ZoneResponse;
+import com.neogulmap.neogul_map.dto.ZoneSlice;
+import com.neogulmap.neogul_map.dto.ZoneSuggestion;
+import com.neogulmap.neogul_map.dto.ZoneSummary;
+import com.neogulmap.neogul_map.dto.ZoneText;
+import com.neogulmap.neogul_map.repository.ZoneFieldQuery;
 import com.neogulmap.neogul_map.repository.ZoneRepository;
+import com.neogulmap.neogul_map.repository.ZoneStreamQuery;
+import com.neogulmap.neogul_map.search.ZoneKeyset;
+import com.neogulmap.neogul_map.search.ZoneRanker;
 import com.neogulmap.neogul_map.service.ImageService;
 import com.neogulmap.neogul_map.domain.enums.ImageType;
+import com.neogulmap.neogul_map.index.ZoneChosungIndex;
+import com.neogulmap.neogul_map.index.ZoneClusterPyramid;
+import com.neogulmap.neogul_map.index.ZoneSpatialIndex;
+import com.neogulmap.neogul_map.index.ZoneSuggestIndex;
+import com.neogulmap.neogul_map.index.ZoneTermIndex;
+import com.neogulmap.neogul_map.index.ZoneTextIndex;
+import com.neogulmap.neogul_map.util.GeoCellCover;
+import com.neogulmap.neogul_map.util.GeoUtil;
+import com.neogulmap.neogul_map.util.HangulUtil;
+import com.neogulmap.neogul_map.util.ValidationUtil;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.beans.factory.annotation.Value;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -27,10 +70,48 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ZoneService {
 
-    private static final double EARTH_RADIUS_KM = 6371.0;
-    
     private final ZoneRepository zoneRepository;
     private final ImageService imageService;
+    private final ZoneSpatialIndex zoneSpatialIndex;
+    private final ZoneClusterPyramid zoneClusterPyramid;
+    private final ZoneTextIndex zoneTextIndex;
+    private final ZoneSuggestIndex zoneSuggestIndex;
+    private final ZoneChosungIndex zoneChosungIndex;
+    private final ZoneTermIndex zoneTermIndex;
+    private final ZoneRanker zoneRanker;
+    private final ZoneCache zoneCache;
+    private final ZoneFieldQuery zoneFieldQuery;
+    private final ZoneStreamQuery zoneStreamQuery;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    // 화면 영역 검색 시 한 번에 반환할 최대 마커 수
+    @Value("${app.zone.bbox.max-markers:500}")
+    private int maxMarkersPerViewport;
+    
+    // 최근접 검색 시 최대 k
+    @Value("${app.zone.nearest.max-k:100}")
+    private int maxNearestCount;
+    
+    // 순위 검색 최대 개수
+    @Value("${app.zone.ranking.max-limit:100}")
+    private int maxRankedResults;
+    
+    // 커서 페이지네이션 최대 페이지 크기
+    @Value("${app.zone.cursor.max-size:100}")
+    private int maxCursorPageSize;
+    
+    // 위치 검색 방식 (memory: 인메모리 공간 인덱스, database: DB 공간 타입 + SPATIAL 인덱스)
+    @Value("${app.zone.spatial.mode:memory}")
+    private String spatialMode;
+    
+    // 공간 타입 모드 최근접 검색 시작 반경 (미터)
+    private static final double NEAREST_INITIAL_RADIUS_METERS = 1_000.0;
+    
+    // 지구 반 바퀴 - 이 반경이면 envelope가 전체 영역을 덮음
+    private static final double NEAREST_MAX_RADIUS_METERS = Math.PI * 6_371_000.0;
+    
+    // ID 목록으로 프로젝션 조회 시 IN 목록 최대 길이
+    private static final int ID_CHUNK_SIZE = 1_000;
 
     @Transactional
     public ZoneResponse createZone(ZoneRequest request, MultipartFile image) {
@@ -42,7 +123,11 @@ public class ZoneService {
             }
 
             Zone zone = request.toEntity();
-            Zone savedZone = zoneRepository.save(zone);
+            // ID를 미리 할당받으므로 INSERT가 커밋 시점으로 미뤄짐 - 중복 주소를 아래에서 처리하도록 바로 flush
+            Zone savedZone = zoneRepository.saveAndFlush(zone);
+            
+            // 커밋 이후 인메모리 인덱스 갱신
+            eventPublisher.publishEvent(ZoneChangedEvent.created(savedZone));
             
             return ZoneResponse.from(savedZone);
             
@@ -61,18 +146,33 @@ public class ZoneService {
         }
     }
 
-    @Transactional(readOnly = true)
+    // 캐시 적중 시 트랜잭션(커넥션)을 열지 않도록 조회는 리포지토리 메서드의 트랜잭션만 사용
     public ZoneResponse getZone(Integer zoneId) {
-        Zone zone = zoneRepository.findById(zoneId)
-                .orElseThrow(() -> new NotFoundException(ErrorCode.ZONE_NOT_FOUND));
-        return ZoneResponse.from(zone);
+        return zoneCache.getZone(zoneId, () -> {
+            Zone zone = zoneRepository.findById(zoneId)
+                    .orElseThrow(() -> new NotFoundException(ErrorCode.ZONE_NOT_FOUND));
+            return ZoneResponse.from(zone);
+        });
+    }
+
+    /**
+     * 단건 조회 (선택 필드만 SELECT, 캐시 미사용)
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> getZone(Integer zoneId, ZoneFields fields) {
+        List<Map<String, Object>> rows = zoneFieldQuery.findByIds(List.of(zoneId), fields);
+        if (rows.isEmpty()) {
+            throw new NotFoundException(ErrorCode.ZONE_NOT_FOUND);
+        }
+        return rows.get(0);
     }
 
+    /**
+     * 전체 조회 (선택 필드만 SELECT, ID 순)
+     */
     @Transactional(readOnly = true)
-    public List<ZoneResponse> getAllZones() {
-        return zoneRepository.findAll().stream()
-                .map(ZoneResponse::from)
-                .collect(Collectors.toUnmodifiableList());
+    public List<Map<String, Object>> getAllZones(ZoneFields fields) {
+        return zoneFieldQuery.findAll(fields);
     }
     
     @Transactional(readOnly = true)
@@ -80,23 +180,429 @@ public class ZoneService {
         return zoneRepository.findAll(pageable)
                 .map(ZoneResponse::from);
     }
+
+    /**
+     * 전체 조회 (페이지네이션, 선택 필드만 SELECT)
+     */
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> getAllZones(Pageable pageable, ZoneFields fields) {
+        List<Map<String, Object>> rows = zoneFieldQuery.find(null, fields, pageable.getSort(), pageable.getOffset(),
+                pageable.getPageSize());
+        return PageableExecutionUtils.getPage(rows, pageable, zoneRepository::count);
+    }
+
+    /**
+     * 전체 조회 (키셋 페이지네이션)
+     * 커서가 있으면 커서에 담긴 정렬을 따르고, 없으면 sort의 첫 번째 정렬(id, date, region, address)로 첫 페이지를 조회
+     *
+     * @param cursorToken 이전 응답의 nextCursor (첫 페이지면 null 또는 빈 문자열)
+     * @param size 페이지 크기 (1 ~ app.zone.cursor.max-size)
+     * @param withTotal true면 전체 개수도 조회 (COUNT 쿼리 추가)
+     */
+    @Transactional(readOnly = true)
+    public ZoneSlice<ZoneResponse> getAllZones(String cursorToken, int size, Sort sort, boolean withTotal) {
+        validateSliceSize(size);
+        ZoneCursor cursor = ZoneCursor.decode(cursorToken);
+        Sort.Order order = keysetOrder(cursor, sort);
+        String key = order.getProperty();
+        boolean descending = order.isDescending();
+
+        List<Zone> zones = zoneRepository.findBy(ZoneKeyset.after(cursor),
+                query -> query.sortBy(ZoneKeyset.sort(key, descending)).limit(size + 1).all());
+        boolean hasNext = zones.size() > size;
+        if (hasNext) {
+            zones = zones.subList(0, size);
+        }
+        String nextCursor = hasNext
+                ? ZoneKeyset.cursorOf(zones.get(zones.size() - 1), key, descending).encode()
+                : null;
+        return new ZoneSlice<>(zones.stream().map(ZoneResponse::from).toList(), size, hasNext, nextCursor,
+                withTotal ? zoneRepository.count() : null);
+    }
+
+    /**
+     * 전체 조회 (키셋 페이지네이션, 선택 필드만 SELECT)
+     * 다음 커서를 만들 정렬 키는 선택하지 않았어도 함께 SELECT 한 뒤 응답에서 뺀다.
+     */
+    @Transactional(readOnly = true)
+    public ZoneSlice<Map<String, Object>> getAllZones(String cursorToken, int size, Sort sort, boolean withTotal,
+                                                      ZoneFields fields) {
+        validateSliceSize(size);
+        ZoneCursor cursor = ZoneCursor.decode(cursorToken);
+        Sort.Order order = keysetOrder(cursor, sort);
+        String key = order.getProperty();
+        boolean descending = order.isDescending();
+
+        List<Map<String, Object>> rows = zoneFieldQuery.find(ZoneKeyset.after(cursor), fields.with(key),
+                ZoneKeyset.sort(key, descending), 0, size + 1);
+        boolean hasNext = rows.size() > size;
+        if (hasNext) {
+            rows = rows.subList(0, size);
+        }
+        String nextCursor = hasNext
+                ? ZoneKeyset.cursorOf(rows.get(rows.size() - 1), key, descending).encode()
+                : null;
+        return new ZoneSlice<>(rows.stream().map(fields::select).toList(), size, hasNext, nextCursor,
+                withTotal ? zoneRepository.count() : null);
+    }
+
+    // 키셋 정렬 - 커서가 있으면 커서의 정렬, 없으면 요청 정렬
+    private static Sort.Order keysetOrder(ZoneCursor cursor, Sort sort) {
+        if (cursor == null) {
+            return ZoneKeyset.orderOf(sort);
+        }
+        return new Sort.Order(cursor.descending() ? Sort.Direction.DESC : Sort.Direction.ASC, cursor.sort());
+    }
+
     
-    // 간단한 키워드 검색 (MVP 수준)
+    /**
+     * 키워드 검색 (지역, 주소, 타입, 서브타입, 설명의 부분 문자열)
+     * 키워드 인덱스가 최종 판정까지 끝낸 Zone ID로 요약 프로젝션만 조회 (description CLOB을 읽지 않음)
+     * 초성이 섞인 검색어("ㄱㄴㅇ", "강ㄴㅇ")는 초성 인덱스로 지역, 주소, 설명을 검색
+     */
     @Transactional(readOnly = true)
-    public List<ZoneResponse> searchZones(String keyword) {
+    public List<ZoneSummary> searchZones(String keyword) {
         if (keyword == null || keyword.trim().isEmpty()) {
-            return getAllZones();
+            return zoneRepository.findAllSummaries();
         }
-        
-        // 간단한 주소 검색
-        return zoneRepository.findByAddressContainingIgnoreCase(keyword)
-                .stream()
-                .map(ZoneResponse::from)
-                .collect(Collectors.toUnmodifiableList());
+        return findSummariesByIdIn(findKeywordMatchIds(keyword));
+    }
+
+    /**
+     * 키워드 검색 (오타 허용 선택)
+     * fuzzy면 부분 문자열 결과 뒤에 편집 거리 1~2 안의 단어를 가진 Zone을 편집 거리, 단어 빈도 순으로 이어 붙임
+     */
+    @Transactional(readOnly = true)
+    public List<ZoneSummary> searchZones(String keyword, boolean fuzzy) {
+        if (!fuzzy || keyword == null || keyword.trim().isEmpty()) {
+            return searchZones(keyword);
+        }
+        return findSummariesInOrder(rankFuzzyMatches(keyword));
+    }
+
+    /**
+     * 키워드 검색 (선택 필드만 SELECT, 순서는 searchZones(keyword, fuzzy)와 같음)
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> searchZones(String keyword, boolean fuzzy, ZoneFields fields) {
+        if (keyword == null || keyword.trim().isEmpty()) {
+            return zoneFieldQuery.findAll(fields);
+        }
+        return findFieldsInOrder(findZoneIds(keyword, fuzzy), fields);
+    }
+
+    /**
+     * 키워드 검색 결과 Zone ID (순서는 searchZones(keyword, fuzzy)와 같음)
+     *
+     * @return 일치 Zone ID, 검색어가 비어 있으면 null (전체 Zone - streamZones(null, ...)로 넘김)
+     */
+    @Transactional(readOnly = true)
+    public List<Integer> findZoneIds(String keyword, boolean fuzzy) {
+        if (keyword == null || keyword.trim().isEmpty()) {
+            return null;
+        }
+        if (fuzzy) {
+            return rankFuzzyMatches(keyword);
+        }
+        return findKeywordMatchIds(keyword);
+    }
+
+    /**
+     * 키워드 검색 (키셋 페이지네이션)
+     * 일반 검색은 ID 순, 오타 허용 검색은 순위 순으로 커서 다음 Zone부터 size개만 조회
+     *
+     * @param cursorToken 이전 응답의 nextCursor (첫 페이지면 null 또는 빈 문자열)
+     * @param size 페이지 크기 (1 ~ app.zone.cursor.max-size)
+     */
+    @Transactional(readOnly = true)
+    public ZoneSlice<ZoneSummary> searchZones(String keyword, boolean fuzzy, String cursorToken, int size) {
+        return searchZones(keyword, fuzzy, cursorToken, size, this::findSummariesInOrder,
+                (afterId, limit) -> zoneRepository.findSummariesAfter(afterId, PageRequest.of(0, limit)),
+                ZoneSummary::id);
+    }
+
+    /**
+     * 키워드 검색 (키셋 페이지네이션, 선택 필드만 SELECT)
+     */
+    @Transactional(readOnly = true)
+    public ZoneSlice<Map<String, Object>> searchZones(String keyword, boolean fuzzy, String cursorToken, int size,
+                                                      ZoneFields fields) {
+        return searchZones(keyword, fuzzy, cursorToken, size, ids -> findFieldsInOrder(ids, fields),
+                (afterId, limit) -> zoneFieldQuery.find(
+                        (root, query, cb) -> cb.greaterThan(root.get("id"), afterId), fields, limit),
+                row -> (Integer) row.get("id"));
+    }
+
+    // 이번 페이지 Zone ID(커서 다음부터 한 개 더)를 먼저 정하고 그 행만 조회
+    private <T> ZoneSlice<T> searchZones(String keyword, boolean fuzzy, String cursorToken, int size,
+                                         Function<List<Integer>, List<T>> findInOrder,
+                                         BiFunction<Integer, Integer, List<T>> findAfter, Function<T, Integer> idOf) {
+        validateSliceSize(size);
+        ZoneCursor cursor = ZoneCursor.decode(cursorToken);
+        boolean blank = keyword == null || keyword.trim().isEmpty();
+        String key = fuzzy && !blank ? "rank" : "id";
+        if (cursor != null && !cursor.sort().equals(key)) {
+            throw new ValidationException(ErrorCode.SEARCH_PARAMETER_INVALID, "커서가 검색 조건과 맞지 않습니다");
+        }
+        int afterId = cursor == null ? Integer.MIN_VALUE : cursor.id();
+
+        List<T> zones;
+        List<Integer> ranked = null;
+        if (blank) {
+            zones = findAfter.apply(afterId, size + 1);
+        } else if (fuzzy) {
+            ranked = rankFuzzyMatches(keyword);
+            int start = 0;
+            if (cursor != null) {
+                int position = ranked.indexOf(cursor.id());
+                start = position >= 0 ? position + 1 : parseRank(cursor.value()) + 1;
+            }
+            start = Math.min(start, ranked.size());
+            zones = findInOrder.apply(ranked.subList(start, Math.min(start + size + 1, ranked.size())));
+        } else {
+            zones = findInOrder.apply(findKeywordMatchIds(keyword, afterId, size + 1));
+        }
+
+        boolean hasNext = zones.size() > size;
+        if (hasNext) {
+            zones = zones.subList(0, size);
+        }
+        String nextCursor = null;
+        if (hasNext) {
+            int lastId = idOf.apply(zones.get(zones.size() - 1));
+            String value = "rank".equals(key) ? String.valueOf(ranked.indexOf(lastId)) : "";
+            nextCursor = new ZoneCursor(key, false, value, lastId).encode();
+        }
+        return new ZoneSlice<>(zones, size, hasNext, nextCursor, null);
+    }
+
+    /**
+     * 오타 허용 검색 순위 (Zone ID)
+     * 부분 문자열로 맞는 Zone(ID 순)이 먼저, 이어서 단어 사전(BK-tree)에서 허용 거리 안으로 맞는 Zone
+     */
+    @Transactional(readOnly = true)
+    public List<Integer> rankFuzzyMatches(String keyword) {
+        List<Integer> exact = findKeywordMatchIds(keyword);
+        List<Integer> ranked = new ArrayList<>(exact);
+        Set<Integer> seen = new HashSet<>(exact);
+        for (ZoneTermIndex.ZoneMatch match : zoneTermIndex.search(keyword)) {
+            if (seen.add(match.zoneId())) {
+                ranked.add(match.zoneId());
+            }
+        }
+        return ranked;
+    }
+
+    /**
+     * 순위 검색 - 키워드 검색 결과를 텍스트 관련도와 기준점과의 거리로 점수를 매겨 상위 limit개 반환
+     * 
+     * @param latitude 기준점 위도 (선택, 경도와 함께 지정)
+     * @param longitude 기준점 경도 (선택, 위도와 함께 지정)
+     * @param limit 최대 개수 (1 ~ app.zone.ranking.max-limit)
+     * @return 점수 내림차순 Zone 요약 (score, 기준점이 있으면 distance 포함)
+     */
+    @Transactional(readOnly = true)
+    public List<ZoneRankedSummary> searchZonesRanked(String keyword, Double latitude, Double longitude, int limit) {
+        List<ZoneRanker.Ranked> ranked = rankZones(keyword, latitude, longitude, limit);
+        Map<Integer, ZoneSummary> summaries = ranked.isEmpty() ? Map.of()
+                : zoneRepository.findSummariesByIdIn(ranked.stream().map(ZoneRanker.Ranked::zoneId).toList()).stream()
+                        .collect(Collectors.toMap(ZoneSummary::id, Function.identity()));
+        return ranked.stream()
+                .filter(result -> summaries.containsKey(result.zoneId()))
+                .map(result -> new ZoneRankedSummary(summaries.get(result.zoneId()), result.score(), result.distance()))
+                .toList();
+    }
+
+    /**
+     * 순위 검색 (선택 필드만 SELECT, 순서는 searchZonesRanked와 같음 - score, distance는 선택했을 때만)
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> searchZonesRanked(String keyword, Double latitude, Double longitude, int limit,
+                                                       ZoneFields fields) {
+        List<ZoneRanker.Ranked> ranked = rankZones(keyword, latitude, longitude, limit);
+        List<Map<String, Object>> rows = findFieldsInOrder(ranked.stream().map(ZoneRanker.Ranked::zoneId).toList(),
+                fields);
+        if (fields.contains("score") || fields.contains("distance")) {
+            Map<Integer, ZoneRanker.Ranked> results = ranked.stream()
+                    .collect(Collectors.toMap(ZoneRanker.Ranked::zoneId, Function.identity()));
+            for (Map<String, Object> row : rows) {
+                ZoneRanker.Ranked result = results.get((Integer) row.get("id"));
+                if (fields.contains("score")) {
+                    row.put("score", result.score());
+                }
+                if (fields.contains("distance") && result.distance() != null) {
+                    row.put("distance", result.distance());
+                }
+            }
+        }
+        return rows;
+    }
+
+    // 검색 조건 검증 후 순위 상위 limit개 (Zone ID, 점수, 거리)
+    private List<ZoneRanker.Ranked> rankZones(String keyword, Double latitude, Double longitude, int limit) {
+        if (keyword == null || keyword.isBlank()) {
+            throw new ValidationException(ErrorCode.SEARCH_KEYWORD_INVALID, "검색어가 필요합니다");
+        }
+        if (keyword.trim().length() > 100) {
+            throw new ValidationException(ErrorCode.SEARCH_KEYWORD_TOO_LONG);
+        }
+        if ((latitude == null) != (longitude == null)) {
+            throw new ValidationException(ErrorCode.SEARCH_PARAMETER_INVALID, "위도와 경도는 함께 지정해야 합니다");
+        }
+        if (latitude != null && !ValidationUtil.isValidLatitude(latitude)) {
+            throw new ValidationException(ErrorCode.LOCATION_LATITUDE_INVALID);
+        }
+        if (longitude != null && !ValidationUtil.isValidLongitude(longitude)) {
+            throw new ValidationException(ErrorCode.LOCATION_LONGITUDE_INVALID);
+        }
+        if (!ValidationUtil.isInRange(limit, 1, maxRankedResults)) {
+            throw new ValidationException(ErrorCode.SEARCH_PARAMETER_INVALID,
+                    String.format("limit은 1~%d 범위여야 합니다", maxRankedResults));
+        }
+
+        // 일치 ID를 인덱스 텍스트와 공간 인덱스 좌표로 점수 매김 (행은 호출한 쪽에서 상위 limit개만 조회)
+        // (인덱스 구성 전이거나 database 모드면 텍스트/좌표 프로젝션으로 대신함)
+        List<Integer> ids = findKeywordMatchIds(keyword);
+        IntFunction<ZoneText> texts = zoneTextIndex.isReady()
+                ? zoneTextIndex::findText
+                : findByIdIn(ids, zoneRepository::findTextsByIdIn, ZoneText::id)::get;
+        IntFunction<ZoneSpatialIndex.Position> positions = latitude == null ? id -> null : findPositions(ids)::get;
+        return zoneRanker.top(ids, texts, positions, keyword, latitude, longitude, limit);
+    }
+
+    // Zone ID별 좌표 - 공간 인덱스에서 읽고, 인덱스를 쓸 수 없으면 좌표 프로젝션으로 조회
+    private Map<Integer, ZoneSpatialIndex.Position> findPositions(List<Integer> ids) {
+        Map<Integer, ZoneSpatialIndex.Position> positions = isDatabaseSpatialMode()
+                ? null
+                : zoneSpatialIndex.findPositions(ids);
+        if (positions != null) {
+            return positions;
+        }
+        Map<Integer, ZoneSpatialIndex.Position> loaded = new HashMap<>(ids.size() * 2);
+        findByIdIn(ids, zoneRepository::findPointsByIdIn, ZonePoint::id).forEach((id, point) -> loaded.put(id,
+                new ZoneSpatialIndex.Position(point.latitude().doubleValue(), point.longitude().doubleValue())));
+        return loaded;
+    }
+
+    // Zone ID 오름차순 요약 (IN 목록 길이를 제한해 나눠 조회, 삭제된 Zone은 제외)
+    private List<ZoneSummary> findSummariesByIdIn(List<Integer> ids) {
+        List<Integer> sorted = ids.stream().sorted().toList();
+        List<ZoneSummary> summaries = new ArrayList<>(sorted.size());
+        for (int from = 0; from < sorted.size(); from += ID_CHUNK_SIZE) {
+            summaries.addAll(zoneRepository.findSummariesByIdIn(
+                    sorted.subList(from, Math.min(from + ID_CHUNK_SIZE, sorted.size()))));
+        }
+        return summaries;
+    }
+
+    // IN 목록 길이를 제한해 나눠 조회한 프로젝션 (Zone ID → 행)
+    private static <T> Map<Integer, T> findByIdIn(List<Integer> ids, Function<List<Integer>, List<T>> query,
+                                                  Function<T, Integer> idOf) {
+        Map<Integer, T> rows = new HashMap<>(ids.size() * 2);
+        for (int from = 0; from < ids.size(); from += ID_CHUNK_SIZE) {
+            for (T row : query.apply(ids.subList(from, Math.min(from + ID_CHUNK_SIZE, ids.size())))) {
+                rows.put(idOf.apply(row), row);
+            }
+        }
+        return rows;
+    }
+
+    // afterId 다음 키워드 일치 Zone ID (오름차순 최대 limit개) - 앞 페이지 후보는 다시 판정하지 않음
+    private List<Integer> findKeywordMatchIds(String keyword, int afterId, int limit) {
+        if (HangulUtil.containsChosung(keyword) && zoneChosungIndex.isReady()) {
+            return zoneChosungIndex.findMatches(keyword, false, afterId, limit);
+        }
+        if (!zoneTextIndex.isReady()) {
+            return zoneRepository.findIdsByKeywordAfter(ZoneTextIndex.normalize(keyword), afterId,
+                    PageRequest.of(0, limit));
+        }
+        return zoneTextIndex.findMatches(keyword, afterId, limit);
+    }
+
+    // 일치 Zone ID (오름차순) - 초성이 섞인 검색어는 초성 인덱스, 그 외는 키워드 인덱스가 최종 판정까지 끝냄
+    // 키워드 인덱스 구성 전(시작 직후, 구성 실패)에는 DB에서 같은 조건으로 ID만 조회
+    private List<Integer> findKeywordMatchIds(String keyword) {
+        if (HangulUtil.containsChosung(keyword) && zoneChosungIndex.isReady()) {
+            return zoneChosungIndex.findMatches(keyword, false);
+        }
+        if (!zoneTextIndex.isReady()) {
+            return zoneRepository.findIdsByKeyword(ZoneTextIndex.normalize(keyword));
+        }
+        return zoneTextIndex.findMatches(keyword);
+    }
+
+    // Zone ID 순서대로 요약 조회 (삭제된 Zone은 제외)
+    private List<ZoneSummary> findSummariesInOrder(List<Integer> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Integer, ZoneSummary> summaries = findByIdIn(ids, zoneRepository::findSummariesByIdIn, ZoneSummary::id);
+        return ids.stream()
+                .map(summaries::get)
+                .filter(summary -> summary != null)
+                .toList();
+    }
+
+    /**
+     * Zone ID 순서대로 선택 필드 조회 (삭제된 Zone은 제외)
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> findZones(List<Integer> ids, ZoneFields fields) {
+        return findFieldsInOrder(ids, fields);
+    }
+
+    private List<Map<String, Object>> findFieldsInOrder(List<Integer> ids, ZoneFields fields) {
+        Map<Integer, Map<String, Object>> rows = zoneFieldQuery.findByIds(ids, fields).stream()
+                .collect(Collectors.toMap(row -> (Integer) row.get("id"), Function.identity()));
+        return ids.stream()
+                .map(rows::get)
+                .filter(row -> row != null)
+                .toList();
+    }
+
+    private void validateSliceSize(int size) {
+        if (!ValidationUtil.isInRange(size, 1, maxCursorPageSize)) {
+            throw new ValidationException(ErrorCode.SEARCH_PARAMETER_INVALID,
+                    String.format("size는 1~%d 범위여야 합니다", maxCursorPageSize));
+        }
+    }
+
+    private static int parseRank(String value) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new ValidationException(ErrorCode.SEARCH_PARAMETER_INVALID, "올바르지 않은 커서입니다");
+        }
+    }
+
+    /**
+     * 주소/지역 자동완성
+     * 
+     * @param prefix 입력 중인 접두어
+     * @param limit 최대 개수 (1 ~ app.zone.suggest.top-k)
+     * @return Zone 수 내림차순 완성 목록
+     */
+    @Transactional(readOnly = true)
+    public List<ZoneSuggestion> suggestZones(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            throw new ValidationException(ErrorCode.SEARCH_KEYWORD_INVALID, "접두어가 필요합니다");
+        }
+        if (prefix.length() > 100) {
+            throw new ValidationException(ErrorCode.SEARCH_KEYWORD_TOO_LONG);
+        }
+        if (!ValidationUtil.isInRange(limit, 1, zoneSuggestIndex.getTopK())) {
+            throw new ValidationException(ErrorCode.SEARCH_PARAMETER_INVALID,
+                    String.format("limit은 1~%d 범위여야 합니다", zoneSuggestIndex.getTopK()));
+        }
+        if (HangulUtil.containsChosung(prefix) && zoneChosungIndex.isReady()) {
+            return zoneChosungIndex.suggest(prefix, limit);
+        }
+        return zoneSuggestIndex.suggest(prefix, limit);
     }
 
     /**
      * 반경 검색 (위치 기반)
+     * 공간 인덱스로 반경 내 Zone ID를 찾은 뒤 해당 Zone만 조회
      * 
      * @param latitude 중심점 위도
      * @param longitude 중심점 경도
@@ -104,52 +610,304 @@ public class ZoneService {
      * @return 반경 내 Zone 목록
      */
     @Transactional(readOnly = true)
-    public List<ZoneResponse> searchZonesByRadius(double latitude, double longitude, int radius) {
+    public List<ZoneSummary> searchZonesByRadius(double latitude, double longitude, int radius) {
         log.info("반경 검색 시작 - 중심점: ({}, {}), 반경: {}m", latitude, longitude, radius);
         
-        // 모든 Zone을 가져와서 거리 계산 (소규모 데이터용)
-        // 실제 운영에서는 DB의 공간 인덱스나 GIS 함수 사용 권장
-        List<Zone> allZones = zoneRepository.findAll();
+        List<Integer> zoneIds = findIdsWithinRadius(latitude, longitude, radius);
+        if (zoneIds == null) {
+            return searchZonesByRadiusFromDatabase(latitude, longitude, radius);
+        }
         
-        List<ZoneResponse> nearbyZones = allZones.stream()
-                .filter(zone -> {
-                    double zoneLat = zone.getLatitude().doubleValue();
-                    double zoneLon = zone.getLongitude().doubleValue();
-                    double distance = calculateDistance(latitude, longitude, zoneLat, zoneLon);
-                    boolean isNearby = distance <= radius;
-                    
-                    if (isNearby) {
-                        log.debug("Zone '{}' 거리: {}m (반경: {}m)", zone.getAddress(), String.format("%.2f", distance), radius);
-                    }
-                    
-                    return isNearby;
-                })
-                .map(ZoneResponse::from)
-                .collect(Collectors.toUnmodifiableList());
+        List<ZoneSummary> nearbyZones = findSummariesByIdIn(zoneIds);
         
         log.info("반경 검색 완료 - 총 {}개 Zone 발견", nearbyZones.size());
         return nearbyZones;
     }
 
     /**
-     * 두 지점 간의 거리 계산 (Haversine 공식)
+     * 반경 검색 (선택 필드만 SELECT, ID 순)
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> searchZonesByRadius(double latitude, double longitude, int radius,
+                                                         ZoneFields fields) {
+        return zoneFieldQuery.findByIds(findZoneIdsByRadius(latitude, longitude, radius), fields);
+    }
+
+    /**
+     * 반경 내 Zone ID (오름차순)
+     */
+    @Transactional(readOnly = true)
+    public List<Integer> findZoneIdsByRadius(double latitude, double longitude, int radius) {
+        List<Integer> zoneIds = findIdsWithinRadius(latitude, longitude, radius);
+        if (zoneIds == null) {
+            return zoneRepository.findNearbyZones(latitude, longitude, radius / 1000.0).stream()
+                    .map(Zone::getId)
+                    .sorted()
+                    .toList();
+        }
+        return zoneIds.stream().sorted().toList();
+    }
+
+    /**
+     * Zone 요약 스트리밍 (NDJSON 응답용) - 결과를 모으지 않고 한 행씩 consumer로 넘김
+     *
+     * @param ids 넘길 Zone ID (이 순서대로, 삭제된 Zone은 제외), null이면 전체 Zone을 ID 순으로
+     */
+    public void streamZones(List<Integer> ids, Consumer<ZoneSummary> consumer) {
+        if (ids == null) {
+            zoneStreamQuery.streamAll(consumer);
+        } else {
+            zoneStreamQuery.streamByIds(ids, consumer);
+        }
+    }
+
+    /**
+     * Zone 선택 필드 스트리밍 (요청한 컬럼만 SELECT, ids 규칙은 streamZones(ids, consumer)와 같음)
+     */
+    public void streamZones(List<Integer> ids, ZoneFields fields, Consumer<Map<String, Object>> consumer) {
+        if (ids == null) {
+            zoneStreamQuery.streamAll(fields, consumer);
+        } else {
+            zoneStreamQuery.streamByIds(ids, fields, consumer);
+        }
+    }
+
+    // 반경 내 Zone ID (공간 인덱스 구성 전이면 null - DB 반경 쿼리 사용)
+    private List<Integer> findIdsWithinRadius(double latitude, double longitude, int radius) {
+        List<Integer> zoneIds;
+        if (isDatabaseSpatialMode()) {
+            GeoCellCover cover = GeoCellCover.of(latitude, longitude, radius);
+            zoneIds = zoneRepository.findIdsWithinRadiusSpatial(GeoUtil.pointWkt(latitude, longitude),
+                    GeoUtil.envelopeWkt(cover.minLatitude(), cover.minLongitude(), cover.maxLatitude(), cover.maxLongitude()),
+                    radius);
+        } else if (!zoneSpatialIndex.isReady()) {
+            // 인덱스 구성 전(애플리케이션 시작 직후)에는 DB 반경 쿼리로 처리
+            return null;
+        } else {
+            zoneIds = zoneSpatialIndex.findWithinRadius(latitude, longitude, radius);
+        }
+        return zoneIds;
+    }
+
+    // DB 반경 쿼리로 조회 (인덱스 미구성 시 사용, geocell 인덱스로 사전 필터)
+    private List<ZoneSummary> searchZonesByRadiusFromDatabase(double latitude, double longitude, int radius) {
+        List<ZoneSummary> nearbyZones = zoneRepository.findNearbyZones(latitude, longitude, radius / 1000.0).stream()
+                .map(ZoneSummary::from)
+                .collect(Collectors.toUnmodifiableList());
+        
+        log.info("반경 검색 완료 (DB 조회) - 총 {}개 Zone 발견", nearbyZones.size());
+        return nearbyZones;
+    }
+
+    /**
+     * 가까운 Zone k개 조회 (반경 지정 없이)
+     * 
+     * @param latitude 기준점 위도
+     * @param longitude 기준점 경도
+     * @param k 조회할 개수 (1 ~ app.zone.nearest.max-k)
+     * @return 거리 오름차순 Zone 목록 (distance 포함)
+     */
+    @Transactional(readOnly = true)
+    public List<ZoneResponse> findNearestZones(double latitude, double longitude, int k) {
+        List<ZoneSpatialIndex.Neighbor> neighbors = findNearestNeighbors(latitude, longitude, k);
+        
+        Map<Integer, Zone> zonesById = zoneRepository.findAllById(
+                        neighbors.stream().map(ZoneSpatialIndex.Neighbor::zoneId).toList())
+                .stream()
+                .collect(Collectors.toMap(Zone::getId, Function.identity()));
+        
+        List<ZoneResponse> nearestZones = new ArrayList<>(neighbors.size());
+        for (ZoneSpatialIndex.Neighbor neighbor : neighbors) {
+            Zone zone = zonesById.get(neighbor.zoneId());
+            if (zone != null) {
+                ZoneResponse response = ZoneResponse.from(zone);
+                response.setDistance(neighbor.distanceMeters());
+                nearestZones.add(response);
+            }
+        }
+        return nearestZones;
+    }
+
+    /**
+     * 가까운 Zone k개 조회 (선택 필드만 SELECT, 거리 오름차순)
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> findNearestZones(double latitude, double longitude, int k, ZoneFields fields) {
+        List<ZoneSpatialIndex.Neighbor> neighbors = findNearestNeighbors(latitude, longitude, k);
+        List<Map<String, Object>> rows = findFieldsInOrder(
+                neighbors.stream().map(ZoneSpatialIndex.Neighbor::zoneId).toList(), fields);
+        if (fields.contains("distance")) {
+            Map<Integer, Double> distances = neighbors.stream().collect(Collectors.toMap(
+                    ZoneSpatialIndex.Neighbor::zoneId, ZoneSpatialIndex.Neighbor::distanceMeters));
+            rows.forEach(row -> row.put("distance", distances.get((Integer) row.get("id"))));
+        }
+        return rows;
+    }
+
+    // 입력 검증 후 가까운 Zone k개 (거리 오름차순)
+    private List<ZoneSpatialIndex.Neighbor> findNearestNeighbors(double latitude, double longitude, int k) {
+        if (!ValidationUtil.isValidLatitude(latitude)) {
+            throw new ValidationException(ErrorCode.LOCATION_LATITUDE_INVALID);
+        }
+        if (!ValidationUtil.isValidLongitude(longitude)) {
+            throw new ValidationException(ErrorCode.LOCATION_LONGITUDE_INVALID);
+        }
+        if (!ValidationUtil.isInRange(k, 1, maxNearestCount)) {
+            throw new ValidationException(ErrorCode.SEARCH_PARAMETER_INVALID,
+                    String.format("k는 1~%d 범위여야 합니다", maxNearestCount));
+        }
+        
+        List<ZoneSpatialIndex.Neighbor> neighbors;
+        if (isDatabaseSpatialMode()) {
+            neighbors = findNearestSpatial(latitude, longitude, k);
+        } else if (zoneSpatialIndex.isReady()) {
+            neighbors = zoneSpatialIndex.findNearest(latitude, longitude, k);
+        } else {
+            neighbors = findNearestFullScan(latitude, longitude, k);
+        }
+        return neighbors;
+    }
+
+    // 좌표 전체를 읽어 최근접 계산 (인덱스 미구성 시 사용)
+    private List<ZoneSpatialIndex.Neighbor> findNearestFullScan(double latitude, double longitude, int k) {
+        return zoneRepository.findAllPoints().stream()
+                .map(point -> new ZoneSpatialIndex.Neighbor(point.id(), GeoUtil.distanceMeters(
+                        latitude, longitude, point.latitude().doubleValue(), point.longitude().doubleValue())))
+                .sorted(Comparator.comparingDouble(ZoneSpatialIndex.Neighbor::distanceMeters))
+                .limit(k)
+                .toList();
+    }
+
+    // DB 공간 인덱스로 최근접 계산 - envelope를 넓혀 가며 k개가 모두 반경 안에 들어오면 확정
+    private List<ZoneSpatialIndex.Neighbor> findNearestSpatial(double latitude, double longitude, int k) {
+        String center = GeoUtil.pointWkt(latitude, longitude);
+        for (double radius = NEAREST_INITIAL_RADIUS_METERS; ; radius *= 4) {
+            GeoCellCover cover = GeoCellCover.of(latitude, longitude, radius);
+            List<ZoneSpatialIndex.Neighbor> neighbors = zoneRepository.findNearestSpatial(center,
+                            GeoUtil.envelopeWkt(cover.minLatitude(), cover.minLongitude(), cover.maxLatitude(), cover.maxLongitude()), k)
+                    .stream()
+                    .map(row -> new ZoneSpatialIndex.Neighbor(((Number) row[0]).intValue(), ((Number) row[1]).doubleValue()))
+                    .toList();
+            
+            // envelope 밖의 Zone은 radius보다 멀기 때문에 k번째가 radius 이내면 결과가 확정됨
+            boolean settled = neighbors.size() == k && neighbors.get(k - 1).distanceMeters() <= radius;
+            if (settled || radius >= NEAREST_MAX_RADIUS_METERS) {
+                return neighbors;
+            }
+        }
+    }
+
+    /**
+     * 화면 영역(bounding box) 검색
+     * 지도 이동 시 보이는 영역의 Zone만 최대 app.zone.bbox.max-markers개까지 조회
      * 
-     * @param lat1 첫 번째 지점의 위도
-     * @param lon1 첫 번째 지점의 경도
-     * @param lat2 두 번째 지점의 위도
-     * @param lon2 두 번째 지점의 경도
-     * @return 거리 (미터)
-     */
-    private double calculateDistance(double lat1, double lon1, double lat2, double lon2) {
-        double latDistance = Math.toRadians(lat2 - lat1);
-        double lonDistance = Math.toRadians(lon2 - lon1);
-        double a = Math.sin(latDistance / 2) * Math.sin(latDistance / 2)
-                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
-                * Math.sin(lonDistance / 2) * Math.sin(lonDistance / 2);
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-        double distance = EARTH_RADIUS_KM * c * 1000; // 미터로 변환
+     * @return 영역 내 Zone 요약 목록 (description 제외, hasNext()가 true면 개수 제한으로 잘린 결과)
+     */
+    @Transactional(readOnly = true)
+    public Slice<ZoneSummary> searchZonesByBounds(double minLat, double minLon, double maxLat, double maxLon) {
+        return searchZonesByBounds(minLat, minLon, maxLat, maxLon, this::findSummariesByIdIn,
+                limit -> zoneRepository.findSummariesWithinBounds(
+                        BigDecimal.valueOf(minLat), BigDecimal.valueOf(maxLat),
+                        BigDecimal.valueOf(minLon), BigDecimal.valueOf(maxLon), PageRequest.of(0, limit)));
+    }
+
+    /**
+     * 화면 영역(bounding box) 검색 (선택 필드만 SELECT, ID 순)
+     */
+    @Transactional(readOnly = true)
+    public Slice<Map<String, Object>> searchZonesByBounds(double minLat, double minLon, double maxLat, double maxLon,
+                                                          ZoneFields fields) {
+        return searchZonesByBounds(minLat, minLon, maxLat, maxLon, ids -> zoneFieldQuery.findByIds(ids, fields),
+                limit -> zoneFieldQuery.find((root, query, cb) -> cb.and(
+                        cb.between(root.get("latitude"), BigDecimal.valueOf(minLat), BigDecimal.valueOf(maxLat)),
+                        cb.between(root.get("longitude"), BigDecimal.valueOf(minLon), BigDecimal.valueOf(maxLon))),
+                        fields, limit));
+    }
+
+    // 영역 내 Zone ID를 인덱스로 정한 뒤 행 조회 - 인덱스 구성 전에는 DB 범위 조회로 처리
+    private <T> Slice<T> searchZonesByBounds(double minLat, double minLon, double maxLat, double maxLon,
+                                             Function<List<Integer>, List<T>> findByIds,
+                                             IntFunction<List<T>> findWithinBounds) {
+        validateBounds(minLat, minLon, maxLat, maxLon);
+        
+        Pageable limit = PageRequest.of(0, maxMarkersPerViewport);
+        
+        List<Integer> zoneIds;
+        if (isDatabaseSpatialMode()) {
+            zoneIds = zoneRepository.findIdsWithinBoundsSpatial(
+                    GeoUtil.envelopeWkt(minLat, minLon, maxLat, maxLon), maxMarkersPerViewport + 1);
+        } else if (!zoneSpatialIndex.isReady()) {
+            List<T> rows = findWithinBounds.apply(maxMarkersPerViewport + 1);
+            boolean truncated = rows.size() > maxMarkersPerViewport;
+            return new SliceImpl<>(truncated ? rows.subList(0, maxMarkersPerViewport) : rows, limit, truncated);
+        } else {
+            zoneIds = zoneSpatialIndex.findWithinBounds(minLat, minLon, maxLat, maxLon, maxMarkersPerViewport);
+        }
+        boolean truncated = zoneIds.size() > maxMarkersPerViewport;
+        if (truncated) {
+            zoneIds = zoneIds.subList(0, maxMarkersPerViewport);
+        }
         
-        return distance;
+        return new SliceImpl<>(findByIds.apply(zoneIds), limit, truncated);
+    }
+
+    /**
+     * 클러스터를 제공하는 줌 레벨인지 (app.zone.cluster.min-zoom 이상)
+     * 화면 영역 검색은 이 레벨부터 개별 마커 대신 클러스터를 반환
+     */
+    public boolean isClusterZoom(int zoomLevel) {
+        return zoneClusterPyramid.supports(zoomLevel);
+    }
+
+    /**
+     * 화면 영역 클러스터 조회 - 영역을 덮는 줌 레벨 셀 중 중심점이 영역 안에 있는 클러스터
+     */
+    public List<ZoneCluster> getZoneClustersWithinBounds(double minLat, double minLon, double maxLat, double maxLon,
+                                                         int zoomLevel) {
+        validateBounds(minLat, minLon, maxLat, maxLon);
+        if (!zoneClusterPyramid.supports(zoomLevel)) {
+            throw new ValidationException(ErrorCode.ZOOM_LEVEL_INVALID,
+                    String.format("클러스터는 줌 레벨 %d 이상에서만 제공됩니다", zoneClusterPyramid.getMinLevel()));
+        }
+        return zoneClusterPyramid.findClustersWithinBounds(minLat, minLon, maxLat, maxLon, zoomLevel);
+    }
+
+    private static void validateBounds(double minLat, double minLon, double maxLat, double maxLon) {
+        if (!ValidationUtil.isValidLatitude(minLat) || !ValidationUtil.isValidLatitude(maxLat)) {
+            throw new ValidationException(ErrorCode.LOCATION_LATITUDE_INVALID);
+        }
+        if (!ValidationUtil.isValidLongitude(minLon) || !ValidationUtil.isValidLongitude(maxLon)) {
+            throw new ValidationException(ErrorCode.LOCATION_LONGITUDE_INVALID);
+        }
+        if (minLat > maxLat || minLon > maxLon) {
+            throw new ValidationException(ErrorCode.LOCATION_COORDINATES_INVALID, "영역의 최소값이 최대값보다 큽니다");
+        }
+    }
+
+    /**
+     * 줌 레벨별 클러스터 조회 (넓은 영역용)
+     * 
+     * @param latitude 중심점 위도
+     * @param longitude 중심점 경도
+     * @param zoomLevel RadiusLevel 줌 레벨 (app.zone.cluster.min-zoom 이상)
+     * @return 반경 내 클러스터 목록
+     */
+    public List<ZoneCluster> getZoneClusters(double latitude, double longitude, int zoomLevel) {
+        if (!ValidationUtil.isValidLatitude(latitude)) {
+            throw new ValidationException(ErrorCode.LOCATION_LATITUDE_INVALID);
+        }
+        if (!ValidationUtil.isValidLongitude(longitude)) {
+            throw new ValidationException(ErrorCode.LOCATION_LONGITUDE_INVALID);
+        }
+        if (!zoneClusterPyramid.supports(zoomLevel)) {
+            throw new ValidationException(ErrorCode.ZOOM_LEVEL_INVALID,
+                    String.format("클러스터는 줌 레벨 %d 이상에서만 제공됩니다", zoneClusterPyramid.getMinLevel()));
+        }
+        return zoneClusterPyramid.findClusters(latitude, longitude, zoomLevel);
+    }
+
+    private boolean isDatabaseSpatialMode() {
+        return "database".equalsIgnoreCase(spatialMode);
     }
 
     @Transactional
@@ -167,8 +925,12 @@ public class ZoneService {
             request.setImage(zone.getImage());
         }
 
+        Zone previous = zone.toBuilder().build();
         zone.update(request);
         
+        // 커밋 이후 인메모리 인덱스 갱신
+        eventPublisher.publishEvent(ZoneChangedEvent.updated(previous, zone));
+        
         try {
             return ZoneResponse.from(zone);
         } catch (DataIntegrityViolationException e) {
@@ -194,6 +956,9 @@ public class ZoneService {
             }
             
             zoneRepository.deleteById(zoneId);
+            
+            // 커밋 이후 인메모리 인덱스 갱신
+            eventPublisher.publishEvent(ZoneChangedEvent.deleted(zone));
         } catch (NotFoundException e) {
             throw e; // 이미 정의된 예외는 그대로 전파
         } catch (Exception e) {
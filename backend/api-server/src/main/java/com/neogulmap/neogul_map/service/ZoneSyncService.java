@@ -0,0 +1,142 @@
+package com.neogulmap.neogul_map.service;
+
+import com.neogulmap.neogul_map.config.exceptionHandling.ErrorCode;
+import com.neogulmap.neogul_map.config.exceptionHandling.exception.ValidationException;
+import com.neogulmap.neogul_map.domain.Zone;
+import com.neogulmap.neogul_map.domain.ZoneChange;
+import com.neogulmap.neogul_map.dto.ZoneChanges;
+import com.neogulmap.neogul_map.dto.ZoneFields;
+import com.neogulmap.neogul_map.dto.ZoneResponse;
+import com.neogulmap.neogul_map.event.ZoneChangedEvent;
+import com.neogulmap.neogul_map.repository.ZoneBatchWriter;
+import com.neogulmap.neogul_map.repository.ZoneChangeRepository;
+import com.neogulmap.neogul_map.repository.ZoneFieldQuery;
+import com.neogulmap.neogul_map.repository.ZoneRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Zone 델타 동기화
+ *
+ * Zone이 바뀔 때마다 같은 트랜잭션에서 버전을 하나 올리고 zone_change에 Zone별 마지막 변경을 기록한다.
+ * 클라이언트는 마지막으로 받은 버전 이후의 변경만 받으므로 동기화 비용이 전체 Zone 수가 아니라 변경 수에 비례한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ZoneSyncService {
+
+    private final ZoneChangeRepository zoneChangeRepository;
+    private final ZoneRepository zoneRepository;
+    private final ZoneFieldQuery zoneFieldQuery;
+    private final ZoneBatchWriter zoneBatchWriter;
+
+    // 한 번에 받을 수 있는 최대 변경 수
+    @Value("${app.zone.sync.max-limit:1000}")
+    private int maxLimit;
+
+    /**
+     * Zone 변경 기록 - 변경을 발행한 트랜잭션 안에서 실행 (롤백되면 기록도 함께 취소)
+     */
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onZoneChanged(ZoneChangedEvent event) {
+        zoneChangeRepository.incrementVersion();
+        long version = zoneChangeRepository.currentVersion();
+        zoneChangeRepository.save(ZoneChange.builder()
+                .zoneId(event.getZoneId())
+                .version(version)
+                .deleted(event.getChangeType() == ZoneChangedEvent.ChangeType.DELETED)
+                .changedAt(LocalDateTime.now())
+                .build());
+    }
+
+    /**
+     * 일괄 생성된 Zone의 변경 기록 - 가져오기 배치 트랜잭션 안에서 실행
+     * 버전 범위를 한 번에 할당하고 기록도 JDBC 배치로 저장 (Zone마다 카운터를 갱신하지 않음)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCreated(List<Integer> zoneIds) {
+        if (zoneIds.isEmpty()) {
+            return;
+        }
+        zoneChangeRepository.incrementVersionBy(zoneIds.size());
+        long lastVersion = zoneChangeRepository.currentVersion();
+        zoneBatchWriter.insertChanges(zoneIds, lastVersion - zoneIds.size() + 1);
+    }
+
+    /**
+     * since 이후 변경 조회
+     *
+     * @param since 마지막으로 받은 버전 (처음이면 0)
+     * @param limit 최대 변경 수 (1 ~ app.zone.sync.max-limit)
+     */
+    @Transactional(readOnly = true)
+    public ZoneChanges<ZoneResponse> getChanges(long since, int limit) {
+        return getChanges(since, limit, ids -> zoneRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Zone::getId, ZoneResponse::from)));
+    }
+
+    /**
+     * since 이후 변경 조회 (생성/수정된 Zone은 선택 필드만 SELECT)
+     */
+    @Transactional(readOnly = true)
+    public ZoneChanges<Map<String, Object>> getChanges(long since, int limit, ZoneFields fields) {
+        return getChanges(since, limit, ids -> zoneFieldQuery.findByIds(ids, fields).stream()
+                .collect(Collectors.toMap(row -> (Integer) row.get("id"), Function.identity())));
+    }
+
+    private <T> ZoneChanges<T> getChanges(long since, int limit, Function<List<Integer>, Map<Integer, T>> findByIds) {
+        if (since < 0) {
+            throw new ValidationException(ErrorCode.SEARCH_PARAMETER_INVALID, "since는 0 이상이어야 합니다");
+        }
+        if (limit < 1 || limit > maxLimit) {
+            throw new ValidationException(ErrorCode.SEARCH_PARAMETER_INVALID,
+                    String.format("limit은 1 ~ %d 사이여야 합니다", maxLimit));
+        }
+
+        long latestVersion = zoneChangeRepository.currentVersion();
+        if (since > latestVersion) {
+            return new ZoneChanges<>(List.of(), List.of(), latestVersion, latestVersion, false, true);
+        }
+
+        List<ZoneChange> changes = zoneChangeRepository.findChangesSince(since, PageRequest.of(0, limit + 1));
+        boolean hasMore = changes.size() > limit;
+        if (hasMore) {
+            changes = changes.subList(0, limit);
+        }
+
+        List<Integer> upsertIds = changes.stream()
+                .filter(change -> !change.isDeleted())
+                .map(ZoneChange::getZoneId)
+                .toList();
+        Map<Integer, T> zones = findByIds.apply(upsertIds);
+
+        List<T> upserts = new ArrayList<>();
+        List<Integer> deletions = new ArrayList<>();
+        for (ZoneChange change : changes) {
+            T zone = change.isDeleted() ? null : zones.get(change.getZoneId());
+            if (zone != null) {
+                upserts.add(zone);
+            } else {
+                // 기록을 읽은 뒤 삭제된 경우 - 삭제로 알려도 다음 요청 결과와 어긋나지 않음
+                deletions.add(change.getZoneId());
+            }
+        }
+        long nextVersion = changes.isEmpty() ? since : changes.get(changes.size() - 1).getVersion();
+        return new ZoneChanges<>(upserts, deletions, nextVersion, latestVersion, hasMore, false);
+    }
+}
@@ -0,0 +1,157 @@
+package com.neogulmap.neogul_map.service;
+
+import com.neogulmap.neogul_map.cache.ZoneTileCache;
+import com.neogulmap.neogul_map.config.exceptionHandling.ErrorCode;
+import com.neogulmap.neogul_map.config.exceptionHandling.exception.ValidationException;
+import com.neogulmap.neogul_map.domain.Zone;
+import com.neogulmap.neogul_map.dto.ZoneTile;
+import com.neogulmap.neogul_map.index.ZoneSpatialIndex;
+import com.neogulmap.neogul_map.repository.ZoneRepository;
+import com.neogulmap.neogul_map.util.GeoUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Zone 타일 서비스 (슬리피맵 z/x/y)
+ *
+ * 타일 바이너리 형식 (정수는 모두 unsigned LEB128 varint)
+ * <pre>
+ * "NZT1"                               매직 (4바이트)
+ * z, x, y                              타일 좌표
+ * dictionarySize, [length, UTF-8]...   type/subtype 문자열 사전
+ * featureCount
+ * [idDelta, px, py, type, subtype]...  Zone (id 오름차순, id는 직전 id와의 차이)
+ * </pre>
+ * px, py는 타일 내부 좌표를 0 ~ EXTENT-1로 양자화한 값이고,
+ * type, subtype은 사전 인덱스 + 1 (값이 없으면 0)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ZoneTileService {
+
+    private static final byte[] MAGIC = "NZT1".getBytes(StandardCharsets.US_ASCII);
+
+    // 타일 내부 좌표 해상도
+    private static final int EXTENT = 4096;
+
+    private final ZoneRepository zoneRepository;
+    private final ZoneSpatialIndex zoneSpatialIndex;
+    private final ZoneTileCache zoneTileCache;
+
+    // 타일 하나에 담을 최대 Zone 수
+    @Value("${app.zone.tile.max-features:2000}")
+    private int maxFeaturesPerTile;
+
+    /**
+     * 타일 조회 (캐시 우선)
+     */
+    public ZoneTile getTile(int z, int x, int y) {
+        if (z < ZoneTileCache.MIN_ZOOM || z > ZoneTileCache.MAX_ZOOM) {
+            throw new ValidationException(ErrorCode.ZOOM_LEVEL_INVALID,
+                    String.format("타일 줌은 %d~%d 범위여야 합니다", ZoneTileCache.MIN_ZOOM, ZoneTileCache.MAX_ZOOM));
+        }
+        int tileCount = 1 << z;
+        if (x < 0 || x >= tileCount || y < 0 || y >= tileCount) {
+            throw new ValidationException(ErrorCode.LOCATION_COORDINATES_INVALID, "타일 좌표가 범위를 벗어났습니다");
+        }
+        if (!zoneSpatialIndex.isReady()) {
+            // 인덱스 구성 전 결과는 캐시하지 않음
+            return buildTile(z, x, y);
+        }
+        return zoneTileCache.get(z, x, y, () -> buildTile(z, x, y));
+    }
+
+    private ZoneTile buildTile(int z, int x, int y) {
+        double minLon = GeoUtil.tileLongitude(x, z);
+        double maxLon = GeoUtil.tileLongitude(x + 1, z);
+        double maxLat = GeoUtil.tileLatitude(y, z);
+        double minLat = GeoUtil.tileLatitude(y + 1, z);
+
+        List<Zone> zones = new ArrayList<>();
+        if (zoneSpatialIndex.isReady()) {
+            List<Integer> zoneIds = zoneSpatialIndex.findWithinBounds(minLat, minLon, maxLat, maxLon, maxFeaturesPerTile);
+            if (zoneIds.size() > maxFeaturesPerTile) {
+                zoneIds = zoneIds.subList(0, maxFeaturesPerTile);
+            }
+            zones.addAll(zoneRepository.findAllById(zoneIds));
+        } else {
+            zones.addAll(zoneRepository.findByLatitudeBetweenAndLongitudeBetween(
+                    BigDecimal.valueOf(minLat), BigDecimal.valueOf(maxLat),
+                    BigDecimal.valueOf(minLon), BigDecimal.valueOf(maxLon),
+                    PageRequest.of(0, maxFeaturesPerTile)).getContent());
+        }
+        zones.sort(Comparator.comparing(Zone::getId));
+
+        byte[] data = encode(z, x, y, zones);
+        String etag = "\"" + DigestUtils.md5DigestAsHex(data) + "\"";
+        log.debug("타일 생성 - {}/{}/{}: Zone {}개, {}바이트", z, x, y, zones.size(), data.length);
+        return new ZoneTile(data, etag);
+    }
+
+    private byte[] encode(int z, int x, int y, List<Zone> zones) {
+        // type/subtype 사전 구성
+        Map<String, Integer> dictionary = new HashMap<>();
+        List<String> entries = new ArrayList<>();
+        for (Zone zone : zones) {
+            for (String value : new String[]{zone.getType(), zone.getSubtype()}) {
+                if (value != null && !dictionary.containsKey(value)) {
+                    dictionary.put(value, entries.size());
+                    entries.add(value);
+                }
+            }
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(16 + zones.size() * 8);
+        out.writeBytes(MAGIC);
+        writeVarint(out, z);
+        writeVarint(out, x);
+        writeVarint(out, y);
+
+        writeVarint(out, entries.size());
+        for (String entry : entries) {
+            byte[] bytes = entry.getBytes(StandardCharsets.UTF_8);
+            writeVarint(out, bytes.length);
+            out.writeBytes(bytes);
+        }
+
+        writeVarint(out, zones.size());
+        int previousId = 0;
+        for (Zone zone : zones) {
+            double tileX = GeoUtil.tileX(zone.getLongitude().doubleValue(), z) - x;
+            double tileY = GeoUtil.tileY(zone.getLatitude().doubleValue(), z) - y;
+            writeVarint(out, zone.getId() - previousId);
+            writeVarint(out, quantize(tileX));
+            writeVarint(out, quantize(tileY));
+            writeVarint(out, zone.getType() == null ? 0 : dictionary.get(zone.getType()) + 1);
+            writeVarint(out, zone.getSubtype() == null ? 0 : dictionary.get(zone.getSubtype()) + 1);
+            previousId = zone.getId();
+        }
+        return out.toByteArray();
+    }
+
+    private static int quantize(double fraction) {
+        return Math.max(0, Math.min(EXTENT - 1, (int) (fraction * EXTENT)));
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+}
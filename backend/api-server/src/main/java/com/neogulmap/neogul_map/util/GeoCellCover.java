@@ -0,0 +1,60 @@
+package com.neogulmap.neogul_map.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 반경 검색용 DB 사전 필터 (zone.geocell 셀 목록 + 위경도 bounding box)
+ *
+ * geocell은 DB에서 DECIMAL 연산으로, 셀 목록은 Java에서 double 연산으로 계산하므로
+ * 셀 경계에 정확히 놓인 좌표가 한 칸 어긋날 수 있어 사방으로 한 칸씩 여유를 둔다.
+ * 정확한 포함 여부는 bounding box와 거리 계산이 판정한다.
+ */
+public record GeoCellCover(
+    List<Long> cells,
+    long minCell,
+    long maxCell,
+    double minLatitude,
+    double maxLatitude,
+    double minLongitude,
+    double maxLongitude
+) {
+
+    // IN 목록으로 넘길 최대 셀 수 - 넘으면 geocell 범위 조건만 사용
+    public static final int MAX_LISTED_CELLS = 1024;
+
+    public static GeoCellCover of(double latitude, double longitude, double radiusMeters) {
+        // 거리 계산과 같은 지구 반지름 기준으로, 경도 폭은 범위 내 가장 높은 위도 기준으로 잡아 누락이 없도록 함
+        double latDelta = GeoUtil.arcDegrees(radiusMeters);
+        double minLat = Math.max(-90.0, latitude - latDelta);
+        double maxLat = Math.min(90.0, latitude + latDelta);
+        double cos = Math.max(Math.cos(Math.toRadians(Math.max(Math.abs(minLat), Math.abs(maxLat)))), 0.01);
+        double lonDelta = Math.min(latDelta / cos, 180.0);
+        double minLon = Math.max(-180.0, longitude - lonDelta);
+        double maxLon = Math.min(180.0, longitude + lonDelta);
+
+        int minRow = GeoUtil.cellRow(minLat) - 1;
+        int maxRow = GeoUtil.cellRow(maxLat) + 1;
+        int minCol = GeoUtil.cellColumn(minLon) - 1;
+        int maxCol = GeoUtil.cellColumn(maxLon) + 1;
+
+        List<Long> cells = new ArrayList<>();
+        long cellCount = (long) (maxRow - minRow + 1) * (maxCol - minCol + 1);
+        if (cellCount <= MAX_LISTED_CELLS) {
+            for (int row = minRow; row <= maxRow; row++) {
+                for (int col = minCol; col <= maxCol; col++) {
+                    cells.add(GeoUtil.cellKey(row, col));
+                }
+            }
+        }
+        return new GeoCellCover(cells, GeoUtil.cellKey(minRow, minCol), GeoUtil.cellKey(maxRow, maxCol),
+                minLat, maxLat, minLon, maxLon);
+    }
+
+    /**
+     * 셀 목록(IN)으로 조회할 수 있는지 여부
+     */
+    public boolean isListed() {
+        return !cells.isEmpty();
+    }
+}
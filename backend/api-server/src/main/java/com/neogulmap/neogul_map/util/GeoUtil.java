@@ -0,0 +1,172 @@
+package com.neogulmap.neogul_map.util;
+
+/**
+ * 위치 계산 공통 유틸리티
+ * Haversine 거리 계산과 위경도 격자(셀) 계산을 담당
+ */
+public class GeoUtil {
+
+    private static final double EARTH_RADIUS_KM = 6371.0;
+
+    // 지구 반지름 (미터) - 거리 계산, 반경 → 각도 변환 모두 이 값을 기준으로 함
+    public static final double EARTH_RADIUS_METERS = EARTH_RADIUS_KM * 1000;
+
+    // 격자 셀 크기 (도 단위, 약 1.1km)
+    public static final double CELL_SIZE_DEG = 0.01;
+
+    // 경도 방향 셀 개수 (셀 키 계산용)
+    // zone.geocell 생성 컬럼 식(schema.sql, V3 마이그레이션)과 같은 값이어야 함
+    private static final long CELL_COLUMNS = (long) Math.ceil(360.0 / CELL_SIZE_DEG) + 1;
+
+    /**
+     * 두 지점 간의 거리 계산 (Haversine 공식)
+     *
+     * @return 거리 (미터)
+     */
+    public static double distanceMeters(double lat1, double lon1, double lat2, double lon2) {
+        double latDistance = Math.toRadians(lat2 - lat1);
+        double lonDistance = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(latDistance / 2) * Math.sin(latDistance / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(lonDistance / 2) * Math.sin(lonDistance / 2);
+        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+        return EARTH_RADIUS_METERS * c;
+    }
+
+    /**
+     * 지표면 거리(미터)를 중심각(도)으로 변환 - distanceMeters와 같은 지구 반지름 기준
+     */
+    public static double arcDegrees(double meters) {
+        return Math.toDegrees(meters / EARTH_RADIUS_METERS);
+    }
+
+    /**
+     * 위도 → 셀 행 번호
+     */
+    public static int cellRow(double latitude) {
+        return (int) Math.floor((latitude + 90.0) / CELL_SIZE_DEG);
+    }
+
+    /**
+     * 경도 → 셀 열 번호
+     */
+    public static int cellColumn(double longitude) {
+        return (int) Math.floor((longitude + 180.0) / CELL_SIZE_DEG);
+    }
+
+    /**
+     * 행/열 번호 → 셀 키
+     */
+    public static long cellKey(int row, int column) {
+        return row * CELL_COLUMNS + column;
+    }
+
+    /**
+     * 좌표가 속한 셀 키
+     */
+    public static long cellKey(double latitude, double longitude) {
+        return cellKey(cellRow(latitude), cellColumn(longitude));
+    }
+
+    /**
+     * 셀 행 번호 → 셀 아래쪽 경계 위도
+     */
+    public static double rowLatitude(int row) {
+        return row * CELL_SIZE_DEG - 90.0;
+    }
+
+    /**
+     * 셀 열 번호 → 셀 왼쪽 경계 경도
+     */
+    public static double columnLongitude(int column) {
+        return column * CELL_SIZE_DEG - 180.0;
+    }
+
+    /**
+     * 셀 키 → 행 번호
+     */
+    public static int rowOf(long cellKey) {
+        return (int) (cellKey / CELL_COLUMNS);
+    }
+
+    /**
+     * 셀 키 → 열 번호
+     */
+    public static int columnOf(long cellKey) {
+        return (int) (cellKey % CELL_COLUMNS);
+    }
+
+    /**
+     * 반경(미터)을 위도 차이(도)로 변환
+     */
+    public static double latitudeDelta(double radiusMeters) {
+        return arcDegrees(radiusMeters);
+    }
+
+    /**
+     * 반경(미터)을 중심 위도에서의 경도 차이(도)로 변환
+     * 반경 안에서 가장 극에 가까운 위도 기준이라 반경 안의 지점을 빠뜨리지 않음
+     * 극지방에서 값이 폭주하지 않도록 cos 값을 하한 처리
+     */
+    public static double longitudeDelta(double latitude, double radiusMeters) {
+        double latDelta = arcDegrees(radiusMeters);
+        double farthestLatitude = Math.min(90.0, Math.abs(latitude) + latDelta);
+        double cos = Math.max(Math.cos(Math.toRadians(farthestLatitude)), 0.01);
+        return Math.min(latDelta / cos, 180.0);
+    }
+
+    /**
+     * 위도 |latitude| 이하인 두 지점이 위도 또는 경도로 degrees 이상 떨어져 있을 때의 최소 거리 (미터)
+     * Haversine 식의 하한 - 위도 방향은 R·Δ, 경도 방향은 2R·asin(cos φ · sin(Δ/2)) 중 작은 쪽
+     */
+    public static double minDistanceMeters(double latitude, double degrees) {
+        double cos = Math.cos(Math.toRadians(Math.min(90.0, Math.abs(latitude))));
+        double halfArc = Math.toRadians(Math.min(degrees, 180.0)) / 2;
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1.0, cos * Math.sin(halfArc)));
+    }
+
+    /**
+     * 좌표 → WKT POINT (SRID 4326 축 순서: 위도, 경도)
+     */
+    public static String pointWkt(double latitude, double longitude) {
+        return "POINT(" + latitude + " " + longitude + ")";
+    }
+
+    /**
+     * 영역 → WKT POLYGON (SRID 4326 축 순서: 위도, 경도)
+     */
+    public static String envelopeWkt(double minLat, double minLon, double maxLat, double maxLon) {
+        return "POLYGON((" + minLat + " " + minLon + ", " + maxLat + " " + minLon + ", "
+                + maxLat + " " + maxLon + ", " + minLat + " " + maxLon + ", " + minLat + " " + minLon + "))";
+    }
+
+    /**
+     * 경도 → 슬리피맵(Web Mercator) 타일 X 좌표 (소수부 포함)
+     */
+    public static double tileX(double longitude, int zoom) {
+        return (longitude + 180.0) / 360.0 * (1 << zoom);
+    }
+
+    /**
+     * 위도 → 슬리피맵(Web Mercator) 타일 Y 좌표 (소수부 포함)
+     */
+    public static double tileY(double latitude, int zoom) {
+        double latRad = Math.toRadians(Math.max(-85.05112878, Math.min(85.05112878, latitude)));
+        return (1.0 - Math.log(Math.tan(latRad) + 1.0 / Math.cos(latRad)) / Math.PI) / 2.0 * (1 << zoom);
+    }
+
+    /**
+     * 타일 X 좌표 → 타일 왼쪽 경계 경도
+     */
+    public static double tileLongitude(int x, int zoom) {
+        return x / (double) (1 << zoom) * 360.0 - 180.0;
+    }
+
+    /**
+     * 타일 Y 좌표 → 타일 위쪽 경계 위도
+     */
+    public static double tileLatitude(int y, int zoom) {
+        double n = Math.PI * (1.0 - 2.0 * y / (double) (1 << zoom));
+        return Math.toDegrees(Math.atan(Math.sinh(n)));
+    }
+}
@@ -0,0 +1,99 @@
+package com.neogulmap.neogul_map.util;
+
+/**
+ * 한글 초성 처리 유틸리티
+ */
+public class HangulUtil {
+
+    private static final char SYLLABLE_FIRST = '가';
+    private static final char SYLLABLE_LAST = '힣';
+
+    // 초성 하나당 음절 수 (중성 21 × 종성 28)
+    private static final int SYLLABLES_PER_CHOSUNG = 21 * 28;
+
+    // 초성 순서대로의 호환용 자모 (ㄱ ㄲ ㄴ ㄷ ㄸ ㄹ ㅁ ㅂ ㅃ ㅅ ㅆ ㅇ ㅈ ㅉ ㅊ ㅋ ㅌ ㅍ ㅎ)
+    private static final char[] CHOSUNG = {
+        'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+        'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    /**
+     * 초성 자모(ㄱ~ㅎ)인지 여부
+     */
+    public static boolean isChosung(char c) {
+        return c >= 'ㄱ' && c <= 'ㅎ' && chosungIndex(c) >= 0;
+    }
+
+    /**
+     * 문자열에 초성 자모가 하나라도 있는지 여부 (초성 검색 판별용)
+     */
+    public static boolean containsChosung(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (isChosung(text.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 한글 음절을 초성으로 바꾼 문자열 (그 외 문자는 소문자로 유지)
+     * 예: "강남역 2번 출구" → "ㄱㄴㅇ 2ㅂ ㅊㄱ"
+     */
+    public static String toChosung(String text) {
+        StringBuilder builder = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            builder.append(toChosung(text.charAt(i)));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 초성이 섞인 검색어가 text의 부분 문자열과 맞는지 여부
+     * 검색어의 초성 자모는 같은 초성의 음절(또는 같은 자모)과, 나머지 문자는 대소문자 무시로 같은 문자와 맞음
+     * 예: "강ㄴㅇ"은 "강남역", "강남운동장"과 맞음
+     */
+    public static boolean matchesChosung(String text, String keyword) {
+        int last = text.length() - keyword.length();
+        for (int start = 0; start <= last; start++) {
+            if (matchesAt(text, keyword, start)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 초성이 섞인 검색어로 text가 시작하는지 여부 (자동완성용, 판정 규칙은 matchesChosung과 같음)
+     */
+    public static boolean startsWithChosung(String text, String keyword) {
+        return text.length() >= keyword.length() && matchesAt(text, keyword, 0);
+    }
+
+    private static boolean matchesAt(String text, String keyword, int start) {
+        for (int i = 0; i < keyword.length(); i++) {
+            char k = keyword.charAt(i);
+            char t = text.charAt(start + i);
+            if (isChosung(k) ? toChosung(t) != k : Character.toLowerCase(t) != Character.toLowerCase(k)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static char toChosung(char c) {
+        if (c >= SYLLABLE_FIRST && c <= SYLLABLE_LAST) {
+            return CHOSUNG[(c - SYLLABLE_FIRST) / SYLLABLES_PER_CHOSUNG];
+        }
+        return Character.toLowerCase(c);
+    }
+
+    private static int chosungIndex(char c) {
+        for (int i = 0; i < CHOSUNG.length; i++) {
+            if (CHOSUNG[i] == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -53,4 +53,21 @@ WHERE NOT EXISTS (SELECT 1 FROM zone WHERE address = '서울특별시 송파구
 
 INSERT INTO zone (region, type, subtype, description, latitude, longitude, size, address, creator, image) 
 SELECT '서울특별시', '흡연구역', '실내', '여의도역 실내 흡연구역입니다.', 37.5219, 126.9242, '대형', '서울특별시 영등포구 여의대로 24', '테스트유저3', NULL
-WHERE NOT EXISTS (SELECT 1 FROM zone WHERE address = '서울특별시 영등포구 여의대로 24');
\ No newline at end of file
+WHERE NOT EXISTS (SELECT 1 FROM zone WHERE address = '서울특별시 영등포구 여의대로 24');
+-- 기존 Zone 변경 기록 채우기 (델타 동기화 since=0 요청에 포함되도록)
+INSERT INTO zone_change (zone_id, version, deleted, changed_at)
+SELECT id, (SELECT version FROM zone_change_seq WHERE id = 1) + ROW_NUMBER() OVER (ORDER BY id), FALSE, CURRENT_TIMESTAMP
+FROM zone
+WHERE id NOT IN (SELECT zone_id FROM zone_change);
+
+UPDATE zone_change_seq SET version = (SELECT COALESCE(MAX(version), 0) FROM zone_change) WHERE id = 1;
+
+-- ID 할당 시작값을 시드 데이터 이후로 맞춤 (AUTO_INCREMENT로 넣은 행과 겹치지 않도록)
+INSERT INTO id_generator (sequence_name, next_val)
+SELECT 'zone', 1 WHERE NOT EXISTS (SELECT 1 FROM id_generator WHERE sequence_name = 'zone');
+
+INSERT INTO id_generator (sequence_name, next_val)
+SELECT 'users', 1 WHERE NOT EXISTS (SELECT 1 FROM id_generator WHERE sequence_name = 'users');
+
+UPDATE id_generator SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 1 FROM zone)) WHERE sequence_name = 'zone';
+UPDATE id_generator SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 1 FROM users)) WHERE sequence_name = 'users';
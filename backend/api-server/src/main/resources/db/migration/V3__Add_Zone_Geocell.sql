@@ -0,0 +1,17 @@
+-- Zone 테이블에 격자 셀(geocell) 컬럼 추가
+-- 반경 검색 시 셀 목록 + bounding box로 먼저 좁혀 전체 테이블 스캔 대신 인덱스 범위 스캔을 사용하기 위함
+
+-- 0.01도 격자 셀 키 = 행 * 36001 + 열 (GeoUtil.cellKey와 같은 식)
+-- 생성 컬럼이므로 INSERT/UPDATE 시 DB가 자동으로 유지
+ALTER TABLE zone ADD COLUMN IF NOT EXISTS geocell BIGINT GENERATED ALWAYS AS (
+    CAST(FLOOR((latitude + 90) / 0.01) AS BIGINT) * 36001 + CAST(FLOOR((longitude + 180) / 0.01) AS BIGINT)
+);
+
+-- B-tree 인덱스 생성
+CREATE INDEX IF NOT EXISTS ix_zone_geocell ON zone(geocell);
+
+-- MySQL에서는 아래와 같이 STORED 생성 컬럼으로 추가
+-- ALTER TABLE zone ADD COLUMN geocell BIGINT AS (
+--     FLOOR((latitude + 90) / 0.01) * 36001 + FLOOR((longitude + 180) / 0.01)
+-- ) STORED;
+-- CREATE INDEX ix_zone_geocell ON zone(geocell);
@@ -0,0 +1,32 @@
+-- Zone 델타 동기화용 변경 기록
+-- Zone별 마지막 변경 한 행만 유지하고 삭제는 deleted = TRUE 툼스톤으로 남김
+-- 클라이언트는 마지막으로 받은 version 이후의 행만 받음 (GET /zones/changes?since=)
+
+CREATE TABLE IF NOT EXISTS zone_change (
+    zone_id INT NOT NULL,
+    version BIGINT NOT NULL,
+    deleted BOOLEAN NOT NULL DEFAULT FALSE,
+    changed_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (zone_id),
+    UNIQUE (version)
+);
+
+-- 변경 버전 카운터 (단일 행)
+-- 변경 트랜잭션이 이 행을 갱신하므로 버전 부여가 커밋 순서대로 직렬화됨
+CREATE TABLE IF NOT EXISTS zone_change_seq (
+    id INT NOT NULL,
+    version BIGINT NOT NULL,
+    PRIMARY KEY (id)
+);
+
+INSERT INTO zone_change_seq (id, version)
+SELECT 1, 0
+WHERE NOT EXISTS (SELECT 1 FROM zone_change_seq WHERE id = 1);
+
+-- 기존 Zone을 버전 1..N으로 기록
+INSERT INTO zone_change (zone_id, version, deleted, changed_at)
+SELECT id, ROW_NUMBER() OVER (ORDER BY id), FALSE, CURRENT_TIMESTAMP
+FROM zone
+WHERE id NOT IN (SELECT zone_id FROM zone_change);
+
+UPDATE zone_change_seq SET version = (SELECT COALESCE(MAX(version), 0) FROM zone_change) WHERE id = 1;
@@ -0,0 +1,25 @@
+-- Zone/User ID 할당 테이블
+-- IDENTITY(AUTO_INCREMENT)는 INSERT를 실행해야 ID를 알 수 있어 Hibernate가 INSERT를 JDBC 배치로 묶지 못함
+-- 엔티티는 @TableGenerator(pooled-lo)로 이 테이블에서 ID를 50개씩 미리 예약하고, 일괄 가져오기도 같은 행에서 예약
+-- next_val = 다음에 할당할 ID
+
+CREATE TABLE IF NOT EXISTS id_generator (
+    sequence_name VARCHAR(50) NOT NULL,
+    next_val BIGINT NOT NULL,
+    PRIMARY KEY (sequence_name)
+);
+
+INSERT INTO id_generator (sequence_name, next_val)
+SELECT 'zone', 1
+WHERE NOT EXISTS (SELECT 1 FROM id_generator WHERE sequence_name = 'zone');
+
+INSERT INTO id_generator (sequence_name, next_val)
+SELECT 'users', 1
+WHERE NOT EXISTS (SELECT 1 FROM id_generator WHERE sequence_name = 'users');
+
+-- 기존 행 이후부터 할당
+UPDATE id_generator SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 1 FROM zone)) WHERE sequence_name = 'zone';
+UPDATE id_generator SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 1 FROM users)) WHERE sequence_name = 'users';
+
+-- id 컬럼의 AUTO_INCREMENT는 그대로 둠 (SQL로 직접 넣는 시드 데이터용)
+-- 직접 INSERT 한 뒤에는 위 UPDATE를 다시 실행해 할당 시작값을 맞춰야 함
@@ -0,0 +1,11 @@
+-- Zone 위치를 공간 타입(POINT)으로 저장하고 R-tree 공간 인덱스 추가 (MySQL 8.0.18 이상)
+-- app.zone.spatial.mode=database 로 실행할 때 필요하며, latitude/longitude 컬럼은 호환용으로 유지
+
+-- SRID 4326 WKT는 위도, 경도 순서 (GeoUtil.pointWkt와 같은 순서)
+-- STORED 생성 컬럼이므로 latitude/longitude 변경 시 DB가 자동으로 유지
+ALTER TABLE zone ADD COLUMN location POINT
+    AS (ST_GeomFromText(CONCAT('POINT(', latitude, ' ', longitude, ')'), 4326)) STORED
+    NOT NULL SRID 4326;
+
+-- 공간 인덱스 생성 (InnoDB R-tree)
+CREATE SPATIAL INDEX sx_zone_location ON zone(location);
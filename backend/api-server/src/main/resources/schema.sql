@@ -23,10 +23,53 @@ CREATE TABLE IF NOT EXISTS `zone` (
   `address` VARCHAR(100) NOT NULL,
   `creator` VARCHAR(100) NULL,
   `image` VARCHAR(255) NULL,
+  `geocell` BIGINT GENERATED ALWAYS AS (
+    CAST(FLOOR((`latitude` + 90) / 0.01) AS BIGINT) * 36001 + CAST(FLOOR((`longitude` + 180) / 0.01) AS BIGINT)
+  ),
   PRIMARY KEY (`id`),
   UNIQUE (`address`)
 );
 
+-- 반경 검색 사전 필터용 격자 셀 인덱스
+CREATE INDEX IF NOT EXISTS ix_zone_geocell ON `zone`(`geocell`);
+
+-- -----------------------------------------------------
+-- Table `zone_change` (델타 동기화용 Zone별 마지막 변경, 삭제는 툼스톤)
+-- -----------------------------------------------------
+DROP TABLE IF EXISTS `zone_change`;
+
+CREATE TABLE IF NOT EXISTS `zone_change` (
+  `zone_id` INT NOT NULL,
+  `version` BIGINT NOT NULL,
+  `deleted` BOOLEAN NOT NULL DEFAULT FALSE,
+  `changed_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  PRIMARY KEY (`zone_id`),
+  UNIQUE (`version`)
+);
+
+-- 변경 버전 카운터 (단일 행)
+DROP TABLE IF EXISTS `zone_change_seq`;
+
+CREATE TABLE IF NOT EXISTS `zone_change_seq` (
+  `id` INT NOT NULL,
+  `version` BIGINT NOT NULL,
+  PRIMARY KEY (`id`)
+);
+
+INSERT INTO `zone_change_seq` (`id`, `version`) VALUES (1, 0);
+
+-- -----------------------------------------------------
+-- Table `id_generator` (Zone/User ID 할당, Hibernate @TableGenerator pooled-lo)
+-- next_val은 다음에 할당할 ID이며 애플리케이션이 한 번에 여러 개씩 예약 (시드 데이터 이후 data.sql에서 맞춤)
+-- -----------------------------------------------------
+DROP TABLE IF EXISTS `id_generator`;
+
+CREATE TABLE IF NOT EXISTS `id_generator` (
+  `sequence_name` VARCHAR(50) NOT NULL,
+  `next_val` BIGINT NOT NULL,
+  PRIMARY KEY (`sequence_name`)
+);
+
 -- -----------------------------------------------------
 -- Table `users`
 -- -----------------------------------------------------
@@ -0,0 +1,57 @@
+package com.neogulmap.neogul_map.dto;
+
+import com.neogulmap.neogul_map.config.exceptionHandling.exception.ValidationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ZoneCursorTest {
+
+    @Test
+    @DisplayName("encode() 결과를 decode() 하면 같은 커서가 나온다 (URL에 그대로 쓸 수 있는 문자열)")
+    void roundTrip() {
+        Random random = new Random(51L);
+        String[] sorts = {"id", "date", "region", "address", "distance", "rank"};
+        String alphabet = "가나다 abc-_/+=?&%0123456789";
+        for (int i = 0; i < 1_000; i++) {
+            StringBuilder value = new StringBuilder();
+            for (int length = random.nextInt(20); length > 0; length--) {
+                value.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            ZoneCursor cursor = new ZoneCursor(sorts[random.nextInt(sorts.length)], random.nextBoolean(),
+                    value.toString(), random.nextInt(Integer.MAX_VALUE));
+
+            String token = cursor.encode();
+
+            assertThat(token).matches("[A-Za-z0-9_-]+");
+            assertThat(ZoneCursor.decode(token)).isEqualTo(cursor);
+        }
+    }
+
+    @Test
+    @DisplayName("커서가 비어 있으면 첫 페이지(null)")
+    void blankIsFirstPage() {
+        assertThat(ZoneCursor.decode(null)).isNull();
+        assertThat(ZoneCursor.decode("")).isNull();
+        assertThat(ZoneCursor.decode("  ")).isNull();
+    }
+
+    @Test
+    @DisplayName("형식이 맞지 않는 커서는 ValidationException")
+    void rejectsMalformedTokens() {
+        for (String token : new String[]{"!!!", encode("id\na\n"), encode("id\nx\n\n1"), encode("id\na\n\nabc"),
+                encode("region\nd\n서울\n1\nextra")}) {
+            assertThatThrownBy(() -> ZoneCursor.decode(token)).as(token).isInstanceOf(ValidationException.class);
+        }
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,132 @@
+package com.neogulmap.neogul_map.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostingsTest {
+
+    @Test
+    @DisplayName("varint delta 인코딩 후 toArray()로 원래 ID가 그대로 나온다 (큰 간격 포함)")
+    void roundTrip() {
+        Random random = new Random(1L);
+        for (int round = 0; round < 200; round++) {
+            TreeSet<Integer> ids = new TreeSet<>();
+            int count = random.nextInt(300);
+            while (ids.size() < count) {
+                // 1바이트 ~ 5바이트 varint가 모두 나오도록 간격 크기를 섞음
+                ids.add(random.nextInt(1 << (1 + random.nextInt(30))));
+            }
+            ids.add(Integer.MAX_VALUE);
+
+            Postings postings = Postings.of(toArray(ids), ids.size());
+
+            assertThat(postings.size).isEqualTo(ids.size());
+            assertThat(postings.toArray()).containsExactly(toArray(ids));
+        }
+    }
+
+    @Test
+    @DisplayName("of()는 배열의 앞 length개만 인코딩한다")
+    void ofUsesPrefix() {
+        Postings postings = Postings.of(new int[]{3, 7, 9, 100}, 2);
+
+        assertThat(postings.toArray()).containsExactly(3, 7);
+        assertThat(Postings.of(new int[]{1}, 0)).isSameAs(Postings.EMPTY);
+    }
+
+    @Test
+    @DisplayName("with()/without()을 섞어 반복해도 TreeSet과 같은 목록을 유지한다 (추가/삭제 목록 합치기 포함)")
+    void withAndWithoutMatchBruteForce() {
+        Random random = new Random(2L);
+        for (int round = 0; round < 20; round++) {
+            TreeSet<Integer> expected = new TreeSet<>();
+            int base = random.nextInt(2_000);
+            while (expected.size() < base) {
+                expected.add(random.nextInt(5_000));
+            }
+            Postings postings = Postings.of(toArray(expected), expected.size());
+
+            for (int op = 0; op < 3_000; op++) {
+                int id = random.nextInt(5_000);
+                if (random.nextBoolean()) {
+                    Postings next = postings.with(id);
+                    if (!expected.add(id)) {
+                        assertThat(next).isSameAs(postings);
+                    }
+                    postings = next;
+                } else {
+                    Postings next = postings.without(id);
+                    if (!expected.remove(id)) {
+                        assertThat(next).isSameAs(postings);
+                    }
+                    postings = next;
+                }
+                assertThat(postings.size).isEqualTo(expected.size());
+                if (op % 97 == 0) {
+                    assertThat(postings.toArray()).containsExactly(toArray(expected));
+                }
+            }
+            assertThat(postings.toArray()).containsExactly(toArray(expected));
+        }
+    }
+
+    @Test
+    @DisplayName("전부 지우면 EMPTY가 되고 다시 추가할 수 있다")
+    void removeAll() {
+        Postings postings = Postings.of(new int[]{1, 2, 3}, 3);
+
+        postings = postings.without(2).without(1).without(3);
+
+        assertThat(postings).isSameAs(Postings.EMPTY);
+        assertThat(postings.with(5).toArray()).containsExactly(5);
+    }
+
+    @Test
+    @DisplayName("intersect()는 후보 배열과의 교집합을 앞에서부터 채운다 (변경 중인 포스팅 포함)")
+    void intersectMatchesBruteForce() {
+        Random random = new Random(3L);
+        for (int round = 0; round < 300; round++) {
+            TreeSet<Integer> ids = new TreeSet<>();
+            int count = random.nextInt(400);
+            while (ids.size() < count) {
+                ids.add(random.nextInt(1_000));
+            }
+            Postings postings = Postings.of(toArray(ids), ids.size());
+            // 압축본에 합쳐지지 않은 추가/삭제가 남아 있는 상태도 확인
+            for (int op = random.nextInt(40); op > 0; op--) {
+                int id = random.nextInt(1_000);
+                if (random.nextBoolean()) {
+                    postings = postings.with(id);
+                    ids.add(id);
+                } else {
+                    postings = postings.without(id);
+                    ids.remove(id);
+                }
+            }
+
+            TreeSet<Integer> candidates = new TreeSet<>();
+            int candidateCount = random.nextInt(200);
+            while (candidates.size() < candidateCount) {
+                candidates.add(random.nextInt(1_000));
+            }
+            int[] buffer = toArray(candidates);
+            int kept = postings.intersect(buffer, buffer.length);
+
+            TreeSet<Integer> expected = new TreeSet<>(candidates);
+            expected.retainAll(ids);
+            assertThat(kept).isEqualTo(expected.size());
+            for (int i = 0; i < kept; i++) {
+                assertThat(buffer[i]).isEqualTo(expected.pollFirst());
+            }
+        }
+    }
+
+    private static int[] toArray(TreeSet<Integer> ids) {
+        return ids.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
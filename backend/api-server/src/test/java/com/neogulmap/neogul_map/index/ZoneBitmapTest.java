@@ -0,0 +1,127 @@
+package com.neogulmap.neogul_map.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ZoneBitmapTest {
+
+    // 상위 16비트 키 4개 (0 ~ 262143) 범위의 ID
+    private static final int KEYS = 4;
+
+    private final Random random = new Random(41L);
+
+    @Test
+    @DisplayName("of()/toArray()/contains()/cardinality()가 BitSet과 같다 (배열, 비트맵 컨테이너 모두)")
+    void ofMatchesBitSet() {
+        for (int round = 0; round < 50; round++) {
+            BitSet expected = randomSet();
+            ZoneBitmap bitmap = bitmap(expected);
+
+            assertSame(bitmap, expected);
+            for (int i = 0; i < 1_000; i++) {
+                int id = random.nextInt(KEYS << 16);
+                assertThat(bitmap.contains(id)).isEqualTo(expected.get(id));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("with()/without()으로 배열 ↔ 비트맵 컨테이너 경계(4096개)를 오가도 BitSet과 같다")
+    void withAndWithoutCrossContainerThreshold() {
+        // 한 컨테이너 안에서 4096개 근처를 오르내림
+        BitSet expected = new BitSet();
+        for (int low = 0; low < 4_090; low++) {
+            expected.set(65_536 + low * 3);
+        }
+        ZoneBitmap bitmap = bitmap(expected);
+
+        int max = 0;
+        for (int op = 0; op < 20_000; op++) {
+            int id = 65_536 + random.nextInt(13_000);
+            // 초반에는 추가 위주로 4096개를 넘기고, 후반에는 삭제 위주로 다시 내려옴
+            boolean add = random.nextInt(10) < (op < 10_000 ? 7 : 1);
+            ZoneBitmap next = add ? bitmap.with(id) : bitmap.without(id);
+            boolean changed = expected.get(id) != add;
+            if (add) {
+                expected.set(id);
+            } else {
+                expected.clear(id);
+            }
+            if (!changed) {
+                assertThat(next).isSameAs(bitmap);
+            }
+            bitmap = next;
+            assertThat(bitmap.cardinality()).isEqualTo(expected.cardinality());
+            max = Math.max(max, expected.cardinality());
+        }
+        assertSame(bitmap, expected);
+        assertThat(max).isGreaterThan(4_096);
+        assertThat(expected.cardinality()).isLessThan(4_096);
+    }
+
+    @Test
+    @DisplayName("컨테이너가 비면 키를 지우고, 없는 키에 추가하면 새 컨테이너를 만든다")
+    void addAndRemoveKeys() {
+        ZoneBitmap bitmap = ZoneBitmap.EMPTY.with(5).with(200_000).with(70_000);
+
+        assertThat(bitmap.toArray()).containsExactly(5, 70_000, 200_000);
+        assertThat(bitmap.without(70_000).toArray()).containsExactly(5, 200_000);
+        assertThat(bitmap.without(5).without(70_000).without(200_000).cardinality()).isZero();
+        assertThat(bitmap.without(6)).isSameAs(bitmap);
+    }
+
+    @Test
+    @DisplayName("and()/or()/andCardinality()가 BitSet 연산과 같다 (컨테이너 종류 조합 모두)")
+    void setOperationsMatchBitSet() {
+        for (int round = 0; round < 100; round++) {
+            BitSet left = randomSet();
+            BitSet right = randomSet();
+            ZoneBitmap a = bitmap(left);
+            ZoneBitmap b = bitmap(right);
+
+            BitSet and = (BitSet) left.clone();
+            and.and(right);
+            BitSet or = (BitSet) left.clone();
+            or.or(right);
+
+            assertSame(a.and(b), and);
+            assertSame(b.and(a), and);
+            assertSame(a.or(b), or);
+            assertSame(b.or(a), or);
+            assertThat(a.andCardinality(b)).isEqualTo(and.cardinality());
+            assertThat(b.andCardinality(a)).isEqualTo(and.cardinality());
+        }
+    }
+
+    private static void assertSame(ZoneBitmap bitmap, BitSet expected) {
+        assertThat(bitmap.cardinality()).isEqualTo(expected.cardinality());
+        assertThat(bitmap.toArray()).containsExactly(expected.stream().toArray());
+    }
+
+    private static ZoneBitmap bitmap(BitSet ids) {
+        int[] array = ids.stream().toArray();
+        return ZoneBitmap.of(array, array.length);
+    }
+
+    // 키마다 비었거나, 희소하거나, 4096개 경계 근처이거나, 조밀한 집합
+    private BitSet randomSet() {
+        BitSet set = new BitSet();
+        for (int key = 0; key < KEYS; key++) {
+            int count = switch (random.nextInt(4)) {
+                case 0 -> 0;
+                case 1 -> random.nextInt(200);
+                case 2 -> 4_000 + random.nextInt(200);
+                default -> 20_000 + random.nextInt(30_000);
+            };
+            for (int i = 0; i < count; i++) {
+                set.set((key << 16) | random.nextInt(65_536));
+            }
+        }
+        return set;
+    }
+}
@@ -0,0 +1,167 @@
+package com.neogulmap.neogul_map.index;
+
+import com.neogulmap.neogul_map.domain.Zone;
+import com.neogulmap.neogul_map.dto.ZoneSuggestion;
+import com.neogulmap.neogul_map.dto.ZoneText;
+import com.neogulmap.neogul_map.event.ZoneChangedEvent;
+import com.neogulmap.neogul_map.repository.ZoneRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ZoneSuggestIndexTest {
+
+    // 접두어를 공유하는 문자열이 많도록 작은 글자 집합 사용 (대문자는 표시 문자열 비교가 갈리므로 제외)
+    private static final String ALPHABET = "가나다ab ";
+
+    private static final int TOP_K = 5;
+
+    private final Random random = new Random(31L);
+
+    // 브루트포스 기준 - Zone ID → {address, region}
+    private final TreeMap<Integer, String[]> zones = new TreeMap<>();
+
+    @Test
+    @DisplayName("접두어마다 하위 문자열 상위 k개가 전체 문자열을 세어 정렬한 결과와 같다")
+    void suggestAgreesWithBruteForce() {
+        ZoneSuggestIndex index = build(500);
+
+        assertSuggestionsAgree(index);
+    }
+
+    @Test
+    @DisplayName("생성/수정/삭제 이벤트를 (중복 포함) 반영한 뒤에도 브루트포스와 같다 (간선 분할/병합 포함)")
+    void incrementalUpdatesAgreeWithBruteForce() {
+        ZoneSuggestIndex index = build(200);
+
+        for (int op = 0; op < 1_500; op++) {
+            int id = 1 + random.nextInt(300);
+            ZoneChangedEvent event;
+            if (random.nextInt(3) == 0 && zones.containsKey(id)) {
+                event = ZoneChangedEvent.deleted(zone(id, zones.remove(id)));
+            } else {
+                String[] terms = {randomString(), randomString()};
+                Zone current = zone(id, terms);
+                event = zones.put(id, terms) == null ? ZoneChangedEvent.created(current)
+                        : ZoneChangedEvent.updated(current, current);
+            }
+            index.apply(event);
+            if (random.nextInt(5) == 0) {
+                index.apply(event);
+            }
+            if (op % 100 == 0) {
+                assertSuggestionsAgree(index);
+            }
+        }
+        assertSuggestionsAgree(index);
+    }
+
+    @Test
+    @DisplayName("대소문자를 무시하고 찾으며 처음 색인한 표시 문자열을 돌려준다")
+    void caseInsensitivePrefix() {
+        zones.put(1, new String[]{"Gangnam Station", "Seoul"});
+        zones.put(2, new String[]{"gangnam station", "seoul"});
+        zones.put(3, new String[]{"Gangbuk", "Seoul"});
+        ZoneSuggestIndex index = index();
+
+        assertThat(index.suggest("GANG", 10)).containsExactly(
+                new ZoneSuggestion("Gangnam Station", 2), new ZoneSuggestion("Gangbuk", 1));
+        assertThat(index.suggest("  se", 10)).containsExactly(new ZoneSuggestion("Seoul", 3));
+        assertThat(index.suggest("gangx", 10)).isEmpty();
+    }
+
+    private void assertSuggestionsAgree(ZoneSuggestIndex index) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String[] terms : zones.values()) {
+            for (String term : termsOf(terms)) {
+                counts.merge(term, 1, Integer::sum);
+            }
+        }
+
+        // 모든 길이 0~3 접두어 + 임의 접두어
+        List<String> prefixes = new ArrayList<>();
+        prefixes.add("");
+        for (String term : counts.keySet()) {
+            for (int length = 1; length <= Math.min(3, term.length()); length++) {
+                prefixes.add(term.substring(0, length));
+            }
+        }
+        for (int i = 0; i < 50; i++) {
+            prefixes.add(randomString());
+        }
+
+        for (String prefix : prefixes) {
+            int limit = 1 + random.nextInt(TOP_K + 2);
+            String normalized = ZoneSuggestIndex.normalize(prefix);
+            List<ZoneSuggestion> expected = counts.entrySet().stream()
+                    .filter(entry -> entry.getKey().startsWith(normalized))
+                    .map(entry -> new ZoneSuggestion(entry.getKey(), entry.getValue()))
+                    .sorted(Comparator.comparingInt(ZoneSuggestion::count).reversed()
+                            .thenComparing(ZoneSuggestion::text))
+                    .limit(Math.min(limit, TOP_K))
+                    .toList();
+
+            assertThat(index.suggest(prefix, limit)).as("'%s'", prefix).isEqualTo(expected);
+        }
+    }
+
+    private ZoneSuggestIndex build(int count) {
+        for (int id = 1; id <= count; id++) {
+            zones.put(id, new String[]{randomString(), randomString()});
+        }
+        return index();
+    }
+
+    private ZoneSuggestIndex index() {
+        ZoneRepository repository = mock(ZoneRepository.class);
+        List<ZoneText> texts = new ArrayList<>();
+        zones.forEach((id, terms) -> texts.add(new ZoneText(id, terms[1], terms[0], null, null, null, null)));
+        when(repository.findAllTexts()).thenReturn(texts);
+
+        ZoneSuggestIndex index = new ZoneSuggestIndex(repository, TOP_K);
+        index.rebuild();
+        return index;
+    }
+
+    // Zone의 address, region (앞뒤 공백 제거, 빈 문자열 제외, 같은 문자열은 한 번)
+    private static Set<String> termsOf(String[] terms) {
+        Set<String> result = new LinkedHashSet<>();
+        for (String term : terms) {
+            if (term != null && !term.isBlank()) {
+                result.add(term.strip());
+            }
+        }
+        return result;
+    }
+
+    // 0 ~ 5글자 (빈 문자열, 공백만 있는 문자열 포함)
+    private String randomString() {
+        int length = random.nextInt(6);
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return builder.toString();
+    }
+
+    private static Zone zone(int id, String[] terms) {
+        return Zone.builder()
+                .id(id)
+                .address(terms[0])
+                .region(terms[1])
+                .build();
+    }
+}
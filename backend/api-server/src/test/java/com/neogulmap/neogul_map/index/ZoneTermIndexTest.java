@@ -0,0 +1,229 @@
+package com.neogulmap.neogul_map.index;
+
+import com.neogulmap.neogul_map.domain.Zone;
+import com.neogulmap.neogul_map.dto.ZoneText;
+import com.neogulmap.neogul_map.event.ZoneChangedEvent;
+import com.neogulmap.neogul_map.repository.ZoneRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ZoneTermIndexTest {
+
+    // 편집 거리 1~2 안의 단어가 많이 생기도록 작은 글자 집합 사용
+    private static final String ALPHABET = "abcd가나";
+
+    private static final int MAX_DISTANCE = 2;
+
+    private final Random random = new Random(21L);
+
+    // 브루트포스 기준 - Zone ID → 필드 원문 (region, address, type, subtype, description)
+    private final TreeMap<Integer, String[]> zones = new TreeMap<>();
+
+    private ZoneTextStore store;
+    private ZoneTermIndex index;
+
+    @BeforeEach
+    void setUp() {
+        for (int id = 1; id <= 300; id++) {
+            zones.put(id, randomFields());
+        }
+        ZoneRepository repository = mock(ZoneRepository.class);
+        List<ZoneText> texts = new ArrayList<>();
+        zones.forEach((id, f) -> texts.add(new ZoneText(id, f[0], f[1], f[2], f[3], null, f[4])));
+        when(repository.findAllTexts()).thenReturn(texts);
+
+        store = new ZoneTextStore(repository);
+        store.rebuild();
+        index = new ZoneTermIndex(store, MAX_DISTANCE);
+        index.rebuild();
+    }
+
+    @Test
+    @DisplayName("Levenshtein 거리")
+    void distance() {
+        assertThat(ZoneTermIndex.distance("kitten", "sitting")).isEqualTo(3);
+        assertThat(ZoneTermIndex.distance("", "abc")).isEqualTo(3);
+        assertThat(ZoneTermIndex.distance("강남역", "강남역")).isZero();
+        assertThat(ZoneTermIndex.distance("강남역", "강넘역")).isEqualTo(1);
+        assertThat(ZoneTermIndex.distance("ab", "ba")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("lookup()은 사전 전체와 거리를 비교한 결과와 같다 (순서 포함)")
+    void lookupAgreesWithBruteForce() {
+        assertLookupsAgree();
+    }
+
+    @Test
+    @DisplayName("search()는 단어별로 가장 가까운 사전 단어를 골라 합친 브루트포스 결과와 같다")
+    void searchAgreesWithBruteForce() {
+        assertSearchesAgree();
+    }
+
+    @Test
+    @DisplayName("단어가 계속 바뀌어 미사용 노드가 쌓여도 트리를 정리하고 결과는 브루트포스와 같다")
+    void compactsDeadNodes() {
+        // 매번 새 단어로 바꾸므로 이전 단어 노드가 미사용으로 남아 정리 기준(1024개)을 여러 번 넘김
+        for (int op = 0; op < 3_000; op++) {
+            int id = 1 + random.nextInt(350);
+            ZoneChangedEvent event;
+            if (random.nextInt(5) == 0 && zones.containsKey(id)) {
+                event = ZoneChangedEvent.deleted(zone(id, zones.remove(id)));
+            } else {
+                String[] fields = randomFields();
+                Zone current = zone(id, fields);
+                event = zones.put(id, fields) == null ? ZoneChangedEvent.created(current)
+                        : ZoneChangedEvent.updated(current, current);
+            }
+            store.apply(event);
+            index.apply(event);
+            if (random.nextInt(5) == 0) {
+                index.apply(event);
+            }
+
+            int live = dictionary().size();
+            assertThat(index.nodeCount() - live).isLessThanOrEqualTo(Math.max(1024, live / 4));
+        }
+
+        assertLookupsAgree();
+        assertSearchesAgree();
+    }
+
+    private void assertLookupsAgree() {
+        Map<String, Integer> dictionary = dictionary();
+        for (int i = 0; i < 300; i++) {
+            String word = randomWord();
+            int limit = word.length() <= 4 ? 1 : MAX_DISTANCE;
+
+            List<ZoneTermIndex.TermMatch> expected = new ArrayList<>();
+            dictionary.forEach((term, frequency) -> {
+                int distance = ZoneTermIndex.distance(word, term);
+                if (distance <= limit) {
+                    expected.add(new ZoneTermIndex.TermMatch(term, distance, frequency));
+                }
+            });
+            expected.sort(Comparator.comparingInt(ZoneTermIndex.TermMatch::distance)
+                    .thenComparing(Comparator.comparingInt(ZoneTermIndex.TermMatch::frequency).reversed())
+                    .thenComparing(ZoneTermIndex.TermMatch::term));
+
+            assertThat(index.lookup(word)).as(word).isEqualTo(expected);
+        }
+    }
+
+    private void assertSearchesAgree() {
+        Map<String, Integer> dictionary = dictionary();
+        for (int i = 0; i < 200; i++) {
+            String keyword = randomWord() + (random.nextBoolean() ? " " + randomWord() : "");
+            Set<String> words = terms(keyword);
+
+            List<ZoneTermIndex.ZoneMatch> expected = new ArrayList<>();
+            zones.forEach((id, fields) -> {
+                int distance = 0;
+                int frequency = 0;
+                for (String word : words) {
+                    int limit = word.length() <= 4 ? 1 : MAX_DISTANCE;
+                    // 단어별로 (거리, Zone 수 내림차순, 단어) 순으로 가장 앞선 사전 단어 하나
+                    ZoneTermIndex.TermMatch best = null;
+                    for (String term : terms(fields)) {
+                        int d = ZoneTermIndex.distance(word, term);
+                        if (d > limit) {
+                            continue;
+                        }
+                        ZoneTermIndex.TermMatch match = new ZoneTermIndex.TermMatch(term, d, dictionary.get(term));
+                        if (best == null || d < best.distance()
+                                || (d == best.distance() && (match.frequency() > best.frequency()
+                                || (match.frequency() == best.frequency() && term.compareTo(best.term()) < 0)))) {
+                            best = match;
+                        }
+                    }
+                    if (best == null) {
+                        return;
+                    }
+                    distance += best.distance();
+                    frequency += best.frequency();
+                }
+                expected.add(new ZoneTermIndex.ZoneMatch(id, distance, frequency));
+            });
+            expected.sort(Comparator.comparingInt(ZoneTermIndex.ZoneMatch::distance)
+                    .thenComparing(Comparator.comparingInt(ZoneTermIndex.ZoneMatch::frequency).reversed())
+                    .thenComparingInt(ZoneTermIndex.ZoneMatch::zoneId));
+
+            assertThat(index.search(keyword)).as(keyword).isEqualTo(expected);
+        }
+    }
+
+    // 현재 사전 - 단어 → 그 단어를 가진 Zone 수
+    private Map<String, Integer> dictionary() {
+        Map<String, Integer> dictionary = new HashMap<>();
+        zones.values().forEach(fields -> terms(fields).forEach(term -> dictionary.merge(term, 1, Integer::sum)));
+        return dictionary;
+    }
+
+    private static Set<String> terms(String... fields) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String field : fields) {
+            if (field == null) {
+                continue;
+            }
+            for (String term : field.strip().toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+                if (term.length() >= 2) {
+                    terms.add(term);
+                }
+            }
+        }
+        return new TreeSet<>(terms);
+    }
+
+    private String[] randomFields() {
+        String[] fields = new String[5];
+        for (int i = 0; i < fields.length; i++) {
+            if (random.nextInt(6) == 0) {
+                continue;
+            }
+            StringBuilder field = new StringBuilder(randomWord());
+            for (int words = random.nextInt(i == 4 ? 4 : 2); words > 0; words--) {
+                field.append(random.nextBoolean() ? " " : ", ").append(randomWord());
+            }
+            fields[i] = field.toString();
+        }
+        return fields;
+    }
+
+    // 두 글자 ~ 일곱 글자 (짧은 단어 거리 1, 긴 단어 거리 2가 모두 나오도록)
+    private String randomWord() {
+        int length = 2 + random.nextInt(6);
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return builder.toString();
+    }
+
+    private static Zone zone(int id, String[] fields) {
+        return Zone.builder()
+                .id(id)
+                .region(fields[0])
+                .address(fields[1])
+                .type(fields[2])
+                .subtype(fields[3])
+                .description(fields[4])
+                .build();
+    }
+}
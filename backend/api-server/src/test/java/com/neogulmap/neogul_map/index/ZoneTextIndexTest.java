@@ -0,0 +1,157 @@
+package com.neogulmap.neogul_map.index;
+
+import com.neogulmap.neogul_map.domain.Zone;
+import com.neogulmap.neogul_map.dto.ZoneText;
+import com.neogulmap.neogul_map.event.ZoneChangedEvent;
+import com.neogulmap.neogul_map.repository.ZoneRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ZoneTextIndexTest {
+
+    // 후보는 많지만 연속 부분 문자열이 아닌 경우가 자주 생기도록 작은 글자 집합 사용
+    private static final String ALPHABET = "가나다라역AbCd ";
+
+    private final Random random = new Random(11L);
+
+    // 브루트포스 기준 - Zone ID → 필드 원문 (region, address, type, subtype, description)
+    private final TreeMap<Integer, String[]> zones = new TreeMap<>();
+
+    private ZoneTextStore store;
+    private ZoneTextIndex index;
+
+    @BeforeEach
+    void setUp() {
+        for (int id = 1; id <= 400; id++) {
+            zones.put(id, randomFields());
+        }
+        ZoneRepository repository = mock(ZoneRepository.class);
+        List<ZoneText> texts = new ArrayList<>();
+        zones.forEach((id, f) -> texts.add(new ZoneText(id, f[0], f[1], f[2], f[3], null, f[4])));
+        when(repository.findAllTexts()).thenReturn(texts);
+
+        store = new ZoneTextStore(repository);
+        store.rebuild();
+        index = new ZoneTextIndex(store);
+        index.rebuild();
+    }
+
+    @Test
+    @DisplayName("후보는 정답을 모두 포함하고, 최종 판정 결과는 부분 문자열 브루트포스와 같다")
+    void findMatchesAgreesWithBruteForce() {
+        assertQueriesAgree();
+    }
+
+    @Test
+    @DisplayName("afterId 이후를 limit개씩 이어 읽으면 전체 결과와 같다")
+    void pagedMatchesConcatenate() {
+        for (int i = 0; i < 100; i++) {
+            String keyword = randomKeyword();
+            List<Integer> paged = new ArrayList<>();
+            int afterId = Integer.MIN_VALUE;
+            while (true) {
+                List<Integer> page = index.findMatches(keyword, afterId, 7);
+                paged.addAll(page);
+                if (page.size() < 7) {
+                    break;
+                }
+                afterId = page.get(page.size() - 1);
+            }
+            assertThat(paged).as(keyword).isEqualTo(bruteForce(keyword));
+        }
+    }
+
+    @Test
+    @DisplayName("생성/수정/삭제 이벤트를 (중복 포함) 반영한 뒤에도 브루트포스와 같다")
+    void incrementalUpdatesAgreeWithBruteForce() {
+        for (int op = 0; op < 600; op++) {
+            int id = 1 + random.nextInt(500);
+            ZoneChangedEvent event;
+            if (random.nextInt(4) == 0 && zones.containsKey(id)) {
+                event = ZoneChangedEvent.deleted(zone(id, zones.remove(id)));
+            } else {
+                String[] fields = randomFields();
+                Zone current = zone(id, fields);
+                event = zones.put(id, fields) == null ? ZoneChangedEvent.created(current)
+                        : ZoneChangedEvent.updated(current, current);
+            }
+            store.apply(event);
+            index.apply(event);
+            if (random.nextInt(5) == 0) {
+                index.apply(event);
+            }
+        }
+        assertQueriesAgree();
+    }
+
+    private void assertQueriesAgree() {
+        for (int i = 0; i < 300; i++) {
+            String keyword = randomKeyword();
+            List<Integer> expected = bruteForce(keyword);
+
+            assertThat(index.findCandidates(keyword)).as(keyword).containsAll(expected).isSorted();
+            assertThat(index.findMatches(keyword)).as(keyword).isEqualTo(expected);
+        }
+    }
+
+    private List<Integer> bruteForce(String keyword) {
+        String normalized = ZoneTextIndex.normalize(keyword);
+        List<Integer> ids = new ArrayList<>();
+        zones.forEach((id, fields) -> {
+            for (String field : fields) {
+                if (field != null && field.strip().toLowerCase(Locale.ROOT).contains(normalized)) {
+                    ids.add(id);
+                    return;
+                }
+            }
+        });
+        return ids;
+    }
+
+    private String[] randomFields() {
+        String[] fields = new String[5];
+        for (int i = 0; i < fields.length; i++) {
+            fields[i] = random.nextInt(6) == 0 ? null : randomString(1 + random.nextInt(i == 4 ? 30 : 8));
+        }
+        return fields;
+    }
+
+    // 한 글자 ~ 네 글자, 앞뒤 공백 없는 검색어
+    private String randomKeyword() {
+        String keyword;
+        do {
+            keyword = randomString(1 + random.nextInt(4)).strip();
+        } while (keyword.isEmpty());
+        return keyword;
+    }
+
+    private String randomString(int length) {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return builder.toString();
+    }
+
+    private static Zone zone(int id, String[] fields) {
+        return Zone.builder()
+                .id(id)
+                .region(fields[0])
+                .address(fields[1])
+                .type(fields[2])
+                .subtype(fields[3])
+                .description(fields[4])
+                .build();
+    }
+}
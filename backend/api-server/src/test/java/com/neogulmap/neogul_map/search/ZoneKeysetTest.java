@@ -0,0 +1,133 @@
+package com.neogulmap.neogul_map.search;
+
+import com.neogulmap.neogul_map.config.exceptionHandling.exception.ValidationException;
+import com.neogulmap.neogul_map.domain.Zone;
+import com.neogulmap.neogul_map.dto.ZoneCursor;
+import com.neogulmap.neogul_map.dto.ZoneFields;
+import com.neogulmap.neogul_map.repository.ZoneFieldQuery;
+import com.neogulmap.neogul_map.repository.ZoneRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@Import(ZoneFieldQuery.class)
+class ZoneKeysetTest {
+
+    private static final List<String> KEYS = List.of("id", "date", "region", "address");
+
+    @Autowired
+    private ZoneRepository zoneRepository;
+
+    @Autowired
+    private ZoneFieldQuery zoneFieldQuery;
+
+    @BeforeEach
+    void setUp() {
+        // 같은 region, date 값이 많아 (키, ID) 두 번째 키 비교가 자주 일어나도록 구성
+        Random random = new Random(61L);
+        String[] regions = {"서울특별시", "부산광역시", "Seoul", "seoul"};
+        List<Zone> zones = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            zones.add(Zone.builder()
+                    .region(regions[random.nextInt(regions.length)])
+                    .type("흡연구역")
+                    .latitude(BigDecimal.valueOf(37.5))
+                    .longitude(BigDecimal.valueOf(127.0))
+                    .date(LocalDate.of(2026, 1, 1).plusDays(random.nextInt(3)))
+                    .address("키셋 테스트 " + random.nextInt(1_000_000) + "-" + i)
+                    .build());
+        }
+        zoneRepository.saveAllAndFlush(zones);
+    }
+
+    @Test
+    @DisplayName("커서로 이어 읽은 엔티티 페이지를 합치면 (키, ID) 전체 정렬과 같다")
+    void entityPagesConcatenateToFullOrder() {
+        for (String key : KEYS) {
+            for (boolean descending : new boolean[]{false, true}) {
+                for (int size : new int[]{1, 7, 50}) {
+                    List<Integer> ids = new ArrayList<>();
+                    String token = null;
+                    do {
+                        ZoneCursor cursor = ZoneCursor.decode(token);
+                        List<Zone> page = zoneRepository.findBy(ZoneKeyset.after(cursor),
+                                query -> query.sortBy(ZoneKeyset.sort(key, descending)).limit(size).all());
+                        page.forEach(zone -> ids.add(zone.getId()));
+                        token = page.size() < size ? null
+                                : ZoneKeyset.cursorOf(page.get(page.size() - 1), key, descending).encode();
+                    } while (token != null);
+
+                    assertThat(ids).as("%s %s %d", key, descending ? "desc" : "asc", size)
+                            .isEqualTo(expectedOrder(key, descending));
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("선택 필드 조회 행으로 만든 커서도 같은 순서로 이어진다")
+    void rowPagesConcatenateToFullOrder() {
+        for (String key : KEYS) {
+            for (boolean descending : new boolean[]{false, true}) {
+                ZoneFields fields = ZoneFields.parse("type").with(key);
+                List<Integer> ids = new ArrayList<>();
+                String token = null;
+                do {
+                    ZoneCursor cursor = ZoneCursor.decode(token);
+                    List<Map<String, Object>> page = zoneFieldQuery.find(ZoneKeyset.after(cursor), fields,
+                            ZoneKeyset.sort(key, descending), 0, 13);
+                    page.forEach(row -> ids.add((Integer) row.get("id")));
+                    token = page.size() < 13 ? null
+                            : ZoneKeyset.cursorOf(page.get(page.size() - 1), key, descending).encode();
+                } while (token != null);
+
+                assertThat(ids).as("%s %s", key, descending ? "desc" : "asc")
+                        .isEqualTo(expectedOrder(key, descending));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 정렬 키나 잘못된 날짜 값의 커서는 ValidationException")
+    void rejectsUnsupportedKeys() {
+        assertThat(ZoneKeyset.orderOf(Sort.unsorted())).isEqualTo(Sort.Order.asc("id"));
+        assertThat(ZoneKeyset.orderOf(Sort.by(Sort.Direction.DESC, "date"))).isEqualTo(Sort.Order.desc("date"));
+        assertThatThrownBy(() -> ZoneKeyset.orderOf(Sort.by("description")))
+                .isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> ZoneKeyset.after(new ZoneCursor("description", false, "x", 1)))
+                .isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> ZoneKeyset.after(new ZoneCursor("date", false, "2026-13-01", 1)))
+                .isInstanceOf(ValidationException.class);
+    }
+
+    // 브루트포스 기준 - 전체 Zone을 메모리에서 (키, ID) 순으로 정렬
+    private List<Integer> expectedOrder(String key, boolean descending) {
+        Comparator<Zone> byKey = switch (key) {
+            case "date" -> Comparator.comparing(Zone::getDate);
+            case "region" -> Comparator.comparing(Zone::getRegion);
+            case "address" -> Comparator.comparing(Zone::getAddress);
+            default -> Comparator.comparing(Zone::getId);
+        };
+        Comparator<Zone> order = byKey.thenComparing(Zone::getId);
+        return zoneRepository.findAll().stream()
+                .sorted(descending ? order.reversed() : order)
+                .map(Zone::getId)
+                .toList();
+    }
+}